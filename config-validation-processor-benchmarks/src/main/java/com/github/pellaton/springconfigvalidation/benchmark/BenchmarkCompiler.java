@@ -0,0 +1,75 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles source files the same way {@code AnnotationProcessorTestCompiler} does in the processor tests: the sources
+ * are only parsed and processed ({@code -proc:only}), no class files are written.
+ *
+ * @author Michael Pellaton
+ */
+final class BenchmarkCompiler {
+
+  private static final JavaCompiler COMPILER = ToolProvider.getSystemJavaCompiler();
+  private static final Iterable<String> COMPILER_OPTIONS = Collections.singletonList("-proc:only");
+
+
+  /**
+   * Avoid instantiation.
+   */
+  private BenchmarkCompiler() {
+    throw new AssertionError("Not instantiable.");
+  }
+
+
+  /**
+   * Processes the source files with the given annotation processors.
+   *
+   * @param sources the source files to process
+   * @param processors the annotation processors to run, an empty list runs {@code javac} without any processor
+   * @return the number of diagnostic messages emitted during the compilation
+   * @throws IOException in case the file manager cannot be closed
+   */
+  static int compile(List<File> sources, List<? extends Processor> processors) throws IOException {
+    DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+
+    try (StandardJavaFileManager fileManager = COMPILER.getStandardFileManager(collector, Locale.getDefault(), null)) {
+      Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sources);
+
+      CompilationTask task = COMPILER.getTask(null, fileManager, collector, COMPILER_OPTIONS, null, compilationUnits);
+      task.setProcessors(processors);
+      task.call();
+
+      return collector.getDiagnostics().size();
+    }
+  }
+}
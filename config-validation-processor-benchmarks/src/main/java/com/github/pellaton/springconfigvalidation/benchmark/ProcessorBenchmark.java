@@ -0,0 +1,137 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.Processor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationValidationProcessorJava11;
+
+/**
+ * Measures the cost of running the {@link SpringConfigurationValidationProcessorJava11} on a
+ * {@link SyntheticSourceTree}. {@link #withoutProcessor()} runs {@code javac -proc:only} without any annotation
+ * processor and serves as the baseline for {@link #withProcessor()}, the difference is the processor's overhead.
+ *
+ * @author Michael Pellaton
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessorBenchmark {
+
+  /**
+   * The number of top-level {@code @Configuration} classes.
+   */
+  @Param({"10", "100"})
+  public int configurationClasses;
+
+  /**
+   * The number of {@code @Bean} methods per {@code @Configuration} class.
+   */
+  @Param({"10", "50"})
+  public int beanMethods;
+
+  /**
+   * The number of nested {@code @Configuration} classes per top-level class.
+   */
+  @Param({"0", "3"})
+  public int nestingDepth;
+
+  /**
+   * The depth of the type hierarchy of the {@code @Bean} return types.
+   */
+  @Param({"1", "10"})
+  public int hierarchyDepth;
+
+  private Path sourceDirectory;
+  private List<File> sources;
+
+
+  /**
+   * Generates the synthetic source tree.
+   *
+   * @throws IOException in case the source tree cannot be written
+   */
+  @Setup(Level.Trial)
+  public void generateSources() throws IOException {
+    this.sourceDirectory = Files.createTempDirectory("config-validation-benchmark");
+    this.sources = new SyntheticSourceTree(this.configurationClasses, this.beanMethods, this.nestingDepth,
+        this.hierarchyDepth).writeTo(this.sourceDirectory.toFile());
+  }
+
+  /**
+   * Deletes the synthetic source tree.
+   *
+   * @throws IOException in case the source tree cannot be deleted
+   */
+  @TearDown(Level.Trial)
+  public void deleteSources() throws IOException {
+    try (Stream<Path> paths = Files.walk(this.sourceDirectory)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  /**
+   * Processes the source tree without any annotation processor.
+   *
+   * @return the number of diagnostic messages
+   * @throws IOException in case of a compiler I/O error
+   */
+  @Benchmark
+  public int withoutProcessor() throws IOException {
+    return BenchmarkCompiler.compile(this.sources, Collections.<Processor>emptyList());
+  }
+
+  /**
+   * Processes the source tree with the {@link SpringConfigurationValidationProcessorJava11}.
+   *
+   * @return the number of diagnostic messages
+   * @throws IOException in case of a compiler I/O error
+   */
+  @Benchmark
+  public int withProcessor() throws IOException {
+    return BenchmarkCompiler.compile(this.sources,
+        Collections.singletonList(new SpringConfigurationValidationProcessorJava11()));
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generator for synthetic source trees consisting of {@code @Configuration} classes with {@code @Bean} methods, nested
+ * {@code @Configuration} classes and a hierarchy of bean types. All generated classes are valid so the processor does
+ * not emit any messages and the measurements are not dominated by diagnostic reporting.
+ *
+ * @author Michael Pellaton
+ */
+public final class SyntheticSourceTree {
+
+  private static final String PACKAGE_NAME = "com.acme.synthetic";
+
+  private final int configurationClasses;
+  private final int beanMethods;
+  private final int nestingDepth;
+  private final int hierarchyDepth;
+
+
+  /**
+   * Constructor.
+   *
+   * @param configurationClasses the number of top-level {@code @Configuration} classes
+   * @param beanMethods the number of {@code @Bean} methods per {@code @Configuration} class
+   * @param nestingDepth the number of nested {@code @Configuration} classes in each top-level class
+   * @param hierarchyDepth the depth of the type hierarchy of the {@code @Bean} return types
+   */
+  public SyntheticSourceTree(int configurationClasses, int beanMethods, int nestingDepth, int hierarchyDepth) {
+    this.configurationClasses = configurationClasses;
+    this.beanMethods = beanMethods;
+    this.nestingDepth = nestingDepth;
+    this.hierarchyDepth = Math.max(1, hierarchyDepth);
+  }
+
+
+  /**
+   * Writes the source tree to the given directory.
+   *
+   * @param directory the root directory of the source tree
+   * @return the generated source files
+   * @throws IOException in case a source file cannot be written
+   */
+  public List<File> writeTo(File directory) throws IOException {
+    File packageDirectory = new File(directory, PACKAGE_NAME.replace('.', File.separatorChar));
+    Files.createDirectories(packageDirectory.toPath());
+
+    List<File> sources = new ArrayList<>();
+    for (int level = 0; level < this.hierarchyDepth; level++) {
+      sources.add(write(packageDirectory, beanTypeName(level), beanTypeSource(level)));
+    }
+    sources.add(write(packageDirectory, "PlaceholderConfigurer", placeholderConfigurerSource()));
+    for (int i = 0; i < this.configurationClasses; i++) {
+      sources.add(write(packageDirectory, "Configuration" + i, configurationSource(i)));
+    }
+    return sources;
+  }
+
+  private static File write(File packageDirectory, String className, String source) throws IOException {
+    File file = new File(packageDirectory, className + ".java");
+    try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      writer.write(source);
+    }
+    return file;
+  }
+
+  private static String beanTypeName(int level) {
+    return "BeanType" + level;
+  }
+
+  private static String beanTypeSource(int level) {
+    StringBuilder source = new StringBuilder("package ").append(PACKAGE_NAME).append(";\n\n");
+    source.append("public class ").append(beanTypeName(level));
+    if (level == 0) {
+      source.append(" implements java.io.Serializable");
+    } else {
+      source.append(" extends ").append(beanTypeName(level - 1));
+    }
+    return source.append(" {\n}\n").toString();
+  }
+
+  private static String placeholderConfigurerSource() {
+    return "package " + PACKAGE_NAME + ";\n\n"
+        + "public class PlaceholderConfigurer\n"
+        + "    extends org.springframework.context.support.PropertySourcesPlaceholderConfigurer {\n"
+        + "}\n";
+  }
+
+  private String configurationSource(int index) {
+    StringBuilder source = new StringBuilder("package ").append(PACKAGE_NAME).append(";\n\n");
+    source.append("import org.springframework.context.annotation.Bean;\n");
+    source.append("import org.springframework.context.annotation.Configuration;\n\n");
+    source.append("@Configuration\n");
+    source.append("public class Configuration").append(index).append(" {\n\n");
+    source.append("  @Bean\n");
+    source.append("  public static PlaceholderConfigurer placeholderConfigurer() {\n");
+    source.append("    return new PlaceholderConfigurer();\n");
+    source.append("  }\n");
+    appendBeanMethods(source, "  ", "bean");
+    for (int level = 1; level <= this.nestingDepth; level++) {
+      String indent = indent(level);
+      source.append('\n').append(indent).append("@Configuration\n");
+      source.append(indent).append("static class Nested").append(level).append(" {\n");
+      appendBeanMethods(source, indent + "  ", "nested" + level + "Bean");
+    }
+    for (int level = this.nestingDepth; level >= 1; level--) {
+      source.append(indent(level)).append("}\n");
+    }
+    return source.append("}\n").toString();
+  }
+
+  private void appendBeanMethods(StringBuilder source, String indent, String methodPrefix) {
+    String returnType = beanTypeName(this.hierarchyDepth - 1);
+    for (int i = 0; i < this.beanMethods; i++) {
+      source.append('\n');
+      source.append(indent).append("@Bean\n");
+      source.append(indent).append("public ").append(returnType).append(' ').append(methodPrefix).append(i)
+          .append("() {\n");
+      source.append(indent).append("  return new ").append(returnType).append("();\n");
+      source.append(indent).append("}\n");
+    }
+  }
+
+  private static String indent(int level) {
+    StringBuilder indent = new StringBuilder();
+    for (int i = 0; i < level; i++) {
+      indent.append("  ");
+    }
+    return indent.toString();
+  }
+}
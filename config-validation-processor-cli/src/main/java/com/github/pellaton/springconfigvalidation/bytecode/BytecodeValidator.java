@@ -0,0 +1,273 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Validates the Spring {@code @Configuration} classes of compiled jars and class directories without compiling them,
+ * for example to vet third-party dependencies or build outputs produced without the annotation processor. The checks
+ * and messages are the ones of the annotation processor (see {@link ClassValidator}).
+ *
+ * <p>Jars are memory-mapped and their entries are inflated straight from the mapping. All class files of the inputs are
+ * parsed in parallel on a fork/join pool with one worker per core by default, and the parsed classes are then validated
+ * in parallel as well. Types that are not part of the inputs, such as the Spring marker interfaces, are resolved lazily
+ * from the classpath.
+ *
+ * <pre>
+ * java -jar config-validation-processor-cli-all.jar [--classpath &lt;path&gt;] [--threads &lt;n&gt;] \
+ *     &lt;jar|directory&gt;...
+ * </pre>
+ *
+ * <p>The exit code is {@code 0} if no errors were found, {@code 1} if at least one error was found and {@code 2} for
+ * invalid arguments or unreadable inputs.
+ *
+ * @author Michael Pellaton
+ */
+public final class BytecodeValidator {
+
+  private static final int EXIT_OK = 0;
+  private static final int EXIT_ERRORS_FOUND = 1;
+  private static final int EXIT_USAGE = 2;
+
+  private static final String CLASS_SUFFIX = ".class";
+  private static final String USAGE = "Usage: java -jar config-validation-processor-cli-all.jar"
+      + " [--classpath <path>] [--threads <n>] <jar|directory>...";
+
+  private final List<Path> classpath;
+  private final int parallelism;
+  private final PrintStream warnings;
+
+
+  /**
+   * Creates a validator.
+   *
+   * @param classpath additional jars and directories used to resolve the supertypes and meta-annotations of the
+   *        validated classes; they are not validated themselves
+   * @param parallelism the number of worker threads
+   * @param warnings the stream unreadable class files are reported to
+   */
+  public BytecodeValidator(List<Path> classpath, int parallelism, PrintStream warnings) {
+    this.classpath = new ArrayList<>(classpath);
+    this.parallelism = parallelism;
+    this.warnings = warnings;
+  }
+
+
+  /**
+   * Command line entry point.
+   *
+   * @param args the command line arguments
+   */
+  public static void main(String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    List<Path> classpath = new ArrayList<>();
+    List<Path> inputs = new ArrayList<>();
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    try {
+      for (int i = 0; i < args.length; i++) {
+        if ("--classpath".equals(args[i]) && i + 1 < args.length) {
+          for (String entry : args[++i].split(File.pathSeparator)) {
+            classpath.add(Paths.get(entry));
+          }
+        } else if ("--threads".equals(args[i]) && i + 1 < args.length) {
+          parallelism = Integer.parseInt(args[++i]);
+        } else if (args[i].startsWith("-")) {
+          throw new IllegalArgumentException("Unknown option " + args[i]);
+        } else {
+          inputs.add(Paths.get(args[i]));
+        }
+      }
+      if (inputs.isEmpty() || parallelism < 1) {
+        throw new IllegalArgumentException("No jar or directory to validate");
+      }
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.println(USAGE);
+      return EXIT_USAGE;
+    }
+
+    List<Finding> findings;
+    try {
+      findings = new BytecodeValidator(classpath, parallelism, err).validate(inputs);
+    } catch (IOException e) {
+      err.println(e.getMessage());
+      return EXIT_USAGE;
+    }
+
+    boolean errors = false;
+    for (Finding finding : findings) {
+      out.println(finding);
+      errors |= finding.getMessage().getKind() == Kind.ERROR;
+    }
+    return errors ? EXIT_ERRORS_FOUND : EXIT_OK;
+  }
+
+  /**
+   * Validates all classes of the given jars and directories.
+   *
+   * @param inputs the jars and class directories to validate
+   * @return the findings, ordered by input, class file and check
+   * @throws IOException if an input cannot be read
+   */
+  public List<Finding> validate(List<Path> inputs) throws IOException {
+    List<MappedJar> jars = new ArrayList<>();
+    ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+    try (URLClassLoader classLoader = createClassLoader(inputs)) {
+      List<ClassFile> classFiles = new ArrayList<>();
+      for (Path input : inputs) {
+        collectClassFiles(input, jars, classFiles);
+      }
+
+      TypeHierarchy typeHierarchy = new TypeHierarchy(classLoader);
+      List<ParsedClass> classes = pool.submit(() -> classFiles.parallelStream()
+          .map(this::parse)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList())).get();
+      classes.forEach(parsed -> typeHierarchy.add(parsed.classInfo));
+
+      ClassValidator validator = new ClassValidator(typeHierarchy);
+      return pool.submit(() -> classes.parallelStream()
+          .flatMap(parsed -> validator.validate(parsed.classInfo, parsed.location).stream())
+          .collect(Collectors.toList())).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while validating", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Validation failed", e.getCause());
+    } finally {
+      pool.shutdown();
+      for (MappedJar jar : jars) {
+        jar.close();
+      }
+    }
+  }
+
+  private URLClassLoader createClassLoader(List<Path> inputs) throws MalformedURLException {
+    List<URL> urls = new ArrayList<>();
+    for (Path path : this.classpath) {
+      urls.add(path.toUri().toURL());
+    }
+    for (Path path : inputs) {
+      urls.add(path.toUri().toURL());
+    }
+    return new URLClassLoader(urls.toArray(new URL[0]), BytecodeValidator.class.getClassLoader());
+  }
+
+  private static void collectClassFiles(Path input, List<MappedJar> jars, List<ClassFile> classFiles)
+      throws IOException {
+    if (Files.isDirectory(input)) {
+      try (Stream<Path> files = Files.walk(input)) {
+        files.filter(file -> isClassFile(input.relativize(file).toString().replace(File.separatorChar, '/')))
+            .sorted()
+            .forEach(file -> classFiles.add(new ClassFile(file.toString(),
+                () -> ByteBuffer.wrap(Files.readAllBytes(file)))));
+      }
+    } else {
+      MappedJar jar = MappedJar.open(input);
+      jars.add(jar);
+      for (MappedJar.Entry entry : jar.getEntries()) {
+        if (isClassFile(entry.getName())) {
+          classFiles.add(new ClassFile(input + "!/" + entry.getName(), () -> jar.read(entry)));
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks whether an entry is a class file to be validated. Module and package descriptors and the versioned class
+   * files of multi-release jars are skipped.
+   */
+  private static boolean isClassFile(String name) {
+    return name.endsWith(CLASS_SUFFIX) && !name.startsWith("META-INF/")
+        && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+  }
+
+  private ParsedClass parse(ClassFile classFile) {
+    try {
+      return new ParsedClass(ClassFileParser.parse(classFile.content.read()), classFile.location);
+    } catch (IOException | ClassFormatError e) {
+      synchronized (this.warnings) {
+        this.warnings.println(classFile.location + ": warning: skipped unreadable class file: " + e.getMessage());
+      }
+      return null;
+    }
+  }
+
+
+  /**
+   * Provides the content of a class file.
+   */
+  private interface Content {
+
+    ByteBuffer read() throws IOException;
+  }
+
+
+  /**
+   * A class file of an input.
+   */
+  private static final class ClassFile {
+
+    private final String location;
+    private final Content content;
+
+
+    ClassFile(String location, Content content) {
+      this.location = location;
+      this.content = content;
+    }
+  }
+
+
+  /**
+   * A parsed class file of an input.
+   */
+  private static final class ParsedClass {
+
+    private final ClassInfo classInfo;
+    private final String location;
+
+
+    ParsedClass(ClassInfo classInfo, String location) {
+      this.classInfo = classInfo;
+      this.location = location;
+    }
+  }
+}
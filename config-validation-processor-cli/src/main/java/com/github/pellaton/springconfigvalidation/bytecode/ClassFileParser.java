@@ -0,0 +1,291 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.pellaton.springconfigvalidation.bytecode.ClassInfo.MethodInfo;
+
+/**
+ * Minimal class file parser that reads only the structures needed for the validation: the constant pool, the access
+ * flags, the class hierarchy, the methods and the {@code RuntimeVisibleAnnotations} and {@code InnerClasses}
+ * attributes. Fields, code and all other attributes are skipped by their length without being decoded, and constant
+ * pool strings are only decoded when they are referenced by one of the structures read.
+ *
+ * @author Michael Pellaton
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se11/html/jvms-4.html">The Java Virtual Machine
+ *      Specification: The class File Format</a>
+ */
+final class ClassFileParser {
+
+  private static final int MAGIC = 0xcafebabe;
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_INTEGER = 3;
+  private static final int CONSTANT_FLOAT = 4;
+  private static final int CONSTANT_LONG = 5;
+  private static final int CONSTANT_DOUBLE = 6;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_STRING = 8;
+  private static final int CONSTANT_FIELDREF = 9;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_INTERFACE_METHODREF = 11;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+  private static final int CONSTANT_METHOD_HANDLE = 15;
+  private static final int CONSTANT_METHOD_TYPE = 16;
+  private static final int CONSTANT_DYNAMIC = 17;
+  private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+  private static final int CONSTANT_MODULE = 19;
+  private static final int CONSTANT_PACKAGE = 20;
+
+  private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+  private static final String INNER_CLASSES = "InnerClasses";
+
+  private final ByteBuffer buffer;
+  private int[] offsets;
+
+
+  private ClassFileParser(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+
+  /**
+   * Parses a class file.
+   *
+   * @param classFile the content of the class file, positioned at its start
+   * @return the parsed class
+   * @throws ClassFormatError if the content is not a valid class file
+   */
+  static ClassInfo parse(ByteBuffer classFile) {
+    try {
+      return new ClassFileParser(classFile.slice()).parse();
+    } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+      throw new ClassFormatError("Truncated class file");
+    }
+  }
+
+  private ClassInfo parse() {
+    if (this.buffer.getInt() != MAGIC) {
+      throw new ClassFormatError("Invalid magic number");
+    }
+    skip(4);
+    readConstantPool();
+
+    int access = u2();
+    String name = className(u2());
+    int superIndex = u2();
+    String superName = superIndex == 0 ? null : className(superIndex);
+    int interfaceCount = u2();
+    List<String> interfaces = new ArrayList<>(interfaceCount);
+    for (int i = 0; i < interfaceCount; i++) {
+      interfaces.add(className(u2()));
+    }
+
+    int fieldCount = u2();
+    for (int i = 0; i < fieldCount; i++) {
+      skip(6);
+      skipAttributes();
+    }
+
+    int methodCount = u2();
+    List<MethodInfo> methods = new ArrayList<>(methodCount);
+    for (int i = 0; i < methodCount; i++) {
+      methods.add(readMethod());
+    }
+
+    Set<String> annotations = Collections.emptySet();
+    String outerName = null;
+    int innerAccess = 0;
+    int attributeCount = u2();
+    for (int i = 0; i < attributeCount; i++) {
+      String attribute = utf8(u2());
+      int length = this.buffer.getInt();
+      int end = this.buffer.position() + length;
+      if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attribute)) {
+        annotations = readAnnotations();
+      } else if (INNER_CLASSES.equals(attribute)) {
+        int classCount = u2();
+        for (int j = 0; j < classCount; j++) {
+          int innerIndex = u2();
+          int outerIndex = u2();
+          skip(2);
+          int flags = u2();
+          if (outerIndex != 0 && name.equals(className(innerIndex))) {
+            outerName = className(outerIndex);
+            innerAccess = flags;
+          }
+        }
+      }
+      this.buffer.position(end);
+    }
+
+    return new ClassInfo(name, superName, interfaces, access, annotations, methods, outerName, innerAccess);
+  }
+
+  private void readConstantPool() {
+    int count = u2();
+    this.offsets = new int[count];
+    for (int i = 1; i < count; i++) {
+      this.offsets[i] = this.buffer.position();
+      int tag = this.buffer.get();
+      switch (tag) {
+        case CONSTANT_UTF8:
+          skip(u2());
+          break;
+        case CONSTANT_CLASS:
+        case CONSTANT_STRING:
+        case CONSTANT_METHOD_TYPE:
+        case CONSTANT_MODULE:
+        case CONSTANT_PACKAGE:
+          skip(2);
+          break;
+        case CONSTANT_METHOD_HANDLE:
+          skip(3);
+          break;
+        case CONSTANT_INTEGER:
+        case CONSTANT_FLOAT:
+        case CONSTANT_FIELDREF:
+        case CONSTANT_METHODREF:
+        case CONSTANT_INTERFACE_METHODREF:
+        case CONSTANT_NAME_AND_TYPE:
+        case CONSTANT_DYNAMIC:
+        case CONSTANT_INVOKE_DYNAMIC:
+          skip(4);
+          break;
+        case CONSTANT_LONG:
+        case CONSTANT_DOUBLE:
+          skip(8);
+          i++;
+          break;
+        default:
+          throw new ClassFormatError("Invalid constant pool tag " + tag);
+      }
+    }
+  }
+
+  private MethodInfo readMethod() {
+    int access = u2();
+    String name = utf8(u2());
+    String descriptor = utf8(u2());
+    Set<String> annotations = Collections.emptySet();
+    int attributeCount = u2();
+    for (int i = 0; i < attributeCount; i++) {
+      int attribute = u2();
+      int length = this.buffer.getInt();
+      int end = this.buffer.position() + length;
+      if (RUNTIME_VISIBLE_ANNOTATIONS.equals(utf8(attribute))) {
+        annotations = readAnnotations();
+      }
+      this.buffer.position(end);
+    }
+    return new MethodInfo(name, descriptor, access, annotations);
+  }
+
+  private Set<String> readAnnotations() {
+    int count = u2();
+    Set<String> annotations = new LinkedHashSet<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      String descriptor = utf8(u2());
+      annotations.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+      skipElementValuePairs();
+    }
+    return annotations;
+  }
+
+  private void skipElementValuePairs() {
+    int count = u2();
+    for (int i = 0; i < count; i++) {
+      skip(2);
+      skipElementValue();
+    }
+  }
+
+  private void skipElementValue() {
+    int tag = this.buffer.get();
+    switch (tag) {
+      case 'e':
+        skip(4);
+        break;
+      case '@':
+        skip(2);
+        skipElementValuePairs();
+        break;
+      case '[':
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+          skipElementValue();
+        }
+        break;
+      default:
+        skip(2);
+        break;
+    }
+  }
+
+  private void skipAttributes() {
+    int count = u2();
+    for (int i = 0; i < count; i++) {
+      skip(2);
+      skip(this.buffer.getInt());
+    }
+  }
+
+  private String className(int index) {
+    return utf8(this.buffer.getShort(this.offsets[index] + 1) & 0xffff).replace('/', '.');
+  }
+
+  private String utf8(int index) {
+    int offset = this.offsets[index];
+    if (this.buffer.get(offset) != CONSTANT_UTF8) {
+      throw new ClassFormatError("Constant pool entry " + index + " is not a UTF-8 string");
+    }
+    int length = this.buffer.getShort(offset + 1) & 0xffff;
+    char[] chars = new char[length];
+    int count = 0;
+    int position = offset + 3;
+    int end = position + length;
+    while (position < end) {
+      int c = this.buffer.get(position++) & 0xff;
+      if (c < 0x80) {
+        chars[count++] = (char) c;
+      } else if ((c & 0xe0) == 0xc0) {
+        chars[count++] = (char) (((c & 0x1f) << 6) | (this.buffer.get(position++) & 0x3f));
+      } else {
+        chars[count++] = (char) (((c & 0x0f) << 12) | ((this.buffer.get(position++) & 0x3f) << 6)
+            | (this.buffer.get(position++) & 0x3f));
+      }
+    }
+    return new String(chars, 0, count);
+  }
+
+  private int u2() {
+    return this.buffer.getShort() & 0xffff;
+  }
+
+  private void skip(int count) {
+    this.buffer.position(this.buffer.position() + count);
+  }
+}
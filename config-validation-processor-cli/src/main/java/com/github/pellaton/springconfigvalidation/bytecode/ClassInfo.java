@@ -0,0 +1,234 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The parts of a class file that are relevant for the validation: the class hierarchy, the access flags, the
+ * annotations and the methods. Type names are binary names such as {@code com.example.Outer$Inner}.
+ *
+ * @author Michael Pellaton
+ */
+final class ClassInfo {
+
+  static final int ACC_PRIVATE = 0x0002;
+  static final int ACC_STATIC = 0x0008;
+  static final int ACC_FINAL = 0x0010;
+  static final int ACC_BRIDGE = 0x0040;
+  static final int ACC_INTERFACE = 0x0200;
+  static final int ACC_SYNTHETIC = 0x1000;
+  static final int ACC_ANNOTATION = 0x2000;
+  static final int ACC_ENUM = 0x4000;
+
+  private final String name;
+  private final String superName;
+  private final List<String> interfaces;
+  private final int access;
+  private final Set<String> annotations;
+  private final List<MethodInfo> methods;
+  private final String outerName;
+  private final int innerAccess;
+
+
+  ClassInfo(String name, String superName, List<String> interfaces, int access, Set<String> annotations,
+      List<MethodInfo> methods, String outerName, int innerAccess) {
+    this.name = name;
+    this.superName = superName;
+    this.interfaces = interfaces;
+    this.access = access;
+    this.annotations = annotations;
+    this.methods = methods;
+    this.outerName = outerName;
+    this.innerAccess = innerAccess;
+  }
+
+
+  /**
+   * Gets the binary name of the class.
+   *
+   * @return the binary name
+   */
+  String getName() {
+    return this.name;
+  }
+
+  /**
+   * Returns the name of the superclass.
+   *
+   * @return the superclass name or {@code null} for {@code java.lang.Object} and {@code module-info}
+   */
+  String getSuperName() {
+    return this.superName;
+  }
+
+  /**
+   * Gets the binary names of the directly implemented interfaces.
+   *
+   * @return the interface names
+   */
+  List<String> getInterfaces() {
+    return this.interfaces;
+  }
+
+  /**
+   * Checks whether the class has the given access flag.
+   *
+   * @param flag the access flag
+   * @return {@code true} if the flag is set, {@code false} otherwise
+   */
+  boolean hasAccess(int flag) {
+    return (this.access & flag) != 0;
+  }
+
+  /**
+   * Gets the binary names of the runtime visible annotation types directly present on the class.
+   *
+   * @return the annotation type names
+   */
+  Set<String> getAnnotations() {
+    return this.annotations;
+  }
+
+  /**
+   * Gets the methods and constructors declared by the class.
+   *
+   * @return the methods
+   */
+  List<MethodInfo> getMethods() {
+    return this.methods;
+  }
+
+  /**
+   * Returns whether this class is a member class as recorded in its {@code InnerClasses} attribute.
+   *
+   * @return {@code true} for member classes, {@code false} for top level, local and anonymous classes
+   */
+  boolean isMemberClass() {
+    return this.outerName != null;
+  }
+
+  /**
+   * Gets the binary name of the declaring class of a member class.
+   *
+   * @return the outer class name or {@code null} if this is not a member class
+   */
+  String getOuterName() {
+    return this.outerName;
+  }
+
+  /**
+   * Returns whether the member class is declared static. The class file access flags of a member class never contain
+   * {@code ACC_STATIC}, the flag is only recorded in the {@code InnerClasses} attribute.
+   *
+   * @return {@code true} if this is a static member class
+   */
+  boolean isStaticMemberClass() {
+    return isMemberClass() && (this.innerAccess & ACC_STATIC) != 0;
+  }
+
+
+  /**
+   * A method of a {@link ClassInfo}.
+   */
+  static final class MethodInfo {
+
+    private final String name;
+    private final String descriptor;
+    private final int access;
+    private final Set<String> annotations;
+
+
+    MethodInfo(String name, String descriptor, int access, Set<String> annotations) {
+      this.name = name;
+      this.descriptor = descriptor;
+      this.access = access;
+      this.annotations = annotations;
+    }
+
+
+    /**
+     * Gets the name of the method.
+     *
+     * @return the method name, {@code <init>} for constructors
+     */
+    String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the method descriptor.
+     *
+     * @return the descriptor
+     */
+    String getDescriptor() {
+      return this.descriptor;
+    }
+
+    /**
+     * Checks whether the method has the given access flag.
+     *
+     * @param flag the access flag
+     * @return {@code true} if the flag is set, {@code false} otherwise
+     */
+    boolean hasAccess(int flag) {
+      return (this.access & flag) != 0;
+    }
+
+    /**
+     * Gets the binary names of the runtime visible annotation types present on the method.
+     *
+     * @return the annotation type names
+     */
+    Set<String> getAnnotations() {
+      return this.annotations;
+    }
+
+    /**
+     * Checks whether the method is a constructor.
+     *
+     * @return {@code true} for constructors, {@code false} otherwise
+     */
+    boolean isConstructor() {
+      return "<init>".equals(this.name);
+    }
+
+    /**
+     * Returns the binary name of the return type if it is a class or interface type.
+     *
+     * @return the return type name or {@code null} for primitive, array and void return types
+     */
+    String getReturnTypeName() {
+      int start = this.descriptor.indexOf(')') + 1;
+      if (this.descriptor.charAt(start) != 'L') {
+        return null;
+      }
+      return this.descriptor.substring(start + 1, this.descriptor.length() - 1).replace('/', '.');
+    }
+
+    /**
+     * Checks whether the method returns {@code void}.
+     *
+     * @return {@code true} for void methods, {@code false} otherwise
+     */
+    boolean returnsVoid() {
+      return this.descriptor.endsWith(")V");
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.github.pellaton.springconfigvalidation.MarkerType;
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+import com.github.pellaton.springconfigvalidation.bytecode.ClassInfo.MethodInfo;
+
+/**
+ * Applies the checks of the annotation processor to a compiled class. The checks are the same as the ones of the
+ * processor's built-in rules, translated to the class file model: modifiers are read from the access flags,
+ * constructors are {@code <init>} methods and the nesting of a class is read from its {@code InnerClasses}
+ * attribute.
+ *
+ * @author Michael Pellaton
+ */
+final class ClassValidator {
+
+  private static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+  private static final String BEAN = "org.springframework.context.annotation.Bean";
+  private static final String COMPONENT = "org.springframework.stereotype.Component";
+  private static final String CONFIGURATION = "org.springframework.context.annotation.Configuration";
+
+  private static final int NOT_A_CLASS = ClassInfo.ACC_INTERFACE | ClassInfo.ACC_ANNOTATION | ClassInfo.ACC_ENUM;
+  private static final int COMPILER_GENERATED = ClassInfo.ACC_SYNTHETIC | ClassInfo.ACC_BRIDGE;
+
+  private final TypeHierarchy typeHierarchy;
+
+
+  /**
+   * Creates a validator resolving types and meta-annotations with the given type hierarchy.
+   *
+   * @param typeHierarchy the type hierarchy
+   */
+  ClassValidator(TypeHierarchy typeHierarchy) {
+    this.typeHierarchy = typeHierarchy;
+  }
+
+
+  /**
+   * Validates a class. This method is safe to be called concurrently.
+   *
+   * @param classInfo the class
+   * @param location the location of the class file
+   * @return the findings in the order of the checks, empty if the class is valid
+   */
+  List<Finding> validate(ClassInfo classInfo, String location) {
+    List<Finding> findings = new ArrayList<>(0);
+    Set<String> annotations = this.typeHierarchy.resolveAnnotations(classInfo.getAnnotations());
+    boolean configurationClass = !classInfo.hasAccess(NOT_A_CLASS) && annotations.contains(CONFIGURATION);
+    if (configurationClass) {
+      validateConfigurationClass(classInfo, location, findings);
+    }
+    // @Bean methods of other components are processed in lite mode, whose pitfall is LITE_MODE_INTER_BEAN_CALL, and
+    // default @Bean methods of interfaces are inherited by the configuration classes implementing them
+    boolean beanMethodHolder = annotations.contains(COMPONENT)
+        || (classInfo.hasAccess(ClassInfo.ACC_INTERFACE) && !classInfo.hasAccess(ClassInfo.ACC_ANNOTATION));
+    for (MethodInfo method : classInfo.getMethods()) {
+      if (!method.hasAccess(COMPILER_GENERATED)
+          && this.typeHierarchy.resolveAnnotations(method.getAnnotations()).contains(BEAN)) {
+        validateBeanMethod(classInfo, method, beanMethodHolder, location, findings);
+      }
+    }
+    return findings;
+  }
+
+  private void validateConfigurationClass(ClassInfo classInfo, String location, List<Finding> findings) {
+    String className = classInfo.getName();
+    if (classInfo.hasAccess(ClassInfo.ACC_FINAL)) {
+      findings.add(new Finding(SpringConfigurationMessage.CLASS_FINAL, location, className));
+    }
+
+    boolean noArgConstructor = false;
+    for (MethodInfo method : classInfo.getMethods()) {
+      if (!method.isConstructor()) {
+        continue;
+      }
+      if (this.typeHierarchy.resolveAnnotations(method.getAnnotations()).contains(AUTOWIRED)) {
+        findings.add(new Finding(SpringConfigurationMessage.AUTOWIRED_CONSTRUCTOR, location,
+            className + "#" + method.getName()));
+      }
+      if (!method.hasAccess(ClassInfo.ACC_PRIVATE) && isNoArgConstructor(classInfo, method)) {
+        noArgConstructor = true;
+      }
+    }
+    if (!noArgConstructor) {
+      findings.add(new Finding(SpringConfigurationMessage.MISSING_NO_ARG_CONSTRUCTOR, location, className));
+    }
+
+    if (classInfo.isMemberClass() && !classInfo.isStaticMemberClass()) {
+      findings.add(new Finding(SpringConfigurationMessage.NESTED_CLASS_NOT_STATIC, location, className));
+    }
+  }
+
+  /**
+   * Checks for a constructor without parameters in the source. The constructors of inner classes take the enclosing
+   * instance as an additional first parameter.
+   */
+  private static boolean isNoArgConstructor(ClassInfo classInfo, MethodInfo constructor) {
+    String descriptor = constructor.getDescriptor();
+    if ("()V".equals(descriptor)) {
+      return true;
+    }
+    return classInfo.isMemberClass() && !classInfo.isStaticMemberClass()
+        && descriptor.equals("(L" + classInfo.getOuterName().replace('.', '/') + ";)V");
+  }
+
+  private void validateBeanMethod(ClassInfo classInfo, MethodInfo method, boolean inBeanMethodHolder,
+      String location, List<Finding> findings) {
+    String element = classInfo.getName() + "#" + method.getName();
+    if (method.hasAccess(ClassInfo.ACC_PRIVATE)) {
+      findings.add(new Finding(SpringConfigurationMessage.BEAN_METHOD_PRIVATE, location, element));
+    }
+    if (method.hasAccess(ClassInfo.ACC_FINAL)) {
+      findings.add(new Finding(SpringConfigurationMessage.BEAN_METHOD_FINAL, location, element));
+    }
+    if (method.returnsVoid()) {
+      findings.add(new Finding(SpringConfigurationMessage.BEAN_METHOD_RETURNS_VOID, location, element));
+    }
+
+    String returnType = method.getReturnTypeName();
+    boolean implementsBFPP = returnType != null
+        && this.typeHierarchy.isAssignable(returnType, MarkerType.BEAN_FACTORY_POST_PROCESSOR);
+    if (method.hasAccess(ClassInfo.ACC_STATIC)) {
+      if (!implementsBFPP) {
+        findings.add(new Finding(SpringConfigurationMessage.STATIC_BEAN_METHOD, location, element));
+      }
+    } else if (implementsBFPP) {
+      findings.add(new Finding(SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC, location, element));
+    }
+
+    if (!inBeanMethodHolder) {
+      findings.add(new Finding(SpringConfigurationMessage.BEAN_METHOD_NOT_IN_CONFIGURATION, location, element));
+    }
+  }
+}
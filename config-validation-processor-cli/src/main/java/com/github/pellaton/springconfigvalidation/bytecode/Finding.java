@@ -0,0 +1,78 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.util.Locale;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+
+/**
+ * A violation found in a compiled class.
+ *
+ * @author Michael Pellaton
+ */
+public final class Finding {
+
+  private final SpringConfigurationMessage message;
+  private final String location;
+  private final String element;
+
+
+  Finding(SpringConfigurationMessage message, String location, String element) {
+    this.message = message;
+    this.location = location;
+    this.element = element;
+  }
+
+
+  /**
+   * Gets the violated check.
+   *
+   * @return the message of the violated check
+   */
+  public SpringConfigurationMessage getMessage() {
+    return this.message;
+  }
+
+  /**
+   * Gets the location of the class file, for example {@code app.jar!/com/example/AppConfig.class}.
+   *
+   * @return the location of the class file
+   */
+  public String getLocation() {
+    return this.location;
+  }
+
+  /**
+   * Gets the violating class or member, for example {@code com.example.AppConfig#dataSource}.
+   *
+   * @return the violating element
+   */
+  public String getElement() {
+    return this.element;
+  }
+
+  /**
+   * Formats the finding like a compiler message: {@code <location>: <kind>: <element>: <message>}.
+   */
+  @Override
+  public String toString() {
+    return this.location + ": " + this.message.getKind().name().toLowerCase(Locale.ROOT) + ": " + this.element + ": "
+        + this.message.getMessage();
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only view of a jar file that is memory-mapped as a whole. Only the central directory is parsed when the jar is
+ * opened; the entries are inflated directly from the mapped region on demand, so reading entries concurrently from
+ * several threads neither copies the compressed data nor contends for a shared stream.
+ *
+ * <p>ZIP64 archives and encrypted entries are not supported. The offsets and sizes of the archive are checked against
+ * the bounds of the file, so a corrupt central directory fails to open and a corrupt entry fails to be read with an
+ * {@link IOException}.
+ *
+ * @author Michael Pellaton
+ */
+final class MappedJar implements Closeable {
+
+  private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  private static final int MAX_COMMENT_SIZE = 0xffff;
+  private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+  private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+  private static final int LOCAL_FILE_HEADER = 0x04034b50;
+  private static final int LOCAL_FILE_HEADER_SIZE = 30;
+  private static final int STORED = 0;
+  private static final int DEFLATED = 8;
+  private static final int ENCRYPTED = 0x1;
+
+  private final Path path;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final List<Entry> entries;
+
+
+  private MappedJar(Path path, FileChannel channel, MappedByteBuffer buffer) throws IOException {
+    this.path = path;
+    this.channel = channel;
+    this.buffer = buffer;
+    this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+    this.entries = Collections.unmodifiableList(readCentralDirectory());
+  }
+
+
+  /**
+   * Maps the given jar file into memory and reads its central directory.
+   *
+   * @param path the jar file
+   * @return the mapped jar, which must be closed by the caller
+   * @throws IOException if the file cannot be mapped or is not a supported zip archive
+   */
+  static MappedJar open(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException(path + " is too large to be mapped");
+      }
+      return new MappedJar(path, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the path of the jar file.
+   *
+   * @return the path
+   */
+  Path getPath() {
+    return this.path;
+  }
+
+  /**
+   * Returns the file entries of the jar in the order of the central directory.
+   *
+   * @return the entries
+   */
+  List<Entry> getEntries() {
+    return this.entries;
+  }
+
+  /**
+   * Returns the uncompressed content of an entry. This method is safe to be called concurrently.
+   *
+   * @param entry an entry of this jar
+   * @return a buffer holding the content of the entry
+   * @throws IOException if the entry is corrupt or uses an unsupported compression method
+   */
+  ByteBuffer read(Entry entry) throws IOException {
+    ByteBuffer local = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int header = entry.localHeaderOffset;
+    if (header < 0 || header > local.capacity() - LOCAL_FILE_HEADER_SIZE || local.getInt(header) != LOCAL_FILE_HEADER) {
+      throw new IOException("Invalid local file header for " + entry.name + " in " + this.path);
+    }
+    if (entry.compressedSize < 0 || entry.size < 0) {
+      throw new IOException("Entry " + entry.name + " in " + this.path + " is too large");
+    }
+    int dataOffset = header + LOCAL_FILE_HEADER_SIZE + (local.getShort(header + 26) & 0xffff)
+        + (local.getShort(header + 28) & 0xffff);
+    if (dataOffset > local.capacity() - entry.compressedSize) {
+      throw new IOException("Truncated entry " + entry.name + " in " + this.path);
+    }
+    local.limit(dataOffset + entry.compressedSize).position(dataOffset);
+    ByteBuffer data = local.slice();
+
+    if (entry.method == STORED) {
+      return data;
+    } else if (entry.method == DEFLATED) {
+      return inflate(entry, data);
+    }
+    throw new IOException("Unsupported compression method " + entry.method + " for " + entry.name + " in " + this.path);
+  }
+
+  private ByteBuffer inflate(Entry entry, ByteBuffer data) throws IOException {
+    ByteBuffer content = ByteBuffer.allocate(entry.size);
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(data);
+      while (!inflater.finished() && content.hasRemaining()) {
+        if (inflater.inflate(content) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt entry " + entry.name + " in " + this.path, e);
+    } finally {
+      inflater.end();
+    }
+    if (content.hasRemaining()) {
+      throw new IOException("Truncated entry " + entry.name + " in " + this.path);
+    }
+    content.flip();
+    return content;
+  }
+
+  private List<Entry> readCentralDirectory() throws IOException {
+    int end = findEndOfCentralDirectory();
+    int count = this.buffer.getShort(end + 10) & 0xffff;
+    long offset = this.buffer.getInt(end + 16) & 0xffffffffL;
+    if (count == 0xffff || offset == 0xffffffffL) {
+      throw new IOException("ZIP64 archives are not supported: " + this.path);
+    }
+
+    List<Entry> result = new ArrayList<>(count);
+    int position = (int) Math.min(offset, end);
+    for (int i = 0; i < count; i++) {
+      if (position > end - CENTRAL_DIRECTORY_HEADER_SIZE || this.buffer.getInt(position) != CENTRAL_DIRECTORY_HEADER) {
+        throw new IOException("Invalid central directory in " + this.path);
+      }
+      int flags = this.buffer.getShort(position + 8) & 0xffff;
+      int method = this.buffer.getShort(position + 10) & 0xffff;
+      int compressedSize = this.buffer.getInt(position + 20);
+      int size = this.buffer.getInt(position + 24);
+      int nameLength = this.buffer.getShort(position + 28) & 0xffff;
+      int extraLength = this.buffer.getShort(position + 30) & 0xffff;
+      int commentLength = this.buffer.getShort(position + 32) & 0xffff;
+      int localHeaderOffset = this.buffer.getInt(position + 42);
+      if (nameLength > end - position - CENTRAL_DIRECTORY_HEADER_SIZE) {
+        throw new IOException("Invalid central directory in " + this.path);
+      }
+
+      byte[] name = new byte[nameLength];
+      ByteBuffer nameBuffer = this.buffer.duplicate();
+      nameBuffer.position(position + CENTRAL_DIRECTORY_HEADER_SIZE);
+      nameBuffer.get(name);
+      String entryName = new String(name, StandardCharsets.UTF_8);
+
+      if ((flags & ENCRYPTED) == 0 && !entryName.endsWith("/")) {
+        result.add(new Entry(entryName, method, compressedSize, size, localHeaderOffset));
+      }
+      position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+    }
+    return result;
+  }
+
+  private int findEndOfCentralDirectory() throws IOException {
+    int last = this.buffer.capacity() - END_OF_CENTRAL_DIRECTORY_SIZE;
+    int first = Math.max(0, last - MAX_COMMENT_SIZE);
+    for (int position = last; position >= first; position--) {
+      if (this.buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY) {
+        return position;
+      }
+    }
+    throw new IOException("Not a zip archive: " + this.path);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+
+  /**
+   * A file entry of a {@link MappedJar}.
+   */
+  static final class Entry {
+
+    private final String name;
+    private final int method;
+    private final int compressedSize;
+    private final int size;
+    private final int localHeaderOffset;
+
+
+    private Entry(String name, int method, int compressedSize, int size, int localHeaderOffset) {
+      this.name = name;
+      this.method = method;
+      this.compressedSize = compressedSize;
+      this.size = size;
+      this.localHeaderOffset = localHeaderOffset;
+    }
+
+
+    /**
+     * Returns the name of the entry.
+     *
+     * @return the name
+     */
+    String getName() {
+      return this.name;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.pellaton.springconfigvalidation.MarkerType;
+
+/**
+ * Thread-safe index of the class hierarchy and the meta-annotations of the validated classes. Classes are looked up in
+ * the validated inputs first and are otherwise parsed lazily from the resources of a class loader covering the
+ * classpath. The marker types of a class and the meta-annotation closure of an annotation type are computed once and
+ * memoized, so they are constant time lookups on every further use.
+ *
+ * @author Michael Pellaton
+ */
+final class TypeHierarchy {
+
+  private static final String JAVA_LANG_ANNOTATION = "java.lang.annotation.";
+  private static final ClassInfo UNRESOLVED = new ClassInfo("", null, Collections.<String>emptyList(), 0,
+      Collections.<String>emptySet(), Collections.<ClassInfo.MethodInfo>emptyList(), null, 0);
+
+  private final Map<String, ClassInfo> classes = new ConcurrentHashMap<>();
+  private final Map<String, Set<MarkerType>> markers = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> annotationClosures = new ConcurrentHashMap<>();
+  private final ClassLoader classLoader;
+
+
+  /**
+   * Creates a type hierarchy resolving the classes that are not added explicitly from the given class loader.
+   *
+   * @param classLoader the class loader providing the class files of the classpath
+   */
+  TypeHierarchy(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+
+  /**
+   * Adds a class of the validated inputs. Classes added take precedence over the ones of the class loader.
+   *
+   * @param classInfo the class
+   */
+  void add(ClassInfo classInfo) {
+    this.classes.putIfAbsent(classInfo.getName(), classInfo);
+  }
+
+  /**
+   * Checks whether the class with the given name is assignable to the marker type.
+   *
+   * @param className the binary name of the class
+   * @param markerType the marker type
+   * @return {@code true} if the class is assignable to the marker type, {@code false} otherwise or if the class cannot
+   *         be resolved
+   */
+  boolean isAssignable(String className, MarkerType markerType) {
+    return getMarkers(className).contains(markerType);
+  }
+
+  /**
+   * Gets the names of the given annotation types and of all annotation types they are meta-annotated with. The
+   * annotations of {@code java.lang.annotation} are not part of the closure.
+   *
+   * @param annotationTypes the binary names of the annotation types directly present on an element
+   * @return the resolved annotation type names
+   */
+  Set<String> resolveAnnotations(Set<String> annotationTypes) {
+    if (annotationTypes.isEmpty()) {
+      return annotationTypes;
+    }
+    Set<String> resolved = new HashSet<>();
+    for (String annotationType : annotationTypes) {
+      resolved.addAll(getAnnotationClosure(annotationType));
+    }
+    return resolved;
+  }
+
+  private Set<MarkerType> getMarkers(String className) {
+    Set<MarkerType> result = this.markers.get(className);
+    if (result == null) {
+      result = EnumSet.noneOf(MarkerType.class);
+      for (MarkerType markerType : MarkerType.values()) {
+        if (markerType.getTypeName().equals(className)) {
+          result.add(markerType);
+        }
+      }
+      ClassInfo classInfo = lookup(className);
+      if (classInfo.getSuperName() != null) {
+        result.addAll(getMarkers(classInfo.getSuperName()));
+      }
+      for (String interfaceName : classInfo.getInterfaces()) {
+        result.addAll(getMarkers(interfaceName));
+      }
+      this.markers.putIfAbsent(className, result);
+    }
+    return result;
+  }
+
+  private Set<String> getAnnotationClosure(String annotationType) {
+    Set<String> closure = this.annotationClosures.get(annotationType);
+    if (closure == null) {
+      closure = new HashSet<>();
+      Deque<String> pending = new ArrayDeque<>();
+      pending.add(annotationType);
+      while (!pending.isEmpty()) {
+        String current = pending.remove();
+        if (!current.startsWith(JAVA_LANG_ANNOTATION) && closure.add(current)) {
+          pending.addAll(lookup(current).getAnnotations());
+        }
+      }
+      closure = Collections.unmodifiableSet(closure);
+      this.annotationClosures.putIfAbsent(annotationType, closure);
+    }
+    return closure;
+  }
+
+  private ClassInfo lookup(String className) {
+    ClassInfo classInfo = this.classes.get(className);
+    if (classInfo == null) {
+      classInfo = load(className);
+      ClassInfo existing = this.classes.putIfAbsent(className, classInfo);
+      if (existing != null) {
+        classInfo = existing;
+      }
+    }
+    return classInfo;
+  }
+
+  private ClassInfo load(String className) {
+    try (InputStream in = this.classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+      if (in != null) {
+        return ClassFileParser.parse(ByteBuffer.wrap(in.readAllBytes()));
+      }
+    } catch (IOException | ClassFormatError e) {
+      // treat unreadable classes like missing ones
+    }
+    return UNRESOLVED;
+  }
+}
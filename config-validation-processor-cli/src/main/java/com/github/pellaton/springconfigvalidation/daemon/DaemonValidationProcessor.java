@@ -0,0 +1,40 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.daemon;
+
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationValidationProcessor;
+
+/**
+ * {@link SpringConfigurationValidationProcessor} used by the {@link ValidationDaemon}. The processor runs on the JDK
+ * the daemon is running on, so it supports the latest source version of that JDK.
+ *
+ * @author Michael Pellaton
+ *
+ * @see SpringConfigurationValidationProcessor
+ */
+@SupportedAnnotationTypes("*")
+public class DaemonValidationProcessor extends SpringConfigurationValidationProcessor {
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.daemon;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watches the directory trees of source roots for created, modified and deleted Java source files with a
+ * {@link WatchService}. Directories created later are watched as well.
+ *
+ * <p>Editors and checkouts usually touch several files within a few milliseconds, so the changes are collected until
+ * no further event arrives within a short quiet period.
+ *
+ * @author Michael Pellaton
+ */
+final class SourceWatcher implements Closeable {
+
+  private static final String JAVA_SUFFIX = ".java";
+  private static final long QUIET_PERIOD_MILLIS = 50;
+
+  private final List<Path> sourceRoots;
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> directories = new HashMap<>();
+
+
+  /**
+   * Starts watching the given source roots.
+   *
+   * @param sourceRoots the source roots
+   * @throws IOException if a directory cannot be watched
+   */
+  SourceWatcher(List<Path> sourceRoots) throws IOException {
+    this.sourceRoots = new ArrayList<>(sourceRoots);
+    this.watchService = sourceRoots.get(0).getFileSystem().newWatchService();
+    for (Path sourceRoot : sourceRoots) {
+      watchTree(sourceRoot);
+    }
+  }
+
+
+  /**
+   * Lists the Java source files in the directory trees of the given source roots.
+   *
+   * @param sourceRoots the source roots
+   * @return the source files
+   * @throws IOException if a directory cannot be listed
+   */
+  static List<Path> listSourceFiles(List<Path> sourceRoots) throws IOException {
+    List<Path> sourceFiles = new ArrayList<>();
+    for (Path sourceRoot : sourceRoots) {
+      try (Stream<Path> files = Files.walk(sourceRoot)) {
+        sourceFiles.addAll(files.filter(SourceWatcher::isSourceFile).sorted().collect(Collectors.toList()));
+      }
+    }
+    return sourceFiles;
+  }
+
+  private static boolean isSourceFile(Path path) {
+    return path.getFileName().toString().endsWith(JAVA_SUFFIX) && Files.isRegularFile(path);
+  }
+
+  private void watchTree(Path root) throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (Path directory : paths.filter(Files::isDirectory).collect(Collectors.toList())) {
+        this.directories.put(directory.register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE),
+            directory);
+      }
+    }
+  }
+
+  /**
+   * Waits for changes of source files.
+   *
+   * @return the changed source files that still exist, which is empty if only deleted files or other files changed
+   * @throws IOException if a created directory cannot be watched
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  Set<Path> awaitChanges() throws IOException, InterruptedException {
+    Set<Path> changes = new LinkedHashSet<>();
+    WatchKey key = this.watchService.take();
+    while (key != null) {
+      Path directory = this.directories.get(key);
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == OVERFLOW) {
+          changes.addAll(listSourceFiles(this.sourceRoots));
+        } else if (directory != null) {
+          Path path = directory.resolve((Path) event.context());
+          if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+            watchTree(path);
+            changes.addAll(listSourceFiles(List.of(path)));
+          } else if (path.getFileName().toString().endsWith(JAVA_SUFFIX)) {
+            changes.add(path);
+          }
+        }
+      }
+      if (!key.reset()) {
+        this.directories.remove(key);
+      }
+      key = this.watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    changes.removeIf(path -> !Files.isRegularFile(path));
+    return changes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.watchService.close();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.daemon;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The messages of one validation of the {@link ValidationDaemon}.
+ *
+ * @author Michael Pellaton
+ */
+public final class ValidationResult {
+
+  /**
+   * The prefix of the summary line that terminates every result written by {@link #writeTo(PrintStream)}.
+   */
+  public static final String SUMMARY_PREFIX = "# ";
+
+  private final int fileCount;
+  private final List<String> messages;
+  private final int errorCount;
+  private final long durationMillis;
+
+
+  ValidationResult(int fileCount, List<String> messages, int errorCount, long durationMillis) {
+    this.fileCount = fileCount;
+    this.messages = Collections.unmodifiableList(messages);
+    this.errorCount = errorCount;
+    this.durationMillis = durationMillis;
+  }
+
+
+  /**
+   * Gets the number of validated compilation units.
+   *
+   * @return the number of validated source files
+   */
+  public int getFileCount() {
+    return this.fileCount;
+  }
+
+  /**
+   * Gets the messages formatted like compiler messages: {@code <file>:<line>: <kind>: <message>}. Besides the messages
+   * of the checks, the errors of the compiler, e.g. syntax errors, are included.
+   *
+   * @return the messages in the order they were reported
+   */
+  public List<String> getMessages() {
+    return this.messages;
+  }
+
+  /**
+   * Gets the number of errors.
+   *
+   * @return the number of messages of kind error
+   */
+  public int getErrorCount() {
+    return this.errorCount;
+  }
+
+  /**
+   * Gets the wall-clock time of the validation.
+   *
+   * @return the duration in milliseconds
+   */
+  public long getDurationMillis() {
+    return this.durationMillis;
+  }
+
+  /**
+   * Writes the messages, one per line, followed by the summary line
+   * {@code # <files> files validated in <millis> ms, <errors> errors}.
+   *
+   * @param out the stream to write to
+   */
+  public void writeTo(PrintStream out) {
+    for (String message : this.messages) {
+      out.println(message);
+    }
+    out.println(SUMMARY_PREFIX + this.fileCount + " files validated in " + this.durationMillis + " ms, "
+        + this.errorCount + " errors");
+    out.flush();
+  }
+}
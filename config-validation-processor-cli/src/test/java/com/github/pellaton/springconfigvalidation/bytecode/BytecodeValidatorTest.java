@@ -0,0 +1,224 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.bytecode;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link BytecodeValidator}.
+ *
+ * @author Michael Pellaton
+ *
+ * @see BytecodeValidator
+ */
+public class BytecodeValidatorTest {
+
+  /**
+   * Temporary folder for the compiled fixtures.
+   */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final String FIXTURE_PATH = "/com/github/pellaton/springconfigvalidation/bytecode/";
+  private static final String PACKAGE = "ch.contrails.springconfigvalidation.";
+
+  private static final List<String> INVALID_FINDINGS = Arrays.asList(
+      "BeanMethodOutsideConfiguration#someString: BEAN_METHOD_NOT_IN_CONFIGURATION",
+      "InvalidBytecodeTestConfiguration$InnerConfiguration: NESTED_CLASS_NOT_STATIC",
+      "InvalidBytecodeTestConfiguration$MetaAnnotatedConfiguration: CLASS_FINAL",
+      "InvalidBytecodeTestConfiguration: CLASS_FINAL",
+      "InvalidBytecodeTestConfiguration#<init>: AUTOWIRED_CONSTRUCTOR",
+      "InvalidBytecodeTestConfiguration: MISSING_NO_ARG_CONSTRUCTOR",
+      "InvalidBytecodeTestConfiguration#privateString: BEAN_METHOD_PRIVATE",
+      "InvalidBytecodeTestConfiguration#finalInteger: BEAN_METHOD_FINAL",
+      "InvalidBytecodeTestConfiguration#voidBean: BEAN_METHOD_RETURNS_VOID",
+      "InvalidBytecodeTestConfiguration#staticLong: STATIC_BEAN_METHOD",
+      "InvalidBytecodeTestConfiguration#propertySourcesPlaceholderConfigurer: BFPP_BEAN_METHOD_NOT_STATIC");
+
+  /**
+   * Tests a jar with a valid configuration class on which the validator should not report anything.
+   */
+  @Test
+  public void validJar() throws Exception {
+    Path jar = jar(compile("ValidBytecodeTestConfiguration"));
+
+    assertThat(validate(jar), is(empty()));
+    assertThat(BytecodeValidator.run(new String[] {jar.toString()}, nullStream(), nullStream()), is(0));
+  }
+
+  /**
+   * Tests the detection of all violations in a jar.
+   */
+  @Test
+  public void invalidJar() throws Exception {
+    Path jar = jar(compile("InvalidBytecodeTestConfiguration"));
+
+    assertThat(validate(jar), contains(INVALID_FINDINGS.toArray()));
+  }
+
+  /**
+   * Tests that {@code @Bean} methods of components and default {@code @Bean} methods of interfaces are not reported
+   * as outside of a configuration class, while those of other classes are.
+   */
+  @Test
+  public void liteModeBeanMethods() throws Exception {
+    assertThat(validate(compile("LiteModeBytecodeTestComponent")),
+        contains("LiteModeBeanMethodOutsideComponent#someString: BEAN_METHOD_NOT_IN_CONFIGURATION"));
+  }
+
+  /**
+   * Tests that entries whose size or local header offset is corrupt are skipped with a warning while the other entries
+   * of the jar are still validated.
+   */
+  @Test
+  public void corruptJarEntries() throws Exception {
+    Path jar = jar(compile("InvalidBytecodeTestConfiguration"));
+    corruptCentralDirectory(jar, "InvalidBytecodeTestConfiguration$InnerConfiguration.class", 24);
+    corruptCentralDirectory(jar, "BeanMethodOutsideConfiguration.class", 42);
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    assertThat(validate(jar, new PrintStream(err, true, "UTF-8")),
+        contains(INVALID_FINDINGS.subList(2, INVALID_FINDINGS.size()).toArray()));
+    assertThat(err.toString("UTF-8"), containsString("InvalidBytecodeTestConfiguration$InnerConfiguration.class: "
+        + "warning: skipped unreadable class file: Entry "));
+    assertThat(err.toString("UTF-8"), containsString("BeanMethodOutsideConfiguration.class: "
+        + "warning: skipped unreadable class file: Invalid local file header"));
+  }
+
+  /**
+   * Tests the detection of all violations in a class directory.
+   */
+  @Test
+  public void invalidClassDirectory() throws Exception {
+    assertThat(validate(compile("InvalidBytecodeTestConfiguration")), contains(INVALID_FINDINGS.toArray()));
+  }
+
+  /**
+   * Tests the command line output and exit code when errors are found.
+   */
+  @Test
+  public void commandLineErrors() throws Exception {
+    Path jar = jar(compile("InvalidBytecodeTestConfiguration"));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    int exitCode = BytecodeValidator.run(new String[] {"--threads", "2", jar.toString()},
+        new PrintStream(out, true, "UTF-8"), nullStream());
+
+    assertThat(exitCode, is(1));
+    assertThat(out.toString("UTF-8"), containsString(jar + "!/ch/contrails/springconfigvalidation/"
+        + "InvalidBytecodeTestConfiguration.class: error: " + PACKAGE + "InvalidBytecodeTestConfiguration: "
+        + "Invalid bean definition class: @Configuration classes must not be final."));
+  }
+
+  /**
+   * Tests the exit code for invalid arguments.
+   */
+  @Test
+  public void commandLineUsage() {
+    assertThat(BytecodeValidator.run(new String[] {"--unknown"}, nullStream(), nullStream()), is(2));
+    assertThat(BytecodeValidator.run(new String[0], nullStream(), nullStream()), is(2));
+  }
+
+  private List<String> validate(Path input) throws IOException {
+    return validate(input, nullStream());
+  }
+
+  private List<String> validate(Path input, PrintStream warnings) throws IOException {
+    List<String> findings = new ArrayList<>();
+    for (Finding finding : new BytecodeValidator(Collections.<Path>emptyList(), 2, warnings)
+        .validate(Collections.singletonList(input))) {
+      findings.add(finding.getElement().substring(PACKAGE.length()) + ": " + finding.getMessage().name());
+    }
+    return findings;
+  }
+
+  private Path compile(String fixture) throws IOException, URISyntaxException {
+    Path classes = this.temporaryFolder.newFolder().toPath();
+    Path source = Paths.get(getClass().getResource(FIXTURE_PATH + fixture + ".java").toURI());
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int result = compiler.run(null, null, null, "-proc:none", "-classpath", System.getProperty("java.class.path"),
+        "-d", classes.toString(), source.toString());
+    assertThat(result, is(0));
+    return classes;
+  }
+
+  private Path jar(Path classes) throws IOException {
+    Path jar = this.temporaryFolder.newFile("fixture.jar").toPath();
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+        Stream<Path> files = Files.walk(classes)) {
+      for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+        out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace(File.separatorChar, '/')));
+        out.write(Files.readAllBytes(file));
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  // overwrites a 32-bit field of the central directory header of the entry with the given name suffix with 0xffffffff
+  private static void corruptCentralDirectory(Path jar, String nameSuffix, int fieldOffset) throws IOException {
+    byte[] content = Files.readAllBytes(jar);
+    ByteBuffer buffer = ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+    for (int position = 0; position < content.length - 46; position++) {
+      if (buffer.getInt(position) == 0x02014b50) {
+        int nameLength = buffer.getShort(position + 28) & 0xffff;
+        String name = new String(content, position + 46, nameLength, StandardCharsets.UTF_8);
+        if (name.endsWith(nameSuffix)) {
+          buffer.putInt(position + fieldOffset, -1);
+        }
+      }
+    }
+    Files.write(jar, content);
+  }
+
+  private static PrintStream nullStream() {
+    return new PrintStream(OutputStream.nullOutputStream(), true);
+  }
+}
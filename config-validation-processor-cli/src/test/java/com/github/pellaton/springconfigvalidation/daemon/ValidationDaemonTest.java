@@ -0,0 +1,239 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.daemon;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link ValidationDaemon}.
+ *
+ * @author Michael Pellaton
+ *
+ * @see ValidationDaemon
+ */
+public class ValidationDaemonTest {
+
+  /**
+   * Temporary folder for the source root.
+   */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final String FIXTURE_PATH = "/com/github/pellaton/springconfigvalidation/daemon/";
+  private static final String PACKAGE_PATH = "ch/contrails/springconfigvalidation/";
+
+  private Path sourceRoot;
+  private ValidationDaemon daemon;
+
+
+  /**
+   * Creates a source root with the valid fixture and a daemon watching it.
+   */
+  @Before
+  public void setUp() throws Exception {
+    this.sourceRoot = this.temporaryFolder.newFolder().toPath();
+    copyFixture("ValidDaemonTestConfiguration");
+    List<Path> classpath = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      classpath.add(Paths.get(entry));
+    }
+    this.daemon = new ValidationDaemon(Collections.singletonList(this.sourceRoot), classpath,
+        Collections.<String>emptyList());
+  }
+
+  /**
+   * Closes the daemon.
+   */
+  @After
+  public void tearDown() throws IOException {
+    this.daemon.close();
+  }
+
+
+  /**
+   * Tests the validation of all sources of a valid source root.
+   */
+  @Test
+  public void validSourceRoot() throws Exception {
+    ValidationResult result = this.daemon.validateAll();
+
+    assertThat(result.getFileCount(), is(1));
+    assertThat(result.getMessages(), is(empty()));
+  }
+
+  /**
+   * Tests the validation of a changed file that references another compilation unit of the source root.
+   */
+  @Test
+  public void changedFile() throws Exception {
+    Path sourceFile = copyFixture("InvalidDaemonTestConfiguration");
+
+    ValidationResult result = this.daemon.validate(Collections.singletonList(sourceFile));
+
+    assertThat(result.getFileCount(), is(1));
+    assertThat(result.getErrorCount(), is(2));
+    assertThat(result.getMessages(), contains(
+        endsWith("error: Invalid bean definition class: @Configuration classes must not be final."),
+        endsWith("error: Invalid factory method: @Bean methods must not be private.")));
+  }
+
+  /**
+   * Tests that a validation failing with an exception is reported as an error result.
+   */
+  @Test
+  public void failedValidation() throws Exception {
+    ValidationResult result = this.daemon.validate(Collections.singletonList(this.sourceRoot));
+
+    assertThat(result.getErrorCount(), is(1));
+    assertThat(result.getMessages(), contains(startsWith("error: Validation failed: ")));
+  }
+
+  /**
+   * Tests that a file created in the watched source root is validated.
+   */
+  @Test(timeout = 30000)
+  public void watchedChange() throws Exception {
+    PipedInputStream pipe = new PipedInputStream();
+    PrintStream out = new PrintStream(new PipedOutputStream(pipe), true, StandardCharsets.UTF_8);
+    CountDownLatch ready = new CountDownLatch(1);
+    Thread watcher = new Thread(() -> {
+      try {
+        this.daemon.watch(out, ready::countDown);
+      } catch (IOException e) {
+        out.println(e);
+      }
+    });
+    watcher.start();
+    try {
+      ready.await();
+      copyFixture("InvalidDaemonTestConfiguration");
+
+      List<String> lines = readResult(new BufferedReader(new InputStreamReader(pipe, StandardCharsets.UTF_8)));
+      assertThat(lines.size(), is(3));
+      assertThat(lines.get(2), startsWith("# 1 files validated in "));
+      assertThat(lines.get(2), endsWith(" ms, 2 errors"));
+    } finally {
+      watcher.interrupt();
+      watcher.join();
+    }
+  }
+
+  /**
+   * Tests a validation request over the local socket.
+   */
+  @Test(timeout = 30000)
+  public void socketRequest() throws Exception {
+    Path sourceFile = copyFixture("InvalidDaemonTestConfiguration");
+    try (ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+      this.daemon.serve(serverSocket);
+
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+        PrintWriter request = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        request.println(sourceFile);
+
+        List<String> lines = readResult(new BufferedReader(new InputStreamReader(socket.getInputStream(),
+            StandardCharsets.UTF_8)));
+        assertThat(lines.get(0), startsWith(sourceFile + ":"));
+        assertThat(lines.get(2), endsWith(" ms, 2 errors"));
+      }
+    }
+  }
+
+  /**
+   * Tests that an invalid request is answered with an error result and that the daemon answers further requests.
+   */
+  @Test(timeout = 30000)
+  public void invalidSocketRequest() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+      this.daemon.serve(serverSocket);
+
+      for (String sourceFile : new String[] {"Invalid\0Path.java", ""}) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+          PrintWriter request = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+          request.println(sourceFile);
+
+          List<String> lines = readResult(new BufferedReader(new InputStreamReader(socket.getInputStream(),
+              StandardCharsets.UTF_8)));
+          assertThat(lines.get(lines.size() - 1), endsWith(sourceFile.isEmpty() ? " ms, 0 errors" : " ms, 1 errors"));
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests the exit code for invalid arguments.
+   */
+  @Test
+  public void commandLineUsage() {
+    PrintStream nullStream = new PrintStream(OutputStream.nullOutputStream(), true);
+    assertThat(ValidationDaemon.run(new String[] {"--unknown"}, nullStream, nullStream), is(2));
+    assertThat(ValidationDaemon.run(new String[0], nullStream, nullStream), is(2));
+  }
+
+  private Path copyFixture(String fixture) throws IOException, URISyntaxException {
+    Path target = this.sourceRoot.resolve(PACKAGE_PATH + fixture + ".java");
+    Files.createDirectories(target.getParent());
+    Files.copy(Paths.get(getClass().getResource(FIXTURE_PATH + fixture + ".java").toURI()), target,
+        StandardCopyOption.REPLACE_EXISTING);
+    return target;
+  }
+
+  private static List<String> readResult(BufferedReader in) throws IOException {
+    List<String> lines = new ArrayList<>();
+    String line;
+    do {
+      line = in.readLine();
+      lines.add(line);
+    } while (line != null && !line.startsWith(ValidationResult.SUMMARY_PREFIX));
+    return lines;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+/**
+ * Invalid configuration classes violating every check of the bytecode validator.
+ *
+ * @author Michael Pellaton
+ * @see BytecodeValidator
+ */
+@Configuration
+public final class InvalidBytecodeTestConfiguration {
+
+  @Autowired
+  public InvalidBytecodeTestConfiguration(String dependency) {
+  }
+
+  @Bean
+  private String privateString() {
+    return "HELLO JUNIT";
+  }
+
+  @Bean
+  public final Integer finalInteger() {
+    return Integer.valueOf(42);
+  }
+
+  @Bean
+  public void voidBean() {
+  }
+
+  @Bean
+  public static Long staticLong() {
+    return Long.valueOf(42L);
+  }
+
+  @Bean
+  public PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+    return new PropertySourcesPlaceholderConfigurer();
+  }
+
+  @Configuration
+  public class InnerConfiguration {
+  }
+
+  @ComposedBytecodeConfiguration
+  public static final class MetaAnnotatedConfiguration {
+  }
+}
+
+class BeanMethodOutsideConfiguration {
+
+  @Bean
+  public String someString() {
+    return "HELLO JUNIT";
+  }
+}
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Configuration
+@interface ComposedBytecodeConfiguration {
+}
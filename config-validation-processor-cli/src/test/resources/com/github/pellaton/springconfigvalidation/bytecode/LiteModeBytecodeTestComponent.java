@@ -0,0 +1,65 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+/**
+ * Component whose {@code @Bean} methods Spring processes in lite mode, on which the bytecode validator should not
+ * report anything.
+ *
+ * @author Michael Pellaton
+ * @see BytecodeValidator
+ */
+@Component
+public class LiteModeBytecodeTestComponent {
+
+  @Bean
+  public String someString() {
+    return "HELLO JUNIT";
+  }
+
+
+  @Service
+  static class NestedService {
+
+    @Bean
+    public Integer someInteger() {
+      return Integer.valueOf(42);
+    }
+  }
+
+
+  interface BeanDefaults {
+
+    @Bean
+    default Long someLong() {
+      return Long.valueOf(42L);
+    }
+  }
+}
+
+class LiteModeBeanMethodOutsideComponent {
+
+  @Bean
+  public String someString() {
+    return "HELLO JUNIT";
+  }
+}
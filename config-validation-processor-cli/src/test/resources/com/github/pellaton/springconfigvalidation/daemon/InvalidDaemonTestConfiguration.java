@@ -0,0 +1,39 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Invalid configuration class importing a configuration class of the same source root, which the validation daemon
+ * resolves without validating it.
+ *
+ * @author Michael Pellaton
+ * @see ValidationDaemon
+ */
+@Configuration
+@Import(ValidDaemonTestConfiguration.class)
+public final class InvalidDaemonTestConfiguration {
+
+  @Bean
+  private Integer someInteger() {
+    return Integer.valueOf(42);
+  }
+}
@@ -0,0 +1,412 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates a companion class for every {@code @Configuration} class of a round that registers the bean definitions
+ * of its {@code @Bean} methods directly: bean name and aliases, bean type, factory method, static flag, init and
+ * destroy methods. The runtime module uses the companions instead of parsing the classes with the
+ * {@code ConfigurationClassPostProcessor}. The companion of {@code com.example.AppConfig} is
+ * {@code com.example.AppConfig__BeanDefinitions}:
+ *
+ * <pre>
+ * public static String[] registerBeanDefinitions(BeanDefinitionRegistry registry, String configurationBeanName)
+ * </pre>
+ *
+ * <p>The method marks the bean definition of the configuration class as processed in full or lite mode, so the
+ * {@code ConfigurationClassPostProcessor} skips parsing it but still proxies the {@code @Bean} methods, registers the
+ * bean definitions of the {@code @Bean} methods and returns the binary names of the member configuration classes.
+ *
+ * <p>Only classes whose bean definitions are fully determined by the class itself are generated: classes with errors,
+ * other annotations than {@code @Configuration} (e.g. {@code @Import}, {@code @ComponentScan} or
+ * {@code @Conditional}), superclasses, overloaded {@code @Bean} methods or {@code @Bean} methods with other annotations
+ * than {@code @Primary}, {@code @Lazy} and {@code @DependsOn} are left to the {@code ConfigurationClassPostProcessor}.
+ * So are classes with member classes that are no generated configuration classes but could be components.
+ *
+ * @author Michael Pellaton
+ */
+final class BeanDefinitionsGenerator implements ValidationRule {
+
+  /**
+   * The suffix appended to the binary name of a configuration class to get the name of its companion class.
+   */
+  static final String SUFFIX = "__BeanDefinitions";
+
+  private static final String CONFIGURATION_CLASS_ATTRIBUTE =
+      "org.springframework.context.annotation.ConfigurationClassPostProcessor.configurationClass";
+  private static final String REGISTRY = "org.springframework.beans.factory.support.BeanDefinitionRegistry";
+  private static final String ROOT_BEAN_DEFINITION = "org.springframework.beans.factory.support.RootBeanDefinition";
+  private static final String INFER_METHOD = "(inferred)";
+  private static final String JAVA_LANG = "java.lang.";
+
+  private static final Set<ElementKind> ELEMENT_KINDS = Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS));
+  private static final Set<String> ANNOTATION_TYPES = Collections.singleton(SpringTypeNames.CONFIGURATION);
+  private static final Set<String> BEAN_METHOD_ANNOTATIONS;
+
+  static {
+    Set<String> beanMethodAnnotations = new HashSet<String>();
+    beanMethodAnnotations.add(SpringTypeNames.BEAN);
+    beanMethodAnnotations.add(SpringTypeNames.PRIMARY);
+    beanMethodAnnotations.add(SpringTypeNames.LAZY);
+    beanMethodAnnotations.add(SpringTypeNames.DEPENDS_ON);
+    BEAN_METHOD_ANNOTATIONS = Collections.unmodifiableSet(beanMethodAnnotations);
+  }
+
+  private final List<TypeElement> configurationClasses = new ArrayList<TypeElement>();
+  private final Set<Element> excluded = new HashSet<Element>();
+
+  private Elements elements;
+  private Types types;
+
+
+  @Override
+  public String getName() {
+    return "BEAN_DEFINITIONS";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.types = context.getProcessingEnvironment().getTypeUtils();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (facts.isConfigurationClass() && isDirectlyAnnotated(facts.getElement(), SpringTypeNames.CONFIGURATION)) {
+      this.configurationClasses.add((TypeElement) facts.getElement());
+    }
+  }
+
+  /**
+   * Excludes the class declaring an element an error was reported on.
+   *
+   * @param element the element of the error
+   */
+  void exclude(Element element) {
+    Element type = element;
+    while (type != null && !(type instanceof TypeElement)) {
+      type = type.getEnclosingElement();
+    }
+    if (type != null) {
+      this.excluded.add(type);
+    }
+  }
+
+  /**
+   * Generates the companion classes of the configuration classes of the current round. Invoked at the end of the
+   * round, after all errors of the round have been reported.
+   *
+   * @param filer the filer creating the source files
+   * @param messager the messager of the warnings if a source file cannot be written
+   */
+  void generate(Filer filer, Messager messager) {
+    for (TypeElement configurationClass : this.configurationClasses) {
+      if (!isGenerated(configurationClass)) {
+        continue;
+      }
+      String companion = this.elements.getBinaryName(configurationClass) + SUFFIX;
+      try {
+        Writer writer = filer.createSourceFile(companion, configurationClass).openWriter();
+        try {
+          writeCompanion(configurationClass, writer);
+        } finally {
+          writer.close();
+        }
+      } catch (IOException e) {
+        messager.printMessage(Kind.WARNING, "Could not write " + companion + ": " + e.getMessage());
+      }
+    }
+    this.configurationClasses.clear();
+  }
+
+  private boolean isGenerated(TypeElement type) {
+    if (this.excluded.contains(type) || type.getModifiers().contains(Modifier.PRIVATE)
+        || type.getModifiers().contains(Modifier.ABSTRACT) || type.getNestingKind() != NestingKind.TOP_LEVEL
+        && !(type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC))
+        || !hasOnlyAnnotations(type, ANNOTATION_TYPES) || !isObject(type.getSuperclass())) {
+      return false;
+    }
+    for (TypeMirror superinterface : type.getInterfaces()) {
+      if (!getBeanMethods(((DeclaredType) superinterface).asElement()).isEmpty()) {
+        return false;
+      }
+    }
+    Set<String> methodNames = new HashSet<String>();
+    for (ExecutableElement beanMethod : getBeanMethods(type)) {
+      if (!methodNames.add(beanMethod.getSimpleName().toString())
+          || !hasOnlyAnnotations(beanMethod, BEAN_METHOD_ANNOTATIONS)
+          || getAnnotationValue(beanMethod, SpringTypeNames.BEAN, "autowire") != null) {
+        return false;
+      }
+    }
+    for (TypeElement memberClass : ElementFilter.typesIn(type.getEnclosedElements())) {
+      if (isComponentCandidate(memberClass)
+          && (!isDirectlyAnnotated(memberClass, SpringTypeNames.CONFIGURATION) || !isGenerated(memberClass))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isComponentCandidate(TypeElement type) {
+    for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+      if (getAnnotationTypeName(annotation).startsWith("org.springframework.")) {
+        return true;
+      }
+    }
+    return !getBeanMethods(type).isEmpty();
+  }
+
+  private static boolean isObject(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.Object");
+  }
+
+  private static List<ExecutableElement> getBeanMethods(Element type) {
+    List<ExecutableElement> beanMethods = new ArrayList<ExecutableElement>();
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (isDirectlyAnnotated(method, SpringTypeNames.BEAN)) {
+        beanMethods.add(method);
+      }
+    }
+    return beanMethods;
+  }
+
+  private static boolean hasOnlyAnnotations(Element element, Set<String> annotationTypes) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      String name = getAnnotationTypeName(annotation);
+      if (!annotationTypes.contains(name) && !name.startsWith(JAVA_LANG)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDirectlyAnnotated(Element element, String annotationType) {
+    return getAnnotation(element, annotationType) != null;
+  }
+
+  private static AnnotationMirror getAnnotation(Element element, String annotationType) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      if (getAnnotationTypeName(annotation).equals(annotationType)) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  private static String getAnnotationTypeName(AnnotationMirror annotation) {
+    return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+  }
+
+  private static AnnotationValue getAnnotationValue(Element element, String annotationType, String attribute) {
+    AnnotationMirror annotation = getAnnotation(element, annotationType);
+    if (annotation == null) {
+      return null;
+    }
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+        : annotation.getElementValues().entrySet()) {
+      if (value.getKey().getSimpleName().contentEquals(attribute)) {
+        return value.getValue();
+      }
+    }
+    return null;
+  }
+
+  private static List<String> getStrings(Element element, String annotationType, String attribute) {
+    List<String> strings = new ArrayList<String>();
+    AnnotationValue value = getAnnotationValue(element, annotationType, attribute);
+    if (value != null && value.getValue() instanceof List) {
+      for (Object string : (List<?>) value.getValue()) {
+        strings.add((String) ((AnnotationValue) string).getValue());
+      }
+    } else if (value != null) {
+      strings.add((String) value.getValue());
+    }
+    return strings;
+  }
+
+  private static boolean getBoolean(Element element, String annotationType, String attribute, boolean defaultValue) {
+    AnnotationValue value = getAnnotationValue(element, annotationType, attribute);
+    return value == null ? defaultValue : ((Boolean) value.getValue()).booleanValue();
+  }
+
+  private void writeCompanion(TypeElement configurationClass, Writer writer) throws IOException {
+    PackageElement packageElement = this.elements.getPackageOf(configurationClass);
+    String binaryName = this.elements.getBinaryName(configurationClass).toString();
+    String simpleName = binaryName.substring(binaryName.lastIndexOf('.') + 1) + SUFFIX;
+    boolean proxyBeanMethods = getBoolean(configurationClass, SpringTypeNames.CONFIGURATION, "proxyBeanMethods",
+        true);
+
+    StringBuilder source = new StringBuilder();
+    if (!packageElement.isUnnamed()) {
+      source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+    }
+    source.append("/**\n * Bean definitions of {@link ").append(configurationClass.getQualifiedName())
+        .append("}, generated by the Spring configuration validation processor.\n */\n")
+        .append("public final class ").append(simpleName).append(" {\n\n")
+        .append("  private ").append(simpleName).append("() {\n  }\n\n")
+        .append("  /**\n   * Registers the bean definitions of the {@code @Bean} methods.\n   *\n")
+        .append("   * @param registry the registry\n")
+        .append("   * @param configurationBeanName the name of the bean definition of the configuration class\n")
+        .append("   * @return the binary names of the member configuration classes\n   */\n")
+        .append("  public static String[] registerBeanDefinitions(").append(REGISTRY)
+        .append(" registry, String configurationBeanName) {\n")
+        .append("    registry.getBeanDefinition(configurationBeanName).setAttribute(\"")
+        .append(CONFIGURATION_CLASS_ATTRIBUTE).append("\", \"").append(proxyBeanMethods ? "full" : "lite")
+        .append("\");\n");
+    for (ExecutableElement beanMethod : getBeanMethods(configurationClass)) {
+      writeBeanDefinition(binaryName, packageElement, beanMethod, source);
+    }
+    source.append("    return new String[] {");
+    String separator = "";
+    for (TypeElement memberClass : ElementFilter.typesIn(configurationClass.getEnclosedElements())) {
+      if (isDirectlyAnnotated(memberClass, SpringTypeNames.CONFIGURATION)) {
+        source.append(separator).append('"').append(this.elements.getBinaryName(memberClass)).append('"');
+        separator = ", ";
+      }
+    }
+    source.append("};\n  }\n}\n");
+    writer.write(source.toString());
+  }
+
+  private void writeBeanDefinition(String configurationClass, PackageElement packageElement,
+      ExecutableElement beanMethod, StringBuilder source) {
+    String methodName = beanMethod.getSimpleName().toString();
+    List<String> names = getStrings(beanMethod, SpringTypeNames.BEAN, "name");
+    if (names.isEmpty()) {
+      names = getStrings(beanMethod, SpringTypeNames.BEAN, "value");
+    }
+    String beanName = names.isEmpty() ? methodName : names.get(0);
+
+    source.append("\n    {\n      ").append(ROOT_BEAN_DEFINITION).append(" definition = new ")
+        .append(ROOT_BEAN_DEFINITION).append("();\n");
+    if (beanMethod.getModifiers().contains(Modifier.STATIC)) {
+      source.append("      definition.setBeanClassName(").append(quote(configurationClass)).append(");\n");
+    } else {
+      source.append("      definition.setFactoryBeanName(configurationBeanName);\n");
+    }
+    source.append("      definition.setUniqueFactoryMethodName(").append(quote(methodName)).append(");\n");
+    TypeMirror beanType = this.types.erasure(beanMethod.getReturnType());
+    if (isAccessible(beanType, packageElement)) {
+      source.append("      definition.setTargetType(").append(beanType).append(".class);\n");
+    }
+    source.append("      definition.setAutowireMode(").append(ROOT_BEAN_DEFINITION).append(".AUTOWIRE_CONSTRUCTOR);\n");
+    if (!getBoolean(beanMethod, SpringTypeNames.BEAN, "autowireCandidate", true)) {
+      source.append("      definition.setAutowireCandidate(false);\n");
+    }
+    List<String> initMethod = getStrings(beanMethod, SpringTypeNames.BEAN, "initMethod");
+    if (!initMethod.isEmpty() && initMethod.get(0).trim().length() > 0) {
+      source.append("      definition.setInitMethodName(").append(quote(initMethod.get(0))).append(");\n");
+    }
+    List<String> destroyMethod = getStrings(beanMethod, SpringTypeNames.BEAN, "destroyMethod");
+    source.append("      definition.setDestroyMethodName(")
+        .append(quote(destroyMethod.isEmpty() ? INFER_METHOD : destroyMethod.get(0))).append(");\n");
+    if (isDirectlyAnnotated(beanMethod, SpringTypeNames.PRIMARY)) {
+      source.append("      definition.setPrimary(true);\n");
+    }
+    if (isDirectlyAnnotated(beanMethod, SpringTypeNames.LAZY)) {
+      source.append("      definition.setLazyInit(")
+          .append(getBoolean(beanMethod, SpringTypeNames.LAZY, "value", true)).append(");\n");
+    }
+    List<String> dependsOn = getStrings(beanMethod, SpringTypeNames.DEPENDS_ON, "value");
+    if (!dependsOn.isEmpty()) {
+      source.append("      definition.setDependsOn(");
+      for (int i = 0; i < dependsOn.size(); i++) {
+        source.append(i == 0 ? "" : ", ").append(quote(dependsOn.get(i)));
+      }
+      source.append(");\n");
+    }
+    source.append("      registry.registerBeanDefinition(").append(quote(beanName)).append(", definition);\n");
+    for (int i = 1; i < names.size(); i++) {
+      source.append("      registry.registerAlias(").append(quote(beanName)).append(", ").append(quote(names.get(i)))
+          .append(");\n");
+    }
+    source.append("    }\n");
+  }
+
+  private boolean isAccessible(TypeMirror type, PackageElement packageElement) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return isAccessible(((ArrayType) type).getComponentType(), packageElement);
+    }
+    if (type.getKind() != TypeKind.DECLARED) {
+      return type.getKind().isPrimitive();
+    }
+    boolean samePackage = this.elements.getPackageOf(((DeclaredType) type).asElement()).equals(packageElement);
+    for (Element element = ((DeclaredType) type).asElement(); element instanceof TypeElement;
+        element = element.getEnclosingElement()) {
+      if (element.getModifiers().contains(Modifier.PRIVATE)
+          || !samePackage && !element.getModifiers().contains(Modifier.PUBLIC)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String quote(String value) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        quoted.append('\\');
+      }
+      quoted.append(c);
+    }
+    return quoted.append('"').toString();
+  }
+}
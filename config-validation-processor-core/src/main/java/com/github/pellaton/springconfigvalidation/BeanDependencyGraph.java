@@ -0,0 +1,413 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Builds the dependency graph of the beans defined in the compilation and reports the dependency cycles among them.
+ * The nodes of the graph are the {@code @Configuration} classes and the {@code @Bean} methods. The edges lead from a
+ * bean to the beans it depends on:
+ * <ul>
+ * <li>from a {@code @Bean} method to every bean whose type is assignable to the type of one of its parameters,</li>
+ * <li>from a configuration class to every bean assignable to one of its injected fields, {@code @Autowired} method
+ * parameters or constructor parameters and</li>
+ * <li>from a non-{@code static} {@code @Bean} method to the configuration class declaring it.</li>
+ * </ul>
+ * The injection points are resolved by {@link InjectionPoints}.
+ *
+ * <p>The types are resolved while the rules are evaluated, so the graph holds the names of the types only. It is built
+ * and searched for cycles with {@link StronglyConnectedComponents} at the end of every round, in time linear in the
+ * number of beans and dependencies. The beans of other modules are added from their {@link BeanMetadata}, so cycles
+ * through the modules on the classpath are found if they were compiled with the {@code springconfigvalidation.metadata}
+ * option.
+ *
+ * @author Michael Pellaton
+ */
+final class BeanDependencyGraph implements ValidationRule {
+
+  /**
+   * The name of the graph resource in the class output if the graph is written in the DOT language.
+   */
+  static final String DOT_RESOURCE = "META-INF/spring-config-validation-beans.dot";
+
+  /**
+   * The name of the graph resource in the class output if the graph is written as JSON.
+   */
+  static final String JSON_RESOURCE = "META-INF/spring-config-validation-beans.json";
+
+  private static final Set<ElementKind> ELEMENT_KINDS =
+      Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS, ElementKind.METHOD));
+  private static final Set<String> ANNOTATION_TYPES;
+
+  static {
+    Set<String> annotationTypes = new HashSet<String>();
+    annotationTypes.add(SpringTypeNames.CONFIGURATION);
+    annotationTypes.add(SpringTypeNames.BEAN);
+    ANNOTATION_TYPES = Collections.unmodifiableSet(annotationTypes);
+  }
+
+  private final List<Node> nodes = new ArrayList<Node>();
+  private final Set<String> reportedCycles = new HashSet<String>();
+  private final MergedBeanMetadata externalMetadata;
+
+  private InjectionPoints injectionPoints;
+  private List<Node> externalNodes;
+  private List<Node> graphNodes;
+  private int[][] edges;
+  private List<int[]> cycles;
+
+
+  /**
+   * Constructor.
+   *
+   * @param externalMetadata the bean metadata of the modules on the classpath, whose beans are added to the graph
+   */
+  BeanDependencyGraph(MergedBeanMetadata externalMetadata) {
+    this.externalMetadata = externalMetadata;
+  }
+
+
+  @Override
+  public String getName() {
+    return "BEAN_DEPENDENCY_GRAPH";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.injectionPoints = context.getInjectionPoints();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (facts.isConfigurationClass()) {
+      TypeElement type = (TypeElement) facts.getElement();
+      String className = type.getQualifiedName().toString();
+      Node node = new Node(type, DiagnosticsReport.getSignature(type), true, className, className,
+          this.injectionPoints.getSupertypes(type.asType()), null);
+      this.injectionPoints.addClassDependencies(type, node.dependencies);
+      this.nodes.add(node);
+    } else if (facts.getKind() == ElementKind.METHOD && facts.isAnnotatedWith(SpringTypeNames.BEAN)) {
+      ExecutableElement method = (ExecutableElement) facts.getElement();
+      String className = ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString();
+      Node node = new Node(method, DiagnosticsReport.getSignature(method), false, className,
+          this.injectionPoints.getTypeName(method.getReturnType()),
+          this.injectionPoints.getSupertypes(method.getReturnType()),
+          facts.hasModifier(Modifier.STATIC) ? null : className);
+      this.injectionPoints.addParameterDependencies(method, true, node.dependencies);
+      this.nodes.add(node);
+    }
+  }
+
+  /**
+   * Builds the graph of the beans seen so far and reports every dependency cycle that has not been reported in an
+   * earlier round. A cycle is reported on its bean of the compilation whose name sorts first, cycles among beans of
+   * other modules only are not reported. Invoked at the end of every round, while the elements of the round can still
+   * be located in the source.
+   *
+   * @param reporter the reporter to report the cycles to
+   */
+  void reportCycles(ValidationReporter reporter) {
+    analyze();
+    for (int[] cycle : this.cycles) {
+      StringBuilder key = new StringBuilder();
+      int start = -1;
+      for (int node : cycle) {
+        Node member = this.graphNodes.get(node);
+        key.append(member.name).append(',');
+        if (member.element != null && (start == -1 || member.name.compareTo(this.graphNodes.get(start).name) < 0)) {
+          start = node;
+        }
+      }
+      if (this.reportedCycles.add(key.toString()) && start != -1) {
+        reporter.report(SpringConfigurationMessage.BEAN_DEPENDENCY_CYCLE, this.graphNodes.get(start).element, null,
+            describeCycle(cycle, start));
+      }
+    }
+  }
+
+  private void analyze() {
+    this.graphNodes = new ArrayList<Node>(this.nodes);
+    if (this.externalMetadata != null) {
+      Set<String> classNames = new HashSet<String>();
+      for (Node node : this.nodes) {
+        classNames.add(node.declaringClass);
+      }
+      for (Node node : getExternalNodes()) {
+        if (!classNames.contains(node.declaringClass)) {
+          this.graphNodes.add(node);
+        }
+      }
+    }
+    buildEdges();
+    this.cycles = new ArrayList<int[]>();
+    for (int[] component : StronglyConnectedComponents.find(this.edges)) {
+      if (component.length > 1) {
+        this.cycles.add(component);
+      }
+    }
+  }
+
+  private List<Node> getExternalNodes() {
+    if (this.externalNodes == null) {
+      this.externalNodes = new ArrayList<Node>();
+      for (BeanMetadata.ClassMetadata external : this.externalMetadata.getClasses()) {
+        String className = external.getName();
+        if (external.isConfiguration()) {
+          Node node = new Node(null, className, true, className, className, external.getTypes(), null);
+          node.dependencies.addAll(external.getDependencies());
+          this.externalNodes.add(node);
+        }
+        for (BeanMetadata.BeanMethodMetadata beanMethod : external.getBeanMethods()) {
+          Node node = new Node(null, beanMethod.getName(), false, className, beanMethod.getType(),
+              beanMethod.getTypes(), beanMethod.isStatic() ? null : className);
+          node.dependencies.addAll(beanMethod.getDependencies());
+          this.externalNodes.add(node);
+        }
+      }
+    }
+    return this.externalNodes;
+  }
+
+  private void buildEdges() {
+    Map<String, List<Integer>> beansByType = new HashMap<String, List<Integer>>();
+    Map<String, Integer> configurationClasses = new HashMap<String, Integer>();
+    for (int i = 0; i < this.graphNodes.size(); i++) {
+      Node node = this.graphNodes.get(i);
+      if (node.configurationClass) {
+        configurationClasses.put(node.type, Integer.valueOf(i));
+      }
+      for (String type : node.types) {
+        List<Integer> beans = beansByType.get(type);
+        if (beans == null) {
+          beans = new ArrayList<Integer>();
+          beansByType.put(type, beans);
+        }
+        beans.add(Integer.valueOf(i));
+      }
+    }
+
+    this.edges = new int[this.graphNodes.size()][];
+    for (int i = 0; i < this.graphNodes.size(); i++) {
+      Node node = this.graphNodes.get(i);
+      Set<Integer> targets = new LinkedHashSet<Integer>();
+      if (node.factory != null && configurationClasses.containsKey(node.factory)) {
+        targets.add(configurationClasses.get(node.factory));
+      }
+      for (String dependency : node.dependencies) {
+        List<Integer> beans = beansByType.get(dependency);
+        if (beans != null) {
+          targets.addAll(beans);
+        }
+      }
+      // a bean never depends on itself, Spring only injects other beans of the same type
+      targets.remove(Integer.valueOf(i));
+      this.edges[i] = new int[targets.size()];
+      int edge = 0;
+      for (Integer target : targets) {
+        this.edges[i][edge++] = target.intValue();
+      }
+    }
+  }
+
+  private String describeCycle(int[] component, int start) {
+    Set<Integer> members = new HashSet<Integer>();
+    for (int node : component) {
+      members.add(Integer.valueOf(node));
+    }
+    // breadth-first search of the shortest path from the start node back to itself within the component
+    Map<Integer, Integer> predecessors = new HashMap<Integer, Integer>();
+    Queue<Integer> queue = new ArrayDeque<Integer>();
+    queue.add(Integer.valueOf(start));
+    int last = start;
+    search:
+    while (!queue.isEmpty()) {
+      int node = queue.remove().intValue();
+      for (int target : this.edges[node]) {
+        if (target == start) {
+          last = node;
+          break search;
+        }
+        Integer key = Integer.valueOf(target);
+        if (members.contains(key) && !predecessors.containsKey(key)) {
+          predecessors.put(key, Integer.valueOf(node));
+          queue.add(key);
+        }
+      }
+    }
+
+    List<String> path = new ArrayList<String>();
+    path.add(this.graphNodes.get(start).name);
+    for (int node = last; node != start; node = predecessors.get(Integer.valueOf(node)).intValue()) {
+      path.add(1, this.graphNodes.get(node).name);
+    }
+    path.add(this.graphNodes.get(start).name);
+    StringBuilder description = new StringBuilder();
+    for (String name : path) {
+      if (description.length() > 0) {
+        description.append(" -> ");
+      }
+      description.append(name);
+    }
+    return description.toString();
+  }
+
+  /**
+   * Writes the graph in the DOT language of Graphviz. The beans of a cycle are colored red, the beans of other modules
+   * are dashed.
+   *
+   * @param writer the writer of the graph resource
+   * @throws IOException if writing fails
+   */
+  void writeDot(Writer writer) throws IOException {
+    analyze();
+    Set<Integer> cycleMembers = new HashSet<Integer>();
+    for (int[] cycle : this.cycles) {
+      for (int node : cycle) {
+        cycleMembers.add(Integer.valueOf(node));
+      }
+    }
+    writer.write("digraph beans {\n");
+    for (int i = 0; i < this.graphNodes.size(); i++) {
+      Node node = this.graphNodes.get(i);
+      writer.write("  ");
+      writeDotString(writer, node.name);
+      writer.write(node.configurationClass ? " [shape=box" : " [shape=ellipse");
+      writer.write(node.element == null ? ", style=dashed" : "");
+      writer.write(cycleMembers.contains(Integer.valueOf(i)) ? ", color=red];\n" : "];\n");
+    }
+    for (int i = 0; i < this.graphNodes.size(); i++) {
+      for (int target : this.edges[i]) {
+        writer.write("  ");
+        writeDotString(writer, this.graphNodes.get(i).name);
+        writer.write(" -> ");
+        writeDotString(writer, this.graphNodes.get(target).name);
+        writer.write(";\n");
+      }
+    }
+    writer.write("}\n");
+  }
+
+  private static void writeDotString(Writer writer, String value) throws IOException {
+    writer.write('"');
+    writer.write(value.replace("\\", "\\\\").replace("\"", "\\\""));
+    writer.write('"');
+  }
+
+  /**
+   * Writes the graph as a JSON object with the arrays {@code nodes}, {@code edges} and {@code cycles}.
+   *
+   * @param writer the writer of the graph resource
+   * @throws IOException if writing fails
+   */
+  void writeJson(Writer writer) throws IOException {
+    analyze();
+    writer.write("{\n  \"nodes\": [");
+    for (int i = 0; i < this.graphNodes.size(); i++) {
+      Node node = this.graphNodes.get(i);
+      writer.write(i == 0 ? "\n    {\"id\": " : ",\n    {\"id\": ");
+      ReportFormat.writeString(writer, node.name);
+      writer.write(node.configurationClass ? ", \"kind\": \"configuration\"" : ", \"kind\": \"bean\"");
+      writer.write(", \"type\": ");
+      ReportFormat.writeString(writer, node.type);
+      writer.write(node.element == null ? ", \"external\": true}" : "}");
+    }
+    writer.write("\n  ],\n  \"edges\": [");
+    boolean first = true;
+    for (int i = 0; i < this.graphNodes.size(); i++) {
+      for (int target : this.edges[i]) {
+        writer.write(first ? "\n    {\"from\": " : ",\n    {\"from\": ");
+        ReportFormat.writeString(writer, this.graphNodes.get(i).name);
+        writer.write(", \"to\": ");
+        ReportFormat.writeString(writer, this.graphNodes.get(target).name);
+        writer.write("}");
+        first = false;
+      }
+    }
+    writer.write("\n  ],\n  \"cycles\": [");
+    for (int i = 0; i < this.cycles.size(); i++) {
+      writer.write(i == 0 ? "\n    [" : ",\n    [");
+      int[] cycle = this.cycles.get(i);
+      for (int j = 0; j < cycle.length; j++) {
+        if (j > 0) {
+          writer.write(", ");
+        }
+        ReportFormat.writeString(writer, this.graphNodes.get(cycle[j]).name);
+      }
+      writer.write("]");
+    }
+    writer.write("\n  ]\n}\n");
+  }
+
+
+  /**
+   * A bean of the graph.
+   */
+  private static final class Node {
+
+    private final Element element;
+    private final boolean configurationClass;
+    private final String name;
+    private final String declaringClass;
+    private final String type;
+    private final Collection<String> types;
+    private final String factory;
+    private final List<String> dependencies = new ArrayList<String>();
+
+
+    Node(Element element, String name, boolean configurationClass, String declaringClass, String type,
+        Collection<String> types, String factory) {
+      this.element = element;
+      this.configurationClass = configurationClass;
+      this.name = name;
+      this.declaringClass = declaringClass;
+      this.type = type;
+      this.types = types;
+      this.factory = factory;
+    }
+  }
+}
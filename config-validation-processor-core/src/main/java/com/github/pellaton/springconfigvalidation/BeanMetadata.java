@@ -0,0 +1,488 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The bean metadata of a module: its configuration classes with their imports, injection points and {@code @Bean}
+ * methods. The metadata is written by {@link BeanMetadataWriter} with the {@code springconfigvalidation.metadata}
+ * option and read by downstream compilations, which can analyze the beans of their dependencies without their sources
+ * or classes.
+ *
+ * <p>The metadata is a big-endian binary file. All strings are stored once in a string table and referenced by their
+ * index, and the configuration classes are listed in a directory sorted by name:
+ *
+ * <pre>
+ * u4 magic 'SCVB', u2 version, u4 string count, u4 class count
+ * u4[string count] string offsets, relative to the string data
+ * (u4 name, u4 record offset relative to the records)[class count]
+ * u4 string data length, (u2 length, UTF-8 bytes)[string count]
+ * records: u1 flags (1 configuration, 2 proxyBeanMethods), u2 n, u4[n] imports, u2 n, u4[n] types,
+ *          u2 n, u4[n] dependencies, u2 n, (u4 name, u4 type, u1 flags (1 static, 2 BFPP), u2 n, u4[n] types,
+ *          u2 n, u4[n] dependencies)[n] bean methods
+ * </pre>
+ *
+ * Reading the metadata only checks the header. The strings and classes are decoded when they are first accessed, so
+ * the metadata of large modules can be memory-mapped and looked up by class name without decoding the whole file.
+ * Every offset, length and index is checked against the bounds of the file while decoding, and a truncated or corrupt
+ * file is reported with an {@link IOException}. Instances are not thread-safe.
+ *
+ * @author Michael Pellaton
+ */
+final class BeanMetadata {
+
+  /**
+   * The name of the metadata resource.
+   */
+  static final String RESOURCE = "META-INF/spring-config-validation.beans";
+
+  static final int MAGIC = 0x53435642;
+  static final int VERSION = 1;
+  static final int CONFIGURATION = 1;
+  static final int PROXY_BEAN_METHODS = 2;
+  static final int STATIC = 1;
+  static final int BEAN_FACTORY_POST_PROCESSOR = 2;
+
+  private static final int HEADER_SIZE = 14;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final String source;
+  private final ByteBuffer buffer;
+  private final int classCount;
+  private final int directory;
+  private final int stringData;
+  private final int records;
+  private final String[] strings;
+
+
+  private BeanMetadata(String source, ByteBuffer buffer) throws IOException {
+    this.source = source;
+    this.buffer = buffer;
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException(source + " is no bean metadata file");
+    }
+    if (buffer.getShort(4) != VERSION) {
+      throw new IOException(source + " has the unsupported version " + buffer.getShort(4));
+    }
+    int stringCount = buffer.getInt(6);
+    this.classCount = buffer.getInt(10);
+    long stringDataLength = HEADER_SIZE + 4L * stringCount + 8L * this.classCount;
+    if (stringCount < 0 || this.classCount < 0 || stringDataLength + 4 > buffer.limit()) {
+      throw new IOException(source + " is truncated");
+    }
+    this.directory = HEADER_SIZE + 4 * stringCount;
+    this.stringData = (int) stringDataLength + 4;
+    int stringDataSize = buffer.getInt((int) stringDataLength);
+    if (stringDataSize < 0 || stringDataSize > buffer.limit() - this.stringData) {
+      throw new IOException(source + " is truncated");
+    }
+    this.records = this.stringData + stringDataSize;
+    this.strings = new String[stringCount];
+  }
+
+
+  /**
+   * Reads metadata from a buffer.
+   *
+   * @param source the description of the source of the metadata, used in messages
+   * @param buffer the buffer holding the metadata, which must not be modified afterwards
+   * @return the metadata
+   * @throws IOException if the buffer does not hold metadata of a supported version
+   */
+  static BeanMetadata read(String source, ByteBuffer buffer) throws IOException {
+    return new BeanMetadata(source, buffer);
+  }
+
+  /**
+   * Memory-maps the metadata in a file.
+   *
+   * @param file the metadata file
+   * @return the metadata
+   * @throws IOException if the file cannot be read or does not hold metadata of a supported version
+   */
+  static BeanMetadata map(File file) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = randomAccessFile.getChannel();
+      return read(file.getPath(), channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+  /**
+   * Reads the metadata from a stream into memory.
+   *
+   * @param source the description of the source of the metadata, used in messages
+   * @param inputStream the stream, which is closed afterwards
+   * @return the metadata
+   * @throws IOException if the stream cannot be read or does not hold metadata of a supported version
+   */
+  static BeanMetadata read(String source, InputStream inputStream) throws IOException {
+    try {
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      byte[] chunk = new byte[8192];
+      for (int read = inputStream.read(chunk); read != -1; read = inputStream.read(chunk)) {
+        content.write(chunk, 0, read);
+      }
+      return read(source, ByteBuffer.wrap(content.toByteArray()));
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Gets the description of the source of the metadata.
+   *
+   * @return the source of the metadata
+   */
+  String getSource() {
+    return this.source;
+  }
+
+  /**
+   * Gets the number of classes in the metadata.
+   *
+   * @return the number of classes
+   */
+  int getClassCount() {
+    return this.classCount;
+  }
+
+  /**
+   * Gets the qualified name of a class.
+   *
+   * @param index the index of the class in the directory
+   * @return the qualified name
+   * @throws IOException if the metadata is corrupt
+   */
+  String getClassName(int index) throws IOException {
+    return getString(this.buffer.getInt(this.directory + 8 * index));
+  }
+
+  /**
+   * Decodes a class.
+   *
+   * @param index the index of the class in the directory
+   * @return the class
+   * @throws IOException if the metadata is corrupt
+   */
+  ClassMetadata decodeClass(int index) throws IOException {
+    int offset = this.buffer.getInt(this.directory + 8 * index + 4);
+    if (offset < 0 || offset >= this.buffer.limit() - this.records) {
+      throw corrupt("record offset " + offset);
+    }
+    return new Decoder(this.records + offset).readClass(getClassName(index));
+  }
+
+  /**
+   * Looks up a class by its name with a binary search in the directory.
+   *
+   * @param className the qualified name of the class
+   * @return the class or {@code null} if the metadata does not contain the class
+   * @throws IOException if the metadata is corrupt
+   */
+  ClassMetadata findClass(String className) throws IOException {
+    int low = 0;
+    int high = this.classCount - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = getClassName(middle).compareTo(className);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return decodeClass(middle);
+      }
+    }
+    return null;
+  }
+
+  private String getString(int index) throws IOException {
+    if (index < 0 || index >= this.strings.length) {
+      throw corrupt("string index " + index);
+    }
+    String string = this.strings[index];
+    if (string == null) {
+      int offset = this.buffer.getInt(HEADER_SIZE + 4 * index);
+      if (offset < 0 || offset > this.records - this.stringData - 2) {
+        throw corrupt("string offset " + offset);
+      }
+      offset += this.stringData;
+      int length = this.buffer.getShort(offset) & 0xffff;
+      if (length > this.records - offset - 2) {
+        throw corrupt("string length " + length);
+      }
+      byte[] bytes = new byte[length];
+      ByteBuffer content = this.buffer.duplicate();
+      content.position(offset + 2);
+      content.get(bytes);
+      string = new String(bytes, UTF_8);
+      this.strings[index] = string;
+    }
+    return string;
+  }
+
+  private IOException corrupt(String detail) {
+    return new IOException(this.source + " is corrupt: invalid " + detail);
+  }
+
+
+  /**
+   * Decodes a class record.
+   */
+  private final class Decoder {
+
+    private int position;
+
+
+    Decoder(int position) {
+      this.position = position;
+    }
+
+
+    ClassMetadata readClass(String name) throws IOException {
+      int flags = readByte();
+      List<String> imports = readStrings();
+      List<String> types = readStrings();
+      List<String> dependencies = readStrings();
+      int beanCount = readShort();
+      List<BeanMethodMetadata> beanMethods = new ArrayList<BeanMethodMetadata>(beanCount);
+      for (int i = 0; i < beanCount; i++) {
+        String beanName = readString();
+        String beanType = readString();
+        int beanFlags = readByte();
+        beanMethods.add(new BeanMethodMetadata(beanName, beanType, beanFlags, readStrings(), readStrings()));
+      }
+      return new ClassMetadata(name, flags, imports, types, dependencies, beanMethods);
+    }
+
+    private List<String> readStrings() throws IOException {
+      int count = readShort();
+      if (count == 0) {
+        return Collections.emptyList();
+      }
+      List<String> values = new ArrayList<String>(count);
+      for (int i = 0; i < count; i++) {
+        values.add(readString());
+      }
+      return values;
+    }
+
+    private String readString() throws IOException {
+      int index = BeanMetadata.this.buffer.getInt(advance(4));
+      return getString(index);
+    }
+
+    private int readShort() throws IOException {
+      return BeanMetadata.this.buffer.getShort(advance(2)) & 0xffff;
+    }
+
+    private int readByte() throws IOException {
+      return BeanMetadata.this.buffer.get(advance(1)) & 0xff;
+    }
+
+    // returns the position of the next value and checks that its bytes are within the file
+    private int advance(int size) throws IOException {
+      int position = this.position;
+      if (position > BeanMetadata.this.buffer.limit() - size) {
+        throw new IOException(BeanMetadata.this.source + " is truncated");
+      }
+      this.position += size;
+      return position;
+    }
+  }
+
+
+  /**
+   * A class with {@code @Bean} methods, usually a configuration class.
+   */
+  static final class ClassMetadata {
+
+    private final String name;
+    private final int flags;
+    private final List<String> imports;
+    private final List<String> types;
+    private final List<String> dependencies;
+    private final List<BeanMethodMetadata> beanMethods;
+
+
+    ClassMetadata(String name, int flags, List<String> imports, List<String> types, List<String> dependencies,
+        List<BeanMethodMetadata> beanMethods) {
+      this.name = name;
+      this.flags = flags;
+      this.imports = imports;
+      this.types = types;
+      this.dependencies = dependencies;
+      this.beanMethods = beanMethods;
+    }
+
+
+    /**
+     * Gets the qualified name of the class.
+     *
+     * @return the qualified name
+     */
+    String getName() {
+      return this.name;
+    }
+
+    /**
+     * Checks whether the class is a configuration class.
+     *
+     * @return {@code true} if the class is annotated with {@code @Configuration}
+     */
+    boolean isConfiguration() {
+      return (this.flags & CONFIGURATION) != 0;
+    }
+
+    /**
+     * Checks whether the bean methods of the class are proxied.
+     *
+     * @return {@code true} if the class is a configuration class that does not declare {@code proxyBeanMethods = false}
+     */
+    boolean isProxyBeanMethods() {
+      return (this.flags & PROXY_BEAN_METHODS) != 0;
+    }
+
+    /**
+     * Gets the classes imported with {@code @Import}, directly or through a meta-annotation.
+     *
+     * @return the qualified names of the imported classes
+     */
+    List<String> getImports() {
+      return this.imports;
+    }
+
+    /**
+     * Gets the class and its supertypes except {@code java.lang.Object}.
+     *
+     * @return the qualified names of the types
+     */
+    List<String> getTypes() {
+      return this.types;
+    }
+
+    /**
+     * Gets the bean types the injection points of the class depend on.
+     *
+     * @return the qualified names of the bean types
+     */
+    List<String> getDependencies() {
+      return this.dependencies;
+    }
+
+    /**
+     * Gets the bean methods of the class.
+     *
+     * @return the bean methods
+     */
+    List<BeanMethodMetadata> getBeanMethods() {
+      return this.beanMethods;
+    }
+  }
+
+
+  /**
+   * A {@code @Bean} method.
+   */
+  static final class BeanMethodMetadata {
+
+    private final String name;
+    private final String type;
+    private final int flags;
+    private final List<String> types;
+    private final List<String> dependencies;
+
+
+    BeanMethodMetadata(String name, String type, int flags, List<String> types, List<String> dependencies) {
+      this.name = name;
+      this.type = type;
+      this.flags = flags;
+      this.types = types;
+      this.dependencies = dependencies;
+    }
+
+
+    /**
+     * Gets the signature of the method.
+     *
+     * @return the signature, e.g. {@code com.example.AppConfig#dataSource()}
+     */
+    String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the erased return type.
+     *
+     * @return the qualified name of the return type
+     */
+    String getType() {
+      return this.type;
+    }
+
+    /**
+     * Checks whether the method is {@code static}.
+     *
+     * @return {@code true} if the method is {@code static}
+     */
+    boolean isStatic() {
+      return (this.flags & STATIC) != 0;
+    }
+
+    /**
+     * Checks whether the method returns a {@code BeanFactoryPostProcessor}.
+     *
+     * @return {@code true} if the method returns a {@code BeanFactoryPostProcessor}
+     */
+    boolean isBeanFactoryPostProcessor() {
+      return (this.flags & BEAN_FACTORY_POST_PROCESSOR) != 0;
+    }
+
+    /**
+     * Gets the return type and its supertypes except {@code java.lang.Object}.
+     *
+     * @return the qualified names of the types
+     */
+    List<String> getTypes() {
+      return this.types;
+    }
+
+    /**
+     * Gets the bean types the parameters of the method depend on.
+     *
+     * @return the qualified names of the bean types
+     */
+    List<String> getDependencies() {
+      return this.dependencies;
+    }
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+
+/**
+ * Collects the bean metadata of the compilation while the rules are evaluated and writes it to the
+ * {@link BeanMetadata#RESOURCE metadata resource} in the format described in {@link BeanMetadata} at the end of the
+ * compilation.
+ *
+ * @author Michael Pellaton
+ */
+final class BeanMetadataWriter implements ValidationRule {
+
+  private static final Set<ElementKind> ELEMENT_KINDS =
+      Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS, ElementKind.METHOD));
+  private static final Set<String> ANNOTATION_TYPES;
+
+  static {
+    Set<String> annotationTypes = new HashSet<String>();
+    annotationTypes.add(SpringTypeNames.CONFIGURATION);
+    annotationTypes.add(SpringTypeNames.BEAN);
+    ANNOTATION_TYPES = Collections.unmodifiableSet(annotationTypes);
+  }
+
+  private final Map<String, ClassRecord> classes = new TreeMap<String, ClassRecord>();
+
+  private InjectionPoints injectionPoints;
+
+
+  @Override
+  public String getName() {
+    return "BEAN_METADATA";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.injectionPoints = context.getInjectionPoints();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (facts.isConfigurationClass()) {
+      TypeElement type = (TypeElement) facts.getElement();
+      ClassRecord record = getClassRecord(type);
+      record.flags |= BeanMetadata.CONFIGURATION;
+      if (ProxyBeanMethodsRule.isProxyBeanMethods(facts.getAnnotationMirror(SpringTypeNames.CONFIGURATION))) {
+        record.flags |= BeanMetadata.PROXY_BEAN_METHODS;
+      }
+      addImports(type.getAnnotationMirrors(), record.imports, new HashSet<String>());
+      this.injectionPoints.addClassDependencies(type, record.dependencies);
+    } else if (facts.getKind() == ElementKind.METHOD && facts.isAnnotatedWith(SpringTypeNames.BEAN)) {
+      ExecutableElement method = (ExecutableElement) facts.getElement();
+      BeanRecord bean = new BeanRecord(DiagnosticsReport.getSignature(method),
+          this.injectionPoints.getTypeName(method.getReturnType()));
+      if (facts.hasModifier(Modifier.STATIC)) {
+        bean.flags |= BeanMetadata.STATIC;
+      }
+      if (facts.isReturnTypeAssignableTo(MarkerType.BEAN_FACTORY_POST_PROCESSOR)) {
+        bean.flags |= BeanMetadata.BEAN_FACTORY_POST_PROCESSOR;
+      }
+      bean.types.addAll(this.injectionPoints.getSupertypes(method.getReturnType()));
+      this.injectionPoints.addParameterDependencies(method, true, bean.dependencies);
+      getClassRecord((TypeElement) method.getEnclosingElement()).beans.add(bean);
+    }
+  }
+
+  private ClassRecord getClassRecord(TypeElement type) {
+    String name = type.getQualifiedName().toString();
+    ClassRecord record = this.classes.get(name);
+    if (record == null) {
+      record = new ClassRecord();
+      record.types.addAll(this.injectionPoints.getSupertypes(type.asType()));
+      this.classes.put(name, record);
+    }
+    return record;
+  }
+
+  private void addImports(List<? extends AnnotationMirror> annotationMirrors, Collection<String> imports,
+      Set<String> visitedAnnotations) {
+    for (AnnotationMirror annotationMirror : annotationMirrors) {
+      TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+      String annotationName = annotationType.getQualifiedName().toString();
+      if (SpringTypeNames.IMPORT.equals(annotationName)) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+            : annotationMirror.getElementValues().entrySet()) {
+          for (Object importedClass : (List<?>) value.getValue().getValue()) {
+            Object type = ((AnnotationValue) importedClass).getValue();
+            if (type instanceof DeclaredType) {
+              imports.add(this.injectionPoints.getTypeName((DeclaredType) type));
+            }
+          }
+        }
+      } else if (!annotationName.startsWith("java.lang.annotation.") && visitedAnnotations.add(annotationName)) {
+        // @Enable... annotations import their configuration through a meta-annotation
+        addImports(annotationType.getAnnotationMirrors(), imports, visitedAnnotations);
+      }
+    }
+  }
+
+  /**
+   * Writes the metadata.
+   *
+   * @param outputStream the stream of the metadata resource
+   * @throws IOException if writing fails
+   */
+  void write(OutputStream outputStream) throws IOException {
+    Map<String, Integer> strings = new LinkedHashMap<String, Integer>();
+    List<Integer> classNames = new ArrayList<Integer>();
+    List<Integer> recordOffsets = new ArrayList<Integer>();
+    ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    DataOutputStream records = new DataOutputStream(recordBytes);
+    for (Map.Entry<String, ClassRecord> entry : this.classes.entrySet()) {
+      ClassRecord record = entry.getValue();
+      classNames.add(Integer.valueOf(getStringIndex(strings, entry.getKey())));
+      recordOffsets.add(Integer.valueOf(records.size()));
+      records.writeByte(record.flags);
+      writeStrings(records, strings, record.imports);
+      writeStrings(records, strings, record.types);
+      writeStrings(records, strings, record.dependencies);
+      records.writeShort(checkUnsignedShort(record.beans.size(), "bean methods in a class"));
+      for (BeanRecord bean : record.beans) {
+        records.writeInt(getStringIndex(strings, bean.name));
+        records.writeInt(getStringIndex(strings, bean.type));
+        records.writeByte(bean.flags);
+        writeStrings(records, strings, bean.types);
+        writeStrings(records, strings, bean.dependencies);
+      }
+    }
+
+    ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+    DataOutputStream stringData = new DataOutputStream(stringBytes);
+    List<Integer> stringOffsets = new ArrayList<Integer>(strings.size());
+    for (String string : strings.keySet()) {
+      stringOffsets.add(Integer.valueOf(stringData.size()));
+      byte[] bytes = string.getBytes("UTF-8");
+      stringData.writeShort(checkUnsignedShort(bytes.length, "bytes in a string"));
+      stringData.write(bytes);
+    }
+
+    DataOutputStream output = new DataOutputStream(outputStream);
+    output.writeInt(BeanMetadata.MAGIC);
+    output.writeShort(BeanMetadata.VERSION);
+    output.writeInt(strings.size());
+    output.writeInt(classNames.size());
+    for (Integer stringOffset : stringOffsets) {
+      output.writeInt(stringOffset.intValue());
+    }
+    for (int i = 0; i < classNames.size(); i++) {
+      output.writeInt(classNames.get(i).intValue());
+      output.writeInt(recordOffsets.get(i).intValue());
+    }
+    output.writeInt(stringData.size());
+    stringBytes.writeTo(output);
+    recordBytes.writeTo(output);
+    output.flush();
+  }
+
+  private static void writeStrings(DataOutputStream output, Map<String, Integer> strings, Collection<String> values)
+      throws IOException {
+    output.writeShort(checkUnsignedShort(values.size(), "elements in a list"));
+    for (String value : values) {
+      output.writeInt(getStringIndex(strings, value));
+    }
+  }
+
+  // the lengths and counts of the format are unsigned 16-bit values that must not be truncated
+  private static int checkUnsignedShort(int value, String description) throws IOException {
+    if (value > 0xffff) {
+      throw new IOException("The bean metadata cannot hold " + value + " " + description);
+    }
+    return value;
+  }
+
+  private static int getStringIndex(Map<String, Integer> strings, String string) {
+    String value = string == null ? "" : string;
+    Integer index = strings.get(value);
+    if (index == null) {
+      index = Integer.valueOf(strings.size());
+      strings.put(value, index);
+    }
+    return index.intValue();
+  }
+
+
+  /**
+   * The metadata collected for a class.
+   */
+  private static final class ClassRecord {
+
+    private int flags;
+    private final Set<String> imports = new LinkedHashSet<String>();
+    private final Set<String> types = new LinkedHashSet<String>();
+    private final Set<String> dependencies = new LinkedHashSet<String>();
+    private final List<BeanRecord> beans = new ArrayList<BeanRecord>();
+  }
+
+
+  /**
+   * The metadata collected for a bean method.
+   */
+  private static final class BeanRecord {
+
+    private final String name;
+    private final String type;
+    private int flags;
+    private final Set<String> types = new LinkedHashSet<String>();
+    private final Set<String> dependencies = new LinkedHashSet<String>();
+
+
+    BeanRecord(String name, String type) {
+      this.name = name;
+      this.type = type;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Warns about {@code @Bean} methods whose declared return type keeps Spring from predicting the bean type without
+ * creating the bean. Spring matches the beans of {@code getBeanNamesForType} and of autowiring against the declared
+ * return type of the factory method, so beans that do not match it are created early to learn their actual type.
+ *
+ * <ul>
+ * <li>A return type broader than the class the method returns: the class is found in the {@code return} statements
+ * of the method with the {@link ReturnedTypeFinder}, so this part is only checked when compiling with javac.</li>
+ * <li>A raw {@code FactoryBean} return type, whose object type is only known after creating the factory bean.</li>
+ * </ul>
+ *
+ * @author Michael Pellaton
+ */
+final class BeanReturnTypeRule implements ValidationRule {
+
+  private static final Set<ElementKind> ELEMENT_KINDS = Collections.unmodifiableSet(EnumSet.of(ElementKind.METHOD));
+  private static final Set<String> ANNOTATION_TYPES = Collections.singleton(SpringTypeNames.BEAN);
+
+  private final boolean findReturnedTypes;
+
+  private Types types;
+  private ReturnedTypeFinder finder;
+
+
+  /**
+   * Constructor.
+   *
+   * @param findReturnedTypes whether the return types are compared with the classes returned in the method bodies
+   */
+  BeanReturnTypeRule(boolean findReturnedTypes) {
+    this.findReturnedTypes = findReturnedTypes;
+  }
+
+
+  @Override
+  public String getName() {
+    return "BEAN_RETURN_TYPE";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.types = context.getProcessingEnvironment().getTypeUtils();
+    if (this.findReturnedTypes) {
+      this.finder = context.getReturnedTypeFinder();
+    }
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (facts.getReturnTypeKind() != TypeKind.DECLARED) {
+      return;
+    }
+    DeclaredType returnType = (DeclaredType) facts.getReturnType();
+    TypeElement returnTypeElement = (TypeElement) returnType.asElement();
+    if (facts.isReturnTypeAssignableTo(MarkerType.FACTORY_BEAN) && returnType.getTypeArguments().isEmpty()
+        && !returnTypeElement.getTypeParameters().isEmpty()) {
+      reporter.report(SpringConfigurationMessage.RAW_FACTORY_BEAN_RETURN_TYPE, facts.getElement(), null,
+          returnTypeElement.getQualifiedName());
+    }
+
+    if (this.finder != null && this.finder.isAvailable()) {
+      TypeElement returnedType = this.finder.find((ExecutableElement) facts.getElement());
+      if (returnedType != null && !returnedType.getModifiers().contains(Modifier.PRIVATE)) {
+        TypeMirror declared = this.types.erasure(returnType);
+        TypeMirror returned = this.types.erasure(returnedType.asType());
+        if (!this.types.isSameType(declared, returned) && this.types.isSubtype(returned, declared)) {
+          reporter.report(SpringConfigurationMessage.BEAN_METHOD_RETURN_TYPE_TOO_BROAD, facts.getElement(), null,
+              returnTypeElement.getQualifiedName(), returnedType.getQualifiedName());
+        }
+      }
+    }
+  }
+}
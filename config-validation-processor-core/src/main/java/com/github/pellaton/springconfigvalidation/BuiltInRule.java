@@ -0,0 +1,175 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeKind;
+
+/**
+ * The built-in rules of the {@link SpringConfigurationValidationProcessor}, in the order they are evaluated.
+ *
+ * @author Michael Pellaton
+ */
+enum BuiltInRule implements ValidationRule {
+
+  // rules on @Configuration classes
+  FINAL_CLASS(ElementKind.CLASS, SpringTypeNames.CONFIGURATION, SpringConfigurationMessage.CLASS_FINAL) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      if (facts.hasModifier(Modifier.FINAL)) {
+        reporter.report(SpringConfigurationMessage.CLASS_FINAL, facts.getElement());
+      }
+    }
+  },
+  AUTOWIRED_CONSTRUCTOR(ElementKind.CLASS, SpringTypeNames.CONFIGURATION,
+      SpringConfigurationMessage.AUTOWIRED_CONSTRUCTOR) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      for (ElementFacts constructor : facts.getConstructors()) {
+        AnnotationMirror autowired = constructor.getAnnotationMirror(SpringTypeNames.AUTOWIRED);
+        if (autowired != null) {
+          reporter.report(SpringConfigurationMessage.AUTOWIRED_CONSTRUCTOR, constructor.getElement(), autowired);
+        }
+      }
+    }
+  },
+  NO_ARG_CONSTRUCTOR(ElementKind.CLASS, SpringTypeNames.CONFIGURATION,
+      SpringConfigurationMessage.MISSING_NO_ARG_CONSTRUCTOR) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      for (ElementFacts constructor : facts.getConstructors()) {
+        if (!constructor.hasModifier(Modifier.PRIVATE) && constructor.getParameterCount() == 0) {
+          return;
+        }
+      }
+      reporter.report(SpringConfigurationMessage.MISSING_NO_ARG_CONSTRUCTOR, facts.getElement());
+    }
+  },
+  STATIC_NESTED_CLASS(ElementKind.CLASS, SpringTypeNames.CONFIGURATION,
+      SpringConfigurationMessage.NESTED_CLASS_NOT_STATIC) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      if (facts.isNestedClass() && !facts.hasModifier(Modifier.STATIC)) {
+        reporter.report(SpringConfigurationMessage.NESTED_CLASS_NOT_STATIC, facts.getElement());
+      }
+    }
+  },
+
+  // rules on @Bean methods
+  PRIVATE_BEAN_METHOD(ElementKind.METHOD, SpringTypeNames.BEAN, SpringConfigurationMessage.BEAN_METHOD_PRIVATE) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      if (facts.hasModifier(Modifier.PRIVATE)) {
+        reporter.report(SpringConfigurationMessage.BEAN_METHOD_PRIVATE, facts.getElement());
+      }
+    }
+  },
+  FINAL_BEAN_METHOD(ElementKind.METHOD, SpringTypeNames.BEAN, SpringConfigurationMessage.BEAN_METHOD_FINAL) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      if (facts.hasModifier(Modifier.FINAL)) {
+        reporter.report(SpringConfigurationMessage.BEAN_METHOD_FINAL, facts.getElement());
+      }
+    }
+  },
+  BEAN_METHOD_RETURN_TYPE(ElementKind.METHOD, SpringTypeNames.BEAN,
+      SpringConfigurationMessage.BEAN_METHOD_RETURNS_VOID) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      if (facts.getReturnTypeKind() == TypeKind.VOID) {
+        reporter.report(SpringConfigurationMessage.BEAN_METHOD_RETURNS_VOID, facts.getElement());
+      }
+    }
+  },
+  STATIC_BEAN_METHOD(ElementKind.METHOD, SpringTypeNames.BEAN, SpringConfigurationMessage.STATIC_BEAN_METHOD,
+      SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      boolean implementsBFPP = facts.isReturnTypeAssignableTo(MarkerType.BEAN_FACTORY_POST_PROCESSOR);
+      if (facts.hasModifier(Modifier.STATIC)) {
+        if (!implementsBFPP) {
+          reporter.report(SpringConfigurationMessage.STATIC_BEAN_METHOD, facts.getElement());
+        }
+      } else {
+        if (implementsBFPP) {
+          reporter.report(SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC, facts.getElement());
+        }
+      }
+    }
+  },
+  BEAN_METHOD_IN_CONFIGURATION(ElementKind.METHOD, SpringTypeNames.BEAN,
+      SpringConfigurationMessage.BEAN_METHOD_NOT_IN_CONFIGURATION) {
+    @Override
+    public void validate(ElementFacts facts, ValidationReporter reporter) {
+      // @Bean methods of other components are processed in lite mode, whose pitfall is LITE_MODE_INTER_BEAN_CALL, and
+      // default @Bean methods of interfaces are inherited by the configuration classes implementing them
+      if (!facts.isEnclosedInComponentClass() && facts.getEnclosingKind() != ElementKind.INTERFACE) {
+        reporter.report(SpringConfigurationMessage.BEAN_METHOD_NOT_IN_CONFIGURATION, facts.getElement());
+      }
+    }
+  };
+
+
+  private final Set<ElementKind> elementKinds;
+  private final Set<String> annotationTypes;
+  private final Set<SpringConfigurationMessage> messages;
+
+
+  private BuiltInRule(ElementKind elementKind, String annotationType, SpringConfigurationMessage... messages) {
+    this.elementKinds = Collections.unmodifiableSet(EnumSet.of(elementKind));
+    this.annotationTypes = Collections.singleton(annotationType);
+    this.messages = Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(messages)));
+  }
+
+
+  @Override
+  public String getName() {
+    return name();
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return this.elementKinds;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return this.annotationTypes;
+  }
+
+  /**
+   * Gets the messages this rule reports. The rule is not evaluated if all of them are disabled.
+   *
+   * @return the messages this rule reports
+   */
+  Set<SpringConfigurationMessage> getMessages() {
+    return this.messages;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    // the built-in rules are stateless
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * Estimates the cost of the {@code @ComponentScan}s on {@code @Configuration} classes. Spring reads every class file
+ * below the base packages of a scan to find the few that are components, so a scan of a broad base package costs
+ * startup time without finding more beans.
+ *
+ * <p>While the rules are evaluated, the types of every round are counted per package, along with the candidate
+ * components among them: concrete, independent classes annotated with {@code @Component} or a stereotype. At the end of
+ * the compilation the base packages of every configuration class are matched against these counts and a warning is
+ * reported if the ratio of components to scanned types is below the threshold. Only the types of the current
+ * compilation are counted; scans with placeholders in their base packages are ignored.
+ *
+ * @author Michael Pellaton
+ */
+final class ComponentScanAnalysis implements ValidationRule {
+
+  private static final Set<ElementKind> ELEMENT_KINDS = Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS));
+  private static final Set<String> ANNOTATION_TYPES;
+  private static final Set<String> BASE_PACKAGES_ATTRIBUTES;
+  private static final Set<String> BASE_PACKAGE_CLASSES_ATTRIBUTES;
+
+  static {
+    Set<String> annotationTypes = new HashSet<String>();
+    annotationTypes.add(SpringTypeNames.COMPONENT_SCAN);
+    annotationTypes.add(SpringTypeNames.COMPONENT_SCANS);
+    ANNOTATION_TYPES = Collections.unmodifiableSet(annotationTypes);
+
+    Set<String> basePackagesAttributes = new HashSet<String>();
+    basePackagesAttributes.add("value");
+    basePackagesAttributes.add("basePackages");
+    basePackagesAttributes.add("scanBasePackages");
+    BASE_PACKAGES_ATTRIBUTES = Collections.unmodifiableSet(basePackagesAttributes);
+
+    Set<String> basePackageClassesAttributes = new HashSet<String>();
+    basePackageClassesAttributes.add("basePackageClasses");
+    basePackageClassesAttributes.add("scanBasePackageClasses");
+    BASE_PACKAGE_CLASSES_ATTRIBUTES = Collections.unmodifiableSet(basePackageClassesAttributes);
+  }
+
+  private final double threshold;
+  private final Map<String, PackageCount> packageCounts = new HashMap<String, PackageCount>();
+  private final List<ComponentScan> componentScans = new ArrayList<ComponentScan>();
+
+  private Elements elements;
+  private MetaAnnotationIndex annotationIndex;
+
+
+  /**
+   * Constructor.
+   *
+   * @param threshold the ratio of components to scanned types below which a scan is reported
+   */
+  ComponentScanAnalysis(double threshold) {
+    this.threshold = threshold;
+  }
+
+
+  @Override
+  public String getName() {
+    return "COMPONENT_SCAN";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.annotationIndex = context.getAnnotationIndex();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (!facts.isConfigurationClass()) {
+      return;
+    }
+    TypeElement type = (TypeElement) facts.getElement();
+    Set<String> basePackages = new LinkedHashSet<String>();
+    AnnotationMirror firstScan = null;
+    for (AnnotationMirror annotationMirror : type.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+      String annotationName = annotationType.getQualifiedName().toString();
+      if (SpringTypeNames.COMPONENT_SCANS.equals(annotationName)) {
+        for (Object scan : getValues(annotationMirror, Collections.singleton("value"))) {
+          addBasePackages(type, (AnnotationMirror) scan, basePackages);
+        }
+      } else if (SpringTypeNames.COMPONENT_SCAN.equals(annotationName)
+          || this.annotationIndex.isAnnotatedWith(annotationType, SpringTypeNames.COMPONENT_SCAN)) {
+        addBasePackages(type, annotationMirror, basePackages);
+      } else {
+        continue;
+      }
+      if (firstScan == null) {
+        firstScan = annotationMirror;
+      }
+    }
+    if (firstScan != null && !basePackages.contains(null)) {
+      this.componentScans.add(new ComponentScan(type, firstScan, basePackages));
+    }
+  }
+
+  private void addBasePackages(TypeElement type, AnnotationMirror scan, Set<String> basePackages) {
+    int size = basePackages.size();
+    for (Object basePackage : getValues(scan, BASE_PACKAGES_ATTRIBUTES)) {
+      String value = ((String) basePackage).trim();
+      // placeholders are resolved at runtime, null marks the scan as unknown
+      basePackages.add(value.contains("${") ? null : value);
+    }
+    for (Object basePackageClass : getValues(scan, BASE_PACKAGE_CLASSES_ATTRIBUTES)) {
+      Element element = ((DeclaredType) basePackageClass).asElement();
+      basePackages.add(this.elements.getPackageOf(element).getQualifiedName().toString());
+    }
+    if (basePackages.size() == size) {
+      basePackages.add(this.elements.getPackageOf(type).getQualifiedName().toString());
+    }
+  }
+
+  private static List<Object> getValues(AnnotationMirror annotationMirror, Set<String> attributes) {
+    List<Object> values = new ArrayList<Object>();
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : annotationMirror.getElementValues().entrySet()) {
+      if (attributes.contains(entry.getKey().getSimpleName().toString())) {
+        Object value = entry.getValue().getValue();
+        if (value instanceof List) {
+          for (Object element : (List<?>) value) {
+            values.add(((AnnotationValue) element).getValue());
+          }
+        } else if (!(value instanceof TypeMirror) || value instanceof DeclaredType) {
+          values.add(value);
+        }
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Counts the types of a round per package.
+   *
+   * @param rootElements the root elements of the round
+   */
+  void countTypes(Set<? extends Element> rootElements) {
+    for (TypeElement type : ElementFilter.typesIn(rootElements)) {
+      String packageName = this.elements.getPackageOf(type).getQualifiedName().toString();
+      PackageCount packageCount = this.packageCounts.get(packageName);
+      if (packageCount == null) {
+        packageCount = new PackageCount();
+        this.packageCounts.put(packageName, packageCount);
+      }
+      countType(type, packageCount);
+    }
+  }
+
+  private void countType(TypeElement type, PackageCount packageCount) {
+    packageCount.types++;
+    if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)
+        && (!type.getNestingKind().isNested() || type.getModifiers().contains(Modifier.STATIC))
+        && this.annotationIndex.isAnyAnnotatedWith(type.getAnnotationMirrors(), SpringTypeNames.COMPONENT)) {
+      packageCount.components++;
+    }
+    for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+      countType(nestedType, packageCount);
+    }
+  }
+
+  /**
+   * Reports the component scans whose ratio of components to scanned types is below the threshold.
+   *
+   * @param reporter the reporter to report the scans to
+   */
+  void report(ValidationReporter reporter) {
+    for (ComponentScan componentScan : this.componentScans) {
+      int types = 0;
+      int components = 0;
+      for (Map.Entry<String, PackageCount> packageCount : this.packageCounts.entrySet()) {
+        if (componentScan.covers(packageCount.getKey())) {
+          types += packageCount.getValue().types;
+          components += packageCount.getValue().components;
+        }
+      }
+      double hitRatio = types == 0 ? 1 : (double) components / types;
+      if (hitRatio < this.threshold) {
+        reporter.report(SpringConfigurationMessage.COMPONENT_SCAN_TOO_BROAD, componentScan.type,
+            componentScan.annotationMirror, componentScan.basePackages, Integer.valueOf(types),
+            Integer.valueOf(components), Double.valueOf(hitRatio * 100), Double.valueOf(this.threshold * 100));
+      }
+    }
+  }
+
+
+  /**
+   * The number of types and candidate components of a package.
+   */
+  private static final class PackageCount {
+
+    private int types;
+    private int components;
+  }
+
+
+  /**
+   * The base packages scanned by a configuration class.
+   */
+  private static final class ComponentScan {
+
+    private final TypeElement type;
+    private final AnnotationMirror annotationMirror;
+    private final Set<String> basePackages;
+
+
+    ComponentScan(TypeElement type, AnnotationMirror annotationMirror, Set<String> basePackages) {
+      this.type = type;
+      this.annotationMirror = annotationMirror;
+      this.basePackages = basePackages;
+    }
+
+
+    boolean covers(String packageName) {
+      for (String basePackage : this.basePackages) {
+        if (basePackage.length() == 0 || packageName.equals(basePackage)
+            || packageName.startsWith(basePackage + ".")) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Collects the candidate components of every round and writes them to Spring's candidate components index
+ * {@code META-INF/spring.components} at the end of the compilation, the way the {@code spring-context-indexer} does.
+ * If the index is present, the component scans of Spring look the candidates of their base packages up in the index
+ * instead of reading every class file below the base packages.
+ *
+ * <p>The index is a properties file that maps the binary name of every top-level or static nested class and interface
+ * to the comma-separated binary names of its stereotypes: the annotation types annotated with {@code @Indexed} that
+ * are present on the type, directly or through composed annotations ({@code @Component} for all stereotypes and
+ * {@code @Configuration}), the type itself and its supertypes if they are annotated with {@code @Indexed}, and the
+ * {@code javax} annotation types present on the type:
+ *
+ * <pre>
+ * com.example.AppConfig=org.springframework.stereotype.Component
+ * com.example.OrderRepository=org.springframework.data.repository.Repository
+ * </pre>
+ *
+ * <p>Spring uses the index for every scan whose include filters it supports and ignores the class files that are not
+ * indexed, so the index only covers the classes of the current compilation and every module of an application with
+ * components must write it.
+ *
+ * @author Michael Pellaton
+ */
+final class ComponentsIndex {
+
+  /**
+   * The name of Spring's candidate components index in the class output.
+   */
+  static final String RESOURCE = "META-INF/spring.components";
+
+  private static final String JAVAX_PACKAGE = "javax.";
+
+  private final Map<String, Set<String>> components = new TreeMap<String, Set<String>>();
+  private final Map<String, Boolean> indexedTypes = new HashMap<String, Boolean>();
+  private final Elements elements;
+  private final Types types;
+  private final MetaAnnotationIndex annotationIndex;
+
+
+  /**
+   * Constructor.
+   *
+   * @param context the validation context
+   */
+  ComponentsIndex(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.types = context.getProcessingEnvironment().getTypeUtils();
+    this.annotationIndex = context.getAnnotationIndex();
+  }
+
+
+  /**
+   * Adds the candidate components of a round to the index.
+   *
+   * @param rootElements the root elements of the round
+   */
+  void addTypes(Set<? extends Element> rootElements) {
+    for (TypeElement type : ElementFilter.typesIn(rootElements)) {
+      addType(type);
+    }
+  }
+
+  private void addType(TypeElement type) {
+    if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.INTERFACE) {
+      Set<String> stereotypes = new TreeSet<String>();
+      for (AnnotationMirror annotationMirror : type.getAnnotationMirrors()) {
+        TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+        String annotationName = annotationType.getQualifiedName().toString();
+        if (annotationName.startsWith(JAVAX_PACKAGE)) {
+          stereotypes.add(annotationName);
+        }
+        for (String name : this.annotationIndex.getAnnotationClosure(annotationType)) {
+          TypeElement closureType = this.elements.getTypeElement(name);
+          if (isIndexed(closureType)) {
+            stereotypes.add(this.elements.getBinaryName(closureType).toString());
+          }
+        }
+      }
+      addIndexedSupertypes(type.asType(), new HashSet<String>(), stereotypes);
+      if (!stereotypes.isEmpty()) {
+        this.components.put(this.elements.getBinaryName(type).toString(), stereotypes);
+      }
+    }
+    for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+      // like the scans, the index leaves out inner classes
+      if (nestedType.getKind().isInterface() || nestedType.getModifiers().contains(Modifier.STATIC)) {
+        addType(nestedType);
+      }
+    }
+  }
+
+  private void addIndexedSupertypes(TypeMirror type, Set<String> visited, Set<String> stereotypes) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return;
+    }
+    TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+    String name = typeElement.getQualifiedName().toString();
+    if (visited.add(name)) {
+      if (isIndexed(typeElement)) {
+        stereotypes.add(this.elements.getBinaryName(typeElement).toString());
+      }
+      List<? extends TypeMirror> supertypes = this.types.directSupertypes(type);
+      for (TypeMirror supertype : supertypes) {
+        addIndexedSupertypes(supertype, visited, stereotypes);
+      }
+    }
+  }
+
+  private boolean isIndexed(TypeElement type) {
+    if (type == null) {
+      return false;
+    }
+    String name = type.getQualifiedName().toString();
+    Boolean indexed = this.indexedTypes.get(name);
+    if (indexed == null) {
+      indexed = Boolean.FALSE;
+      for (AnnotationMirror annotationMirror : type.getAnnotationMirrors()) {
+        if (SpringTypeNames.INDEXED.equals(((TypeElement) annotationMirror.getAnnotationType().asElement())
+            .getQualifiedName().toString())) {
+          indexed = Boolean.TRUE;
+        }
+      }
+      this.indexedTypes.put(name, indexed);
+    }
+    return indexed.booleanValue();
+  }
+
+  /**
+   * Writes the index, escaping the characters outside of ASCII as properties files are read in ISO 8859-1.
+   *
+   * @param writer the writer of the index resource
+   * @throws IOException if writing fails
+   */
+  void write(Writer writer) throws IOException {
+    for (Map.Entry<String, Set<String>> component : this.components.entrySet()) {
+      writeEscaped(writer, component.getKey());
+      writer.write('=');
+      boolean first = true;
+      for (String stereotype : component.getValue()) {
+        if (!first) {
+          writer.write(',');
+        }
+        writeEscaped(writer, stereotype);
+        first = false;
+      }
+      writer.write('\n');
+    }
+  }
+
+  private static void writeEscaped(Writer writer, String name) throws IOException {
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c < 0x20 || c > 0x7e) {
+        writer.write(String.format("\\u%04x", Integer.valueOf(c)));
+      } else {
+        writer.write(c);
+      }
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Collects the {@code @Configuration} classes and their {@code @Bean} methods while the rules are evaluated and writes
+ * them to an index resource at the end of the compilation. The index is a text file in UTF-8: every configuration class
+ * is listed by its binary name on a line of its own, followed by one tab-indented line per bean method with the method
+ * name, the erased return type and the comma-separated flags {@code static} and {@code bfpp} (returns a
+ * {@code BeanFactoryPostProcessor}), separated by tabs:
+ *
+ * <pre>
+ * # Spring configuration validation index, version 2
+ * com.example.AppConfig
+ * &#9;dataSource&#9;javax.sql.DataSource&#9;
+ * &#9;placeholderConfigurer&#9;com.example.PlaceholderConfigurer&#9;static,bfpp
+ * com.example.CloudConfig&#9;cloud,!local&#9;com.example.OnDatabaseCondition
+ * </pre>
+ *
+ * <p>A class carrying {@code @Profile} or {@code @Conditional}, directly or through composed annotations, is followed
+ * by two tab-separated columns with the comma-separated profile expressions and the binary names of the condition
+ * classes, which partitions the classes by their profiles. The component scans of the runtime do not find a class
+ * whose profile expressions do not match the active profiles in the candidate components index, so Spring neither
+ * reads nor parses its class file. The profiles are left out if one of the expressions is malformed or contains a
+ * comma, so such classes are left to Spring.
+ *
+ * <p>The index only covers the classes of the current compilation.
+ *
+ * @author Michael Pellaton
+ */
+final class ConfigurationIndex implements ValidationRule {
+
+  /**
+   * The name of the index resource in the class output.
+   */
+  static final String RESOURCE = "META-INF/spring-config-validation.idx";
+
+  private static final String HEADER = "# Spring configuration validation index, version 2\n";
+  private static final String JAVA_LANG_ANNOTATION_PACKAGE = "java.lang.annotation.";
+
+  private static final Set<ElementKind> ELEMENT_KINDS =
+      Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS, ElementKind.METHOD));
+  private static final Set<String> ANNOTATION_TYPES;
+
+  static {
+    Set<String> annotationTypes = new HashSet<String>();
+    annotationTypes.add(SpringTypeNames.CONFIGURATION);
+    annotationTypes.add(SpringTypeNames.BEAN);
+    ANNOTATION_TYPES = Collections.unmodifiableSet(annotationTypes);
+  }
+
+  private final Map<String, List<String>> configurationClasses = new TreeMap<String, List<String>>();
+  private final Map<String, String> conditions = new HashMap<String, String>();
+
+  private Elements elements;
+  private Types types;
+
+
+  @Override
+  public String getName() {
+    return "CONFIGURATION_INDEX";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.types = context.getProcessingEnvironment().getTypeUtils();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (facts.isConfigurationClass()) {
+      getBeanMethods(facts.getElement());
+      addConditions((TypeElement) facts.getElement());
+    } else if (facts.getKind() == ElementKind.METHOD && facts.isAnnotatedWith(SpringTypeNames.BEAN)
+        && facts.isEnclosedInConfigurationClass()) {
+      StringBuilder line = new StringBuilder().append('\t').append(facts.getElement().getSimpleName())
+          .append('\t').append(this.types.erasure(facts.getReturnType())).append('\t');
+      if (facts.hasModifier(Modifier.STATIC)) {
+        line.append("static");
+      }
+      if (facts.isReturnTypeAssignableTo(MarkerType.BEAN_FACTORY_POST_PROCESSOR)) {
+        line.append(facts.hasModifier(Modifier.STATIC) ? ",bfpp" : "bfpp");
+      }
+      getBeanMethods(facts.getElement().getEnclosingElement()).add(line.append('\n').toString());
+    }
+  }
+
+  private void addConditions(TypeElement configurationClass) {
+    Set<String> profiles = new LinkedHashSet<String>();
+    Set<String> conditionClasses = new LinkedHashSet<String>();
+    collectConditions(configurationClass.getAnnotationMirrors(), new HashSet<String>(), profiles, conditionClasses);
+    for (String profile : profiles) {
+      if (profile.indexOf(',') >= 0 || ProfileExpressionRule.checkExpression(profile) != null) {
+        profiles.clear();
+        break;
+      }
+    }
+    if (!profiles.isEmpty() || !conditionClasses.isEmpty()) {
+      this.conditions.put(this.elements.getBinaryName(configurationClass).toString(),
+          '\t' + join(profiles) + '\t' + join(conditionClasses));
+    }
+  }
+
+  private void collectConditions(List<? extends AnnotationMirror> annotations, Set<String> visited,
+      Set<String> profiles, Set<String> conditionClasses) {
+    for (AnnotationMirror annotation : annotations) {
+      TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+      String name = annotationType.getQualifiedName().toString();
+      if (SpringTypeNames.PROFILE.equals(name)) {
+        profiles.addAll(ProfileExpressionRule.getExpressions(annotation));
+      } else if (SpringTypeNames.CONDITIONAL.equals(name)) {
+        for (AnnotationValue value : annotation.getElementValues().values()) {
+          for (Object conditionClass : (List<?>) value.getValue()) {
+            TypeElement condition = (TypeElement) ((DeclaredType) ((AnnotationValue) conditionClass).getValue())
+                .asElement();
+            conditionClasses.add(this.elements.getBinaryName(condition).toString());
+          }
+        }
+      } else if (!name.startsWith(JAVA_LANG_ANNOTATION_PACKAGE) && visited.add(name)) {
+        collectConditions(annotationType.getAnnotationMirrors(), visited, profiles, conditionClasses);
+      }
+    }
+  }
+
+  private static String join(Set<String> values) {
+    StringBuilder joined = new StringBuilder();
+    for (String value : values) {
+      joined.append(joined.length() == 0 ? "" : ",").append(value);
+    }
+    return joined.toString();
+  }
+
+  private List<String> getBeanMethods(Element configurationClass) {
+    String name = this.elements.getBinaryName((TypeElement) configurationClass).toString();
+    List<String> beanMethods = this.configurationClasses.get(name);
+    if (beanMethods == null) {
+      beanMethods = new ArrayList<String>();
+      this.configurationClasses.put(name, beanMethods);
+    }
+    return beanMethods;
+  }
+
+  /**
+   * Writes the index.
+   *
+   * @param writer the writer of the index resource
+   * @throws IOException if writing fails
+   */
+  void write(Writer writer) throws IOException {
+    writer.write(HEADER);
+    for (Map.Entry<String, List<String>> configurationClass : this.configurationClasses.entrySet()) {
+      writer.write(configurationClass.getKey());
+      String classConditions = this.conditions.get(configurationClass.getKey());
+      if (classConditions != null) {
+        writer.write(classConditions);
+      }
+      writer.write('\n');
+      for (String beanMethod : configurationClass.getValue()) {
+        writer.write(beanMethod);
+      }
+    }
+  }
+}
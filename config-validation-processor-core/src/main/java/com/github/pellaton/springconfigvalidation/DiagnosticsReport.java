@@ -0,0 +1,177 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Streams the messages of the {@link SpringConfigurationValidationProcessor} to a report resource in the class output
+ * as they are reported. Nothing but the open writer is kept, so the memory used is constant regardless of the number of
+ * messages. The resource is created with the first message, or at the end of the compilation if there are none.
+ *
+ * @author Michael Pellaton
+ *
+ * @see ReportFormat
+ */
+final class DiagnosticsReport {
+
+  private final Filer filer;
+  private final Messager messager;
+  private final ReportFormat format;
+  private final SourceLocator sourceLocator;
+
+  private Writer writer;
+  private boolean empty = true;
+  private boolean failed;
+
+
+  /**
+   * Constructor.
+   *
+   * @param filer the filer creating the report resource
+   * @param messager the messager to warn with if the report cannot be written
+   * @param format the format of the report
+   * @param sourceLocator the locator for the source positions of the reported elements
+   */
+  DiagnosticsReport(Filer filer, Messager messager, ReportFormat format, SourceLocator sourceLocator) {
+    this.filer = filer;
+    this.messager = messager;
+    this.format = format;
+    this.sourceLocator = sourceLocator;
+  }
+
+
+  /**
+   * Writes a record to the report.
+   *
+   * @param id the id of the reporting check
+   * @param kind the diagnostic kind
+   * @param message the message
+   * @param element the reported element
+   * @param annotationMirror the reported annotation of the element or {@code null}
+   */
+  void report(String id, Kind kind, String message, Element element, AnnotationMirror annotationMirror) {
+    if (open()) {
+      try {
+        this.format.writeRecord(this.writer, this.empty, id, kind, message,
+            this.sourceLocator.locate(element, annotationMirror), getSignature(element));
+        this.empty = false;
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+  }
+
+  /**
+   * Flushes the records written so far, so they can be consumed while the compilation is still running.
+   */
+  void flush() {
+    if (this.writer != null && !this.failed) {
+      try {
+        this.writer.flush();
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+  }
+
+  /**
+   * Completes the report and closes the resource.
+   */
+  void close() {
+    if (open()) {
+      try {
+        this.format.writeFooter(this.writer);
+        this.writer.close();
+      } catch (IOException e) {
+        fail(e);
+      }
+      this.writer = null;
+      this.failed = true;
+    }
+  }
+
+  private boolean open() {
+    if (this.writer == null && !this.failed) {
+      try {
+        FileObject resource = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+            this.format.getResourceName());
+        this.writer = resource.openWriter();
+        this.format.writeHeader(this.writer);
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+    return !this.failed;
+  }
+
+  private void fail(IOException e) {
+    this.failed = true;
+    this.messager.printMessage(Kind.WARNING, "Could not write " + this.format.getResourceName() + ": "
+        + e.getMessage());
+  }
+
+  /**
+   * Gets the signature of an element: the qualified name for types and the qualified name of the enclosing type, a
+   * {@code #} and the member name for members, followed by the parameter types for methods and constructors.
+   */
+  static String getSignature(Element element) {
+    if (element instanceof TypeElement) {
+      return ((TypeElement) element).getQualifiedName().toString();
+    }
+    Element enclosing = element.getEnclosingElement();
+    if (enclosing instanceof ExecutableElement) {
+      return getSignature(enclosing) + "#" + element.getSimpleName();
+    } else if (!(enclosing instanceof TypeElement)) {
+      return element.toString();
+    }
+
+    StringBuilder signature = new StringBuilder(getSignature(enclosing)).append('#');
+    if (element.getKind() == ElementKind.CONSTRUCTOR) {
+      signature.append("<init>");
+    } else {
+      signature.append(element.getSimpleName());
+    }
+    if (element instanceof ExecutableElement) {
+      signature.append('(');
+      List<? extends VariableElement> parameters = ((ExecutableElement) element).getParameters();
+      for (int i = 0; i < parameters.size(); i++) {
+        if (i > 0) {
+          signature.append(',');
+        }
+        signature.append(parameters.get(i).asType());
+      }
+      signature.append(')');
+    }
+    return signature.toString();
+  }
+}
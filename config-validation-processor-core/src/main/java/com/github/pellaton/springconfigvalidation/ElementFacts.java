@@ -0,0 +1,255 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * The facts about an element that are computed once and handed to all {@link ValidationRule}s validating the element,
+ * so the rules do not have to re-read the modifiers or re-scan the annotation mirrors of the element.
+ *
+ * @author Michael Pellaton
+ */
+public final class ElementFacts {
+
+  private static final int UNRESOLVED = -1;
+
+  private final Element element;
+  private final ElementKind kind;
+  private final Set<Modifier> modifiers;
+  private final Map<String, AnnotationMirror> annotations;
+  private final boolean enclosedInConfigurationClass;
+  private final boolean enclosedInComponentClass;
+  private final List<ElementFacts> constructors;
+  private final ElementKind enclosingKind;
+  private final int parameterCount;
+  private final TypeKind returnTypeKind;
+  private final SupertypeIndex supertypeIndex;
+
+  private int returnTypeMarkers = UNRESOLVED;
+
+
+  ElementFacts(Element element, Map<String, AnnotationMirror> annotations, boolean enclosedInConfigurationClass,
+      boolean enclosedInComponentClass, List<ElementFacts> constructors, SupertypeIndex supertypeIndex) {
+    this.element = element;
+    this.kind = element.getKind();
+    this.modifiers = element.getModifiers();
+    this.annotations = annotations;
+    this.enclosedInConfigurationClass = enclosedInConfigurationClass;
+    this.enclosedInComponentClass = enclosedInComponentClass;
+    this.constructors = constructors;
+    this.enclosingKind = element.getEnclosingElement().getKind();
+    this.parameterCount = element instanceof ExecutableElement
+        ? ((ExecutableElement) element).getParameters().size() : 0;
+    this.returnTypeKind = element instanceof ExecutableElement
+        ? ((ExecutableElement) element).getReturnType().getKind() : null;
+    this.supertypeIndex = supertypeIndex;
+  }
+
+
+  /**
+   * Gets the element.
+   *
+   * @return the element
+   */
+  public Element getElement() {
+    return this.element;
+  }
+
+  /**
+   * Gets the kind of the element.
+   *
+   * @return the kind of the element
+   */
+  public ElementKind getKind() {
+    return this.kind;
+  }
+
+  /**
+   * Gets the modifiers of the element.
+   *
+   * @return the modifiers of the element
+   */
+  public Set<Modifier> getModifiers() {
+    return this.modifiers;
+  }
+
+  /**
+   * Checks whether the element has the given modifier.
+   *
+   * @param modifier the modifier
+   * @return {@code true} if the element has the modifier, {@code false} otherwise
+   */
+  public boolean hasModifier(Modifier modifier) {
+    return this.modifiers.contains(modifier);
+  }
+
+  /**
+   * Gets the qualified names of all annotation types present on the element, including the annotation types they are
+   * meta-annotated with.
+   *
+   * @return the qualified names of the resolved annotation types
+   */
+  public Set<String> getAnnotationTypes() {
+    return this.annotations.keySet();
+  }
+
+  /**
+   * Checks whether the element is annotated with the given annotation type, either directly or through a
+   * meta-annotation.
+   *
+   * @param annotationType the qualified name of the annotation type
+   * @return {@code true} if the element is annotated with the annotation type, {@code false} otherwise
+   */
+  public boolean isAnnotatedWith(String annotationType) {
+    return this.annotations.containsKey(annotationType);
+  }
+
+  /**
+   * Checks whether the element is annotated with any of the given annotation types, either directly or through a
+   * meta-annotation.
+   *
+   * @param annotationTypes the qualified names of the annotation types
+   * @return {@code true} if the element is annotated with one of the annotation types, {@code false} otherwise
+   */
+  public boolean isAnnotatedWithAny(Set<String> annotationTypes) {
+    for (String annotationType : annotationTypes) {
+      if (this.annotations.containsKey(annotationType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the annotation present on the element that is or carries the given annotation type.
+   *
+   * @param annotationType the qualified name of the annotation type
+   * @return the annotation present on the element or {@code null} if the element is not annotated with the type
+   */
+  public AnnotationMirror getAnnotationMirror(String annotationType) {
+    return this.annotations.get(annotationType);
+  }
+
+  /**
+   * Checks whether the element is a class annotated with {@code @Configuration}.
+   *
+   * @return {@code true} if the element is a configuration class, {@code false} otherwise
+   */
+  public boolean isConfigurationClass() {
+    return getKind() == ElementKind.CLASS && isAnnotatedWith(SpringTypeNames.CONFIGURATION);
+  }
+
+  /**
+   * Checks whether the element is enclosed in a class annotated with {@code @Configuration}.
+   *
+   * @return {@code true} if the enclosing element is a configuration class, {@code false} otherwise
+   */
+  public boolean isEnclosedInConfigurationClass() {
+    return this.enclosedInConfigurationClass;
+  }
+
+  /**
+   * Checks whether the element is enclosed in a class annotated with {@code @Component}, either directly or through a
+   * stereotype such as {@code @Service} or {@code @Configuration}.
+   *
+   * @return {@code true} if the enclosing element is a component class, {@code false} otherwise
+   */
+  public boolean isEnclosedInComponentClass() {
+    return this.enclosedInComponentClass;
+  }
+
+  /**
+   * Checks whether the element is a class nested in another class.
+   *
+   * @return {@code true} if the element is a nested class, {@code false} otherwise
+   */
+  public boolean isNestedClass() {
+    return this.enclosingKind == ElementKind.CLASS;
+  }
+
+  /**
+   * Gets the kind of the element enclosing the element.
+   *
+   * @return the kind of the enclosing element
+   */
+  public ElementKind getEnclosingKind() {
+    return this.enclosingKind;
+  }
+
+  /**
+   * Gets the facts of the constructors of a class.
+   *
+   * @return the facts of the constructors or an empty list if the element is not a class
+   */
+  public List<ElementFacts> getConstructors() {
+    return this.constructors;
+  }
+
+  /**
+   * Gets the number of parameters of a method or constructor.
+   *
+   * @return the number of parameters or {@code 0} if the element is not executable
+   */
+  public int getParameterCount() {
+    return this.parameterCount;
+  }
+
+  /**
+   * Gets the return type of a method.
+   *
+   * @return the return type or {@code null} if the element is not executable
+   */
+  public TypeMirror getReturnType() {
+    return this.element instanceof ExecutableElement ? ((ExecutableElement) this.element).getReturnType() : null;
+  }
+
+  /**
+   * Gets the kind of the return type of a method.
+   *
+   * @return the kind of the return type or {@code null} if the element is not executable
+   */
+  public TypeKind getReturnTypeKind() {
+    return this.returnTypeKind;
+  }
+
+  /**
+   * Checks whether the return type of a method is assignable to the given marker type. The marker types of the
+   * return type are resolved on the first invocation.
+   *
+   * @param marker the marker type
+   * @return {@code true} if the return type is assignable to {@code marker}, {@code false} otherwise
+   */
+  public boolean isReturnTypeAssignableTo(MarkerType marker) {
+    if (this.returnTypeMarkers == UNRESOLVED) {
+      TypeMirror returnType = getReturnType();
+      this.returnTypeMarkers = returnType != null ? this.supertypeIndex.getMarkers(returnType) : 0;
+    }
+    return SupertypeIndex.isAssignable(this.returnTypeMarkers, marker);
+  }
+}
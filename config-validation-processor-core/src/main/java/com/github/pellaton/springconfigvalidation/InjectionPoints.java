@@ -0,0 +1,237 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * Resolves the types of beans and the bean types their injection points depend on, by the names of the erased types.
+ * Collections, maps, arrays and {@code Optional}s depend on their element types. Injection points that are resolved
+ * lazily do not depend on any bean: {@code ObjectProvider}, {@code ObjectFactory}, {@code Provider} and injection
+ * points annotated with {@code @Lazy} or {@code @Value}.
+ *
+ * <p>The supertypes of a type are memoized for the whole compilation.
+ *
+ * @author Michael Pellaton
+ */
+final class InjectionPoints {
+
+  private static final String OBJECT = "java.lang.Object";
+  private static final String OPTIONAL = "java.util.Optional";
+
+  private static final Set<String> INJECTION_ANNOTATIONS;
+  private static final Set<String> LAZY_ANNOTATIONS;
+  private static final Set<String> LAZY_TYPES;
+  private static final Set<String> COLLECTION_TYPES;
+  private static final Set<String> MAP_TYPES;
+
+  static {
+    Set<String> injectionAnnotations = new HashSet<String>();
+    injectionAnnotations.add(SpringTypeNames.AUTOWIRED);
+    injectionAnnotations.add("javax.inject.Inject");
+    injectionAnnotations.add("jakarta.inject.Inject");
+    INJECTION_ANNOTATIONS = Collections.unmodifiableSet(injectionAnnotations);
+
+    Set<String> lazyAnnotations = new HashSet<String>();
+    lazyAnnotations.add(SpringTypeNames.LAZY);
+    lazyAnnotations.add(SpringTypeNames.VALUE);
+    LAZY_ANNOTATIONS = Collections.unmodifiableSet(lazyAnnotations);
+
+    Set<String> lazyTypes = new HashSet<String>();
+    lazyTypes.add("org.springframework.beans.factory.ObjectFactory");
+    lazyTypes.add("org.springframework.beans.factory.ObjectProvider");
+    lazyTypes.add("javax.inject.Provider");
+    lazyTypes.add("jakarta.inject.Provider");
+    LAZY_TYPES = Collections.unmodifiableSet(lazyTypes);
+
+    Set<String> collectionTypes = new HashSet<String>();
+    collectionTypes.add("java.lang.Iterable");
+    collectionTypes.add("java.util.Collection");
+    collectionTypes.add("java.util.List");
+    collectionTypes.add("java.util.Set");
+    collectionTypes.add("java.util.SortedSet");
+    collectionTypes.add("java.util.NavigableSet");
+    COLLECTION_TYPES = Collections.unmodifiableSet(collectionTypes);
+
+    Set<String> mapTypes = new HashSet<String>();
+    mapTypes.add("java.util.Map");
+    mapTypes.add("java.util.SortedMap");
+    mapTypes.add("java.util.NavigableMap");
+    MAP_TYPES = Collections.unmodifiableSet(mapTypes);
+  }
+
+  private final Types types;
+  private final MetaAnnotationIndex annotationIndex;
+  private final Map<String, Set<String>> supertypes = new HashMap<String, Set<String>>();
+
+
+  /**
+   * Constructor.
+   *
+   * @param types the type utilities of the current compilation
+   * @param annotationIndex the meta-annotation index of the current compilation
+   */
+  InjectionPoints(Types types, MetaAnnotationIndex annotationIndex) {
+    this.types = types;
+    this.annotationIndex = annotationIndex;
+  }
+
+
+  /**
+   * Gets the name of the erasure of a type.
+   *
+   * @param type the type
+   * @return the qualified name of the erased type or {@code null} if the type is not a class or interface
+   */
+  String getTypeName(TypeMirror type) {
+    TypeMirror erasure = this.types.erasure(type);
+    if (erasure.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+  }
+
+  /**
+   * Gets the names of a type and all its supertypes except {@code java.lang.Object}, i.e. the types a bean of the type
+   * can be injected as.
+   *
+   * @param type the type
+   * @return the names of the erased type and its supertypes, empty if the type is not a class or interface
+   */
+  Set<String> getSupertypes(TypeMirror type) {
+    String typeName = getTypeName(type);
+    if (typeName == null) {
+      return Collections.emptySet();
+    }
+    Set<String> typeSupertypes = this.supertypes.get(typeName);
+    if (typeSupertypes == null) {
+      typeSupertypes = new LinkedHashSet<String>();
+      typeSupertypes.add(typeName);
+      for (TypeMirror supertype : this.types.directSupertypes(this.types.erasure(type))) {
+        typeSupertypes.addAll(getSupertypes(supertype));
+      }
+      typeSupertypes.remove(OBJECT);
+      this.supertypes.put(typeName, typeSupertypes);
+    }
+    return typeSupertypes;
+  }
+
+  /**
+   * Adds the bean types the injected fields, {@code @Autowired} methods and constructor parameters of a class depend
+   * on.
+   *
+   * @param type the class
+   * @param dependencies the collection to add the names of the bean types to
+   */
+  void addClassDependencies(TypeElement type, Collection<String> dependencies) {
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (isAnnotatedWithAny(field, INJECTION_ANNOTATIONS) && !isAnnotatedWithAny(field, LAZY_ANNOTATIONS)) {
+        addDependency(field.asType(), dependencies);
+      }
+    }
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (isAnnotatedWithAny(method, INJECTION_ANNOTATIONS)) {
+        addParameterDependencies(method, false, dependencies);
+      }
+    }
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+    for (ExecutableElement constructor : constructors) {
+      if (constructors.size() == 1 || isAnnotatedWithAny(constructor, INJECTION_ANNOTATIONS)) {
+        addParameterDependencies(constructor, false, dependencies);
+      }
+    }
+  }
+
+  /**
+   * Adds the bean types the parameters of a method or constructor depend on.
+   *
+   * @param executable the method or constructor
+   * @param beanMethod whether the method is a {@code @Bean} method, on which {@code @Lazy} defers the creation of the
+   *        bean instead of making the parameters lazy
+   * @param dependencies the collection to add the names of the bean types to
+   */
+  void addParameterDependencies(ExecutableElement executable, boolean beanMethod, Collection<String> dependencies) {
+    if (!beanMethod && isAnnotatedWithAny(executable, LAZY_ANNOTATIONS)) {
+      return;
+    }
+    for (VariableElement parameter : executable.getParameters()) {
+      if (!isAnnotatedWithAny(parameter, LAZY_ANNOTATIONS)) {
+        addDependency(parameter.asType(), dependencies);
+      }
+    }
+  }
+
+  private void addDependency(TypeMirror type, Collection<String> dependencies) {
+    TypeMirror dependency = getUpperBound(type);
+    if (dependency != null && dependency.getKind() == TypeKind.ARRAY) {
+      dependency = getUpperBound(((ArrayType) dependency).getComponentType());
+    }
+    String typeName = dependency == null ? null : getTypeName(dependency);
+    if (typeName == null || LAZY_TYPES.contains(typeName)) {
+      return;
+    }
+    if (OPTIONAL.equals(typeName) || COLLECTION_TYPES.contains(typeName) || MAP_TYPES.contains(typeName)) {
+      List<? extends TypeMirror> typeArguments = dependency.getKind() == TypeKind.DECLARED
+          ? ((DeclaredType) dependency).getTypeArguments() : Collections.<TypeMirror>emptyList();
+      if (!typeArguments.isEmpty()) {
+        addDependency(typeArguments.get(typeArguments.size() - 1), dependencies);
+      }
+      return;
+    }
+    dependencies.add(typeName);
+  }
+
+  // wildcards depend on their extends bound and type variables on their upper bound, unbounded wildcards on nothing
+  private static TypeMirror getUpperBound(TypeMirror type) {
+    TypeMirror bound = type;
+    while (bound != null && (bound.getKind() == TypeKind.WILDCARD || bound.getKind() == TypeKind.TYPEVAR)) {
+      bound = bound.getKind() == TypeKind.WILDCARD ? ((WildcardType) bound).getExtendsBound()
+          : ((TypeVariable) bound).getUpperBound();
+    }
+    return bound;
+  }
+
+  private boolean isAnnotatedWithAny(Element element, Set<String> annotationTypes) {
+    for (String annotationType : annotationTypes) {
+      if (this.annotationIndex.isAnyAnnotatedWith(element.getAnnotationMirrors(), annotationType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * Finds the calls of {@code @Bean} methods in the source of a class. During annotation processing the method bodies are
+ * not attributed yet, so calls are matched syntactically by the method name and the number of arguments, which for a
+ * varargs method is any number from its number of parameters but one. Calls with an implicit receiver, {@code this},
+ * {@code super} or a qualified {@code Outer.this} receiver and method references on these receivers are considered
+ * calls of the bean method. This errs on the side of finding calls that actually target a different method with the
+ * same name and arity.
+ *
+ * <p>Method bodies are only available through the compiler tree API of javac, so on other compilers the finder is not
+ * {@link #isAvailable() available}.
+ *
+ * @author Michael Pellaton
+ */
+abstract class InterBeanCallFinder {
+
+  private static final InterBeanCallFinder UNAVAILABLE = new InterBeanCallFinder() {
+
+    @Override
+    boolean isAvailable() {
+      return false;
+    }
+
+    @Override
+    List<InterBeanCall> find(Element scope, Collection<? extends ExecutableElement> beanMethods) {
+      throw new UnsupportedOperationException("The compiler tree API is not available");
+    }
+  };
+
+
+  /**
+   * Creates the finder for the given processing environment.
+   *
+   * @param processingEnv the processing environment
+   * @return a finder using the compiler tree API if it is available, an unavailable finder otherwise
+   */
+  static InterBeanCallFinder create(ProcessingEnvironment processingEnv) {
+    try {
+      return new TreesInterBeanCallFinder(processingEnv);
+    } catch (NoClassDefFoundError e) {
+      return UNAVAILABLE;
+    } catch (IllegalArgumentException e) {
+      return UNAVAILABLE;
+    }
+  }
+
+  /**
+   * Checks whether the finder can analyze method bodies.
+   *
+   * @return {@code true} if the compiler tree API is available
+   */
+  abstract boolean isAvailable();
+
+  /**
+   * Finds the calls of the given bean methods in the source of a class or method, including its inner, local and
+   * anonymous classes but not its static nested classes.
+   *
+   * @param scope the class or method to analyze
+   * @param beanMethods the bean methods whose calls to find
+   * @return the calls in source order or {@code null} if the source of the scope is not part of the compilation
+   */
+  abstract List<InterBeanCall> find(Element scope, Collection<? extends ExecutableElement> beanMethods);
+
+
+  /**
+   * A call of a bean method found in the source.
+   */
+  static final class InterBeanCall {
+
+    private final String methodName;
+    private final long line;
+    private final long column;
+
+
+    InterBeanCall(String methodName, long line, long column) {
+      this.methodName = methodName;
+      this.line = line;
+      this.column = column;
+    }
+
+
+    /**
+     * Gets the name of the called bean method.
+     *
+     * @return the method name
+     */
+    String getMethodName() {
+      return this.methodName;
+    }
+
+    /**
+     * Gets the line of the call.
+     *
+     * @return the 1-based line or {@link javax.tools.Diagnostic#NOPOS} if it is not known
+     */
+    long getLine() {
+      return this.line;
+    }
+
+    /**
+     * Gets the column of the call.
+     *
+     * @return the 1-based column or {@link javax.tools.Diagnostic#NOPOS} if it is not known
+     */
+    long getColumn() {
+      return this.column;
+    }
+  }
+}
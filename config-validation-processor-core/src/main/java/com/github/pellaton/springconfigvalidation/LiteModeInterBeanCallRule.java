@@ -0,0 +1,119 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * Reports the calls of {@code @Bean} methods from within other {@code @Bean} methods of a class in lite mode, i.e. a
+ * class that is not annotated with {@code @Configuration} or declares {@code proxyBeanMethods = false}. Without the
+ * CGLIB proxy such a call is a plain Java method call that creates another instance next to the one managed by the
+ * container.
+ *
+ * <p>The calls are searched in the source of the calling method with the {@link InterBeanCallFinder}, so nothing is
+ * reported if the finder is not available on the compiler in use. The error is reported on the calling method and its
+ * message names the position of the call.
+ *
+ * @author Michael Pellaton
+ */
+final class LiteModeInterBeanCallRule implements ValidationRule {
+
+  private static final Set<ElementKind> ELEMENT_KINDS = Collections.unmodifiableSet(EnumSet.of(ElementKind.METHOD));
+  private static final Set<String> ANNOTATION_TYPES = Collections.singleton(SpringTypeNames.BEAN);
+
+  private Elements elements;
+  private MetaAnnotationIndex annotationIndex;
+  private InterBeanCallFinder finder;
+
+  private TypeElement beanClass;
+  private List<ExecutableElement> beanMethods;
+
+
+  @Override
+  public String getName() {
+    return "LITE_MODE_INTER_BEAN_CALL";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.annotationIndex = context.getAnnotationIndex();
+    this.finder = context.getInterBeanCallFinder();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    Element enclosingElement = facts.getElement().getEnclosingElement();
+    if (!this.finder.isAvailable() || enclosingElement.getKind() != ElementKind.CLASS
+        || !isLiteMode(facts, enclosingElement)) {
+      return;
+    }
+    List<InterBeanCallFinder.InterBeanCall> calls =
+        this.finder.find(facts.getElement(), getBeanMethods((TypeElement) enclosingElement));
+    if (calls == null) {
+      return;
+    }
+    for (InterBeanCallFinder.InterBeanCall call : calls) {
+      reporter.report(SpringConfigurationMessage.LITE_MODE_INTER_BEAN_CALL, facts.getElement(), null,
+          call.getMethodName(), Long.valueOf(call.getLine()), Long.valueOf(call.getColumn()));
+    }
+  }
+
+  private boolean isLiteMode(ElementFacts facts, Element beanClass) {
+    if (!facts.isEnclosedInConfigurationClass()) {
+      return true;
+    }
+    return !ProxyBeanMethodsRule.isProxyBeanMethods(this.annotationIndex.resolveAnnotations(
+        beanClass.getAnnotationMirrors()).get(SpringTypeNames.CONFIGURATION));
+  }
+
+  private List<ExecutableElement> getBeanMethods(TypeElement type) {
+    // the bean methods of a class are validated one after the other, so only those of the last class are kept
+    if (!type.equals(this.beanClass)) {
+      this.beanMethods = new ArrayList<ExecutableElement>();
+      for (ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(type))) {
+        if (this.annotationIndex.isAnyAnnotatedWith(method.getAnnotationMirrors(), SpringTypeNames.BEAN)) {
+          this.beanMethods.add(method);
+        }
+      }
+      this.beanClass = type;
+    }
+    return this.beanMethods;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+/**
+ * Spring marker types whose implementations get special treatment by the container. Whether a type is assignable to
+ * one of the marker types is memoized per compilation, so checking it is a constant time lookup.
+ *
+ * @author Michael Pellaton
+ *
+ * @see ValidationContext#isAssignable(javax.lang.model.type.TypeMirror, MarkerType)
+ */
+public enum MarkerType {
+
+  BEAN_FACTORY_POST_PROCESSOR("org.springframework.beans.factory.config.BeanFactoryPostProcessor"),
+  BEAN_POST_PROCESSOR("org.springframework.beans.factory.config.BeanPostProcessor"),
+  FACTORY_BEAN("org.springframework.beans.factory.FactoryBean"),
+  SMART_INITIALIZING_SINGLETON("org.springframework.beans.factory.SmartInitializingSingleton"),
+  LIFECYCLE("org.springframework.context.Lifecycle");
+
+
+  private final String typeName;
+
+
+  private MarkerType(String typeName) {
+    this.typeName = typeName;
+  }
+
+
+  /**
+   * Gets the fully qualified name of the marker type.
+   *
+   * @return the fully qualified name of the marker type
+   */
+  public String getTypeName() {
+    return this.typeName;
+  }
+
+  int mask() {
+    return 1 << ordinal();
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import javax.annotation.processing.Messager;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * The {@link BeanMetadata} of all modules a compilation depends on. The metadata is looked up in the class path of the
+ * processor, which is the compile class path unless a separate processor path is configured, and in the directories
+ * and jars of the {@code springconfigvalidation.metadataPath} option. Metadata in directories is memory-mapped,
+ * metadata in jars is read into memory.
+ *
+ * <p>If a class is defined in several modules, the module found first wins. A module whose metadata turns out to be
+ * corrupt when its classes are decoded is dropped with a warning.
+ *
+ * @author Michael Pellaton
+ */
+final class MergedBeanMetadata {
+
+  private final List<BeanMetadata> modules;
+  private final Messager messager;
+
+
+  private MergedBeanMetadata(List<BeanMetadata> modules, Messager messager) {
+    this.modules = modules;
+    this.messager = messager;
+  }
+
+
+  /**
+   * Loads the metadata of all modules. Metadata that cannot be read is skipped with a warning.
+   *
+   * @param classLoader the class loader whose resources are searched for metadata
+   * @param metadataPath the additional directories and jars separated by the path separator or {@code null}
+   * @param excluded the metadata file written by the compilation itself, which is skipped, or {@code null}
+   * @param messager the messager of the warnings
+   * @return the merged metadata
+   */
+  static MergedBeanMetadata load(ClassLoader classLoader, String metadataPath, File excluded, Messager messager) {
+    List<BeanMetadata> modules = new ArrayList<BeanMetadata>();
+    Set<String> sources = new HashSet<String>();
+    if (excluded != null) {
+      sources.add(excluded.getAbsolutePath());
+    }
+    if (metadataPath != null) {
+      for (String entry : metadataPath.split(File.pathSeparator)) {
+        if (entry.length() > 0) {
+          loadPathEntry(new File(entry), modules, sources, messager);
+        }
+      }
+    }
+    if (classLoader != null) {
+      try {
+        Enumeration<URL> resources = classLoader.getResources(BeanMetadata.RESOURCE);
+        while (resources.hasMoreElements()) {
+          loadResource(resources.nextElement(), modules, sources, messager);
+        }
+      } catch (IOException e) {
+        warn(messager, BeanMetadata.RESOURCE, e);
+      }
+    }
+    return new MergedBeanMetadata(modules, messager);
+  }
+
+  private static void loadPathEntry(File entry, List<BeanMetadata> modules, Set<String> sources, Messager messager) {
+    try {
+      if (entry.isDirectory()) {
+        File file = new File(entry, BeanMetadata.RESOURCE);
+        if (file.isFile() && sources.add(file.getAbsolutePath())) {
+          modules.add(BeanMetadata.map(file));
+        }
+      } else if (entry.isFile() && sources.add(entry.getAbsolutePath() + "!/" + BeanMetadata.RESOURCE)) {
+        JarFile jar = new JarFile(entry);
+        try {
+          ZipEntry resource = jar.getEntry(BeanMetadata.RESOURCE);
+          if (resource != null) {
+            String source = entry.getPath() + "!/" + BeanMetadata.RESOURCE;
+            modules.add(BeanMetadata.read(source, jar.getInputStream(resource)));
+          }
+        } finally {
+          jar.close();
+        }
+      }
+    } catch (IOException e) {
+      warn(messager, entry.getPath(), e);
+    }
+  }
+
+  private static void loadResource(URL url, List<BeanMetadata> modules, Set<String> sources, Messager messager) {
+    try {
+      if ("file".equals(url.getProtocol())) {
+        File file = new File(url.toURI());
+        if (sources.add(file.getAbsolutePath())) {
+          modules.add(BeanMetadata.map(file));
+        }
+      } else if (sources.add(url.toString())) {
+        modules.add(BeanMetadata.read(url.toString(), url.openStream()));
+      }
+    } catch (IOException e) {
+      warn(messager, url.toString(), e);
+    } catch (URISyntaxException e) {
+      warn(messager, url.toString(), new IOException(e.getMessage()));
+    }
+  }
+
+  private static void warn(Messager messager, String source, IOException e) {
+    messager.printMessage(Kind.WARNING, "Could not read bean metadata " + source + ": " + e.getMessage());
+  }
+
+  /**
+   * Gets the metadata of the modules in the order they were found.
+   *
+   * @return the metadata of the modules
+   */
+  List<BeanMetadata> getModules() {
+    return Collections.unmodifiableList(this.modules);
+  }
+
+  /**
+   * Looks up a class in the modules.
+   *
+   * @param className the qualified name of the class
+   * @return the class of the first module defining it or {@code null} if no module defines the class
+   */
+  BeanMetadata.ClassMetadata findClass(String className) {
+    for (Iterator<BeanMetadata> modules = this.modules.iterator(); modules.hasNext();) {
+      BeanMetadata module = modules.next();
+      try {
+        BeanMetadata.ClassMetadata metadata = module.findClass(className);
+        if (metadata != null) {
+          return metadata;
+        }
+      } catch (IOException e) {
+        warn(this.messager, module.getSource(), e);
+        modules.remove();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the classes of all modules. Classes defined in several modules are returned once.
+   *
+   * @return the classes
+   */
+  List<BeanMetadata.ClassMetadata> getClasses() {
+    List<BeanMetadata.ClassMetadata> classes = new ArrayList<BeanMetadata.ClassMetadata>();
+    Set<String> classNames = new HashSet<String>();
+    for (Iterator<BeanMetadata> modules = this.modules.iterator(); modules.hasNext();) {
+      BeanMetadata module = modules.next();
+      List<BeanMetadata.ClassMetadata> moduleClasses = new ArrayList<BeanMetadata.ClassMetadata>();
+      List<String> moduleClassNames = new ArrayList<String>();
+      try {
+        for (int i = 0; i < module.getClassCount(); i++) {
+          String className = module.getClassName(i);
+          if (!classNames.contains(className)) {
+            moduleClassNames.add(className);
+            moduleClasses.add(module.decodeClass(i));
+          }
+        }
+        classNames.addAll(moduleClassNames);
+        classes.addAll(moduleClasses);
+      } catch (IOException e) {
+        warn(this.messager, module.getSource(), e);
+        modules.remove();
+      }
+    }
+    return classes;
+  }
+}
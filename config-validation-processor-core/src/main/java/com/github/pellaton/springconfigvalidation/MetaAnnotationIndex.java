@@ -0,0 +1,155 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Per-compilation cache of the annotation types that annotation types transitively carry, e.g. the closure of a
+ * composed stereotype like {@code @SpringBootConfiguration} contains {@code @Configuration} and {@code @Component}.
+ * Each annotation type is walked only once, all further lookups are constant time.
+ *
+ * <p>Meta-annotations may be cyclic. All annotation types of a cycle have the same closure, which is only complete
+ * when the walk returns to the annotation type the cycle was entered with, so the closures of the annotation types of
+ * a cycle are cached together at that point, the way Tarjan's algorithm finds strongly connected components.
+ *
+ * @author Michael Pellaton
+ */
+final class MetaAnnotationIndex {
+
+  private static final String JAVA_LANG_ANNOTATION_PACKAGE = "java.lang.annotation.";
+
+  private final Map<String, Set<String>> closures = new HashMap<String, Set<String>>();
+
+
+  /**
+   * Gets the qualified names of the given annotation type and of all annotation types it is (transitively)
+   * meta-annotated with.
+   *
+   * @param annotationType the annotation type
+   * @return the closure of the annotation type, including the annotation type itself
+   */
+  Set<String> getAnnotationClosure(TypeElement annotationType) {
+    String key = annotationType.getQualifiedName().toString();
+    Set<String> closure = this.closures.get(key);
+    if (closure == null) {
+      walk(annotationType, new HashSet<String>(), new ArrayList<String>(), new HashMap<String, Integer>());
+      closure = this.closures.get(key);
+    }
+    return closure;
+  }
+
+  // adds the closure of the annotation type to the given closure and returns the lowest index on the path of the walk
+  // that is reachable from the annotation type, as the closures of the annotation types on the path are not complete
+  private int walk(TypeElement annotationType, Set<String> closure, List<String> path, Map<String, Integer> indexes) {
+    String key = annotationType.getQualifiedName().toString();
+    Set<String> cachedClosure = this.closures.get(key);
+    if (cachedClosure != null) {
+      closure.addAll(cachedClosure);
+      return Integer.MAX_VALUE;
+    }
+    Integer pathIndex = indexes.get(key);
+    if (pathIndex != null) {
+      return pathIndex.intValue();
+    }
+
+    int index = path.size();
+    path.add(key);
+    indexes.put(key, Integer.valueOf(index));
+    Set<String> newClosure = new HashSet<String>();
+    newClosure.add(key);
+    int lowestIndex = index;
+    if (!key.startsWith(JAVA_LANG_ANNOTATION_PACKAGE)) {
+      for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+        lowestIndex = Math.min(lowestIndex,
+            walk((TypeElement) metaAnnotation.getAnnotationType().asElement(), newClosure, path, indexes));
+      }
+    }
+    closure.addAll(newClosure);
+
+    if (lowestIndex == index) {
+      // the annotation types from here to the end of the path form a cycle and have the now complete closure
+      Set<String> completeClosure = Collections.unmodifiableSet(newClosure);
+      List<String> cycle = path.subList(index, path.size());
+      for (String member : cycle) {
+        this.closures.put(member, completeClosure);
+        indexes.remove(member);
+      }
+      cycle.clear();
+    }
+    return lowestIndex;
+  }
+
+  /**
+   * Checks whether the given annotation type is the given target annotation or is (transitively) meta-annotated with
+   * it.
+   *
+   * @param annotationType the annotation type to check
+   * @param targetAnnotation the qualified name of the target annotation
+   * @return {@code true} if {@code annotationType} is or carries the target annotation, {@code false} otherwise
+   */
+  boolean isAnnotatedWith(TypeElement annotationType, String targetAnnotation) {
+    return getAnnotationClosure(annotationType).contains(targetAnnotation);
+  }
+
+  /**
+   * Resolves the annotations present on an element, mapping the qualified name of every annotation type in the
+   * closure of the present annotations to the present annotation that carries it.
+   *
+   * @param annotationMirrors the annotations present on an element
+   * @return the resolved annotations, in the order of the present annotations
+   */
+  Map<String, AnnotationMirror> resolveAnnotations(Iterable<? extends AnnotationMirror> annotationMirrors) {
+    Map<String, AnnotationMirror> resolvedAnnotations = new LinkedHashMap<String, AnnotationMirror>();
+    for (AnnotationMirror annotationMirror : annotationMirrors) {
+      TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+      for (String annotationTypeName : getAnnotationClosure(annotationType)) {
+        if (!resolvedAnnotations.containsKey(annotationTypeName)) {
+          resolvedAnnotations.put(annotationTypeName, annotationMirror);
+        }
+      }
+    }
+    return resolvedAnnotations;
+  }
+
+  /**
+   * Checks whether any of the given annotations is or carries the target annotation.
+   *
+   * @param annotationMirrors the annotations present on an element
+   * @param targetAnnotation the qualified name of the target annotation
+   * @return {@code true} if one of the annotations is or carries the target annotation, {@code false} otherwise
+   */
+  boolean isAnyAnnotatedWith(Iterable<? extends AnnotationMirror> annotationMirrors, String targetAnnotation) {
+    for (AnnotationMirror annotationMirror : annotationMirrors) {
+      if (isAnnotatedWith((TypeElement) annotationMirror.getAnnotationType().asElement(), targetAnnotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
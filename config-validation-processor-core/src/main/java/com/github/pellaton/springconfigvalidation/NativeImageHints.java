@@ -0,0 +1,379 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Collects the reflection and proxy hints a GraalVM native image needs for the {@code @Configuration} classes and
+ * their {@code @Bean} methods while the rules are evaluated, merging the hints of all rounds, and writes them as
+ * {@code reflect-config.json} and {@code proxy-config.json} at the end of the compilation. The hints are limited to
+ * what Spring accesses reflectively:
+ *
+ * <ul>
+ * <li>configuration classes: the constructors Spring instantiates them with, the injected fields and methods, the
+ * {@code @Bean} methods and querying the declared methods;</li>
+ * <li>bean types: the class itself and the init and destroy methods, including an inferred {@code close} or
+ * {@code shutdown} method;</li>
+ * <li>JDK proxies for the interfaces of injection points annotated with {@code @Lazy}.</li>
+ * </ul>
+ *
+ * <p>The hints only cover the classes of the current compilation. They are written to
+ * {@code META-INF/native-image/<groupId>/<artifactId>}, so the hints of several modules merged into one jar do not
+ * overwrite each other.
+ *
+ * @author Michael Pellaton
+ */
+final class NativeImageHints implements ValidationRule {
+
+  /**
+   * The name of the reflection configuration resource in the directory of the hints.
+   */
+  static final String REFLECT_CONFIG = "reflect-config.json";
+
+  /**
+   * The name of the proxy configuration resource in the directory of the hints.
+   */
+  static final String PROXY_CONFIG = "proxy-config.json";
+
+  private static final String INFER_METHOD = "(inferred)";
+  private static final String CONSTRUCTOR = "<init>";
+  private static final List<String> INFERRED_DESTROY_METHODS = Collections.unmodifiableList(
+      Arrays.asList("close", "shutdown"));
+  private static final List<String> PROXY_INTERFACES = Collections.unmodifiableList(Arrays.asList(
+      "org.springframework.aop.SpringProxy", "org.springframework.aop.framework.Advised",
+      "org.springframework.core.DecoratingProxy"));
+
+  private static final Set<ElementKind> ELEMENT_KINDS =
+      Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS, ElementKind.METHOD));
+  private static final Set<String> ANNOTATION_TYPES;
+  private static final Set<String> INJECTION_ANNOTATIONS;
+
+  static {
+    Set<String> annotationTypes = new HashSet<String>();
+    annotationTypes.add(SpringTypeNames.CONFIGURATION);
+    annotationTypes.add(SpringTypeNames.BEAN);
+    ANNOTATION_TYPES = Collections.unmodifiableSet(annotationTypes);
+
+    Set<String> injectionAnnotations = new HashSet<String>();
+    injectionAnnotations.add(SpringTypeNames.AUTOWIRED);
+    injectionAnnotations.add(SpringTypeNames.VALUE);
+    injectionAnnotations.add("javax.inject.Inject");
+    injectionAnnotations.add("jakarta.inject.Inject");
+    INJECTION_ANNOTATIONS = Collections.unmodifiableSet(injectionAnnotations);
+  }
+
+  private final Map<String, TypeHints> typeHints = new TreeMap<String, TypeHints>();
+  private final Set<String> proxyHints = new TreeSet<String>();
+
+  private Elements elements;
+  private Types types;
+
+
+  @Override
+  public String getName() {
+    return "NATIVE_IMAGE_HINTS";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.types = context.getProcessingEnvironment().getTypeUtils();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (facts.isConfigurationClass()) {
+      addConfigurationClass((TypeElement) facts.getElement());
+    } else if (facts.getKind() == ElementKind.METHOD && facts.isAnnotatedWith(SpringTypeNames.BEAN)
+        && facts.isEnclosedInConfigurationClass()) {
+      addBeanMethod((ExecutableElement) facts.getElement());
+    }
+  }
+
+  private void addConfigurationClass(TypeElement type) {
+    TypeHints hints = getTypeHints(type);
+    hints.queryAllDeclaredMethods = true;
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+    for (ExecutableElement constructor : constructors) {
+      if (constructors.size() == 1 || constructor.getParameters().isEmpty()
+          || isAnnotatedWithAny(constructor, INJECTION_ANNOTATIONS)) {
+        hints.methods.add(toMethodHint(constructor));
+        addLazyParameters(constructor, false);
+      }
+    }
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (isAnnotatedWithAny(field, INJECTION_ANNOTATIONS)) {
+        hints.fields.add(field.getSimpleName().toString());
+        addLazyProxy(field, field.asType());
+      }
+    }
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (isAnnotatedWithAny(method, INJECTION_ANNOTATIONS)) {
+        hints.methods.add(toMethodHint(method));
+        addLazyParameters(method, isAnnotatedWith(method, SpringTypeNames.LAZY));
+      }
+    }
+  }
+
+  private void addBeanMethod(ExecutableElement beanMethod) {
+    getTypeHints((TypeElement) beanMethod.getEnclosingElement()).methods.add(toMethodHint(beanMethod));
+    addLazyParameters(beanMethod, false);
+
+    TypeMirror beanType = this.types.erasure(beanMethod.getReturnType());
+    if (beanType.getKind() != TypeKind.DECLARED) {
+      return;
+    }
+    TypeElement beanClass = (TypeElement) ((DeclaredType) beanType).asElement();
+    TypeHints hints = getTypeHints(beanClass);
+    String initMethod = getAnnotationString(beanMethod, "initMethod");
+    if (initMethod != null && initMethod.trim().length() > 0) {
+      addLifecycleMethod(beanClass, initMethod.trim(), hints);
+    }
+    String destroyMethod = getAnnotationString(beanMethod, "destroyMethod");
+    if (destroyMethod == null || INFER_METHOD.equals(destroyMethod)) {
+      for (String inferredMethod : INFERRED_DESTROY_METHODS) {
+        if (addLifecycleMethod(beanClass, inferredMethod, hints)) {
+          break;
+        }
+      }
+    } else if (destroyMethod.trim().length() > 0) {
+      addLifecycleMethod(beanClass, destroyMethod.trim(), hints);
+    }
+  }
+
+  private boolean addLifecycleMethod(TypeElement beanClass, String methodName, TypeHints hints) {
+    for (ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(beanClass))) {
+      if (method.getSimpleName().contentEquals(methodName) && method.getParameters().isEmpty()
+          && method.getModifiers().contains(Modifier.PUBLIC)) {
+        hints.methods.add(toMethodHint(method));
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void addLazyParameters(ExecutableElement executable, boolean lazy) {
+    for (VariableElement parameter : executable.getParameters()) {
+      if (lazy) {
+        addProxy(parameter.asType());
+      } else {
+        addLazyProxy(parameter, parameter.asType());
+      }
+    }
+  }
+
+  private void addLazyProxy(Element injectionPoint, TypeMirror type) {
+    if (isAnnotatedWith(injectionPoint, SpringTypeNames.LAZY)) {
+      addProxy(type);
+    }
+  }
+
+  private void addProxy(TypeMirror type) {
+    TypeMirror erasure = this.types.erasure(type);
+    if (erasure.getKind() == TypeKind.DECLARED
+        && ((DeclaredType) erasure).asElement().getKind() == ElementKind.INTERFACE) {
+      List<String> interfaces = new ArrayList<String>();
+      interfaces.add(getClassName(erasure));
+      interfaces.addAll(PROXY_INTERFACES);
+      this.proxyHints.add(toJsonArray(interfaces));
+    }
+  }
+
+  private TypeHints getTypeHints(TypeElement type) {
+    String name = this.elements.getBinaryName(type).toString();
+    TypeHints hints = this.typeHints.get(name);
+    if (hints == null) {
+      hints = new TypeHints();
+      this.typeHints.put(name, hints);
+    }
+    return hints;
+  }
+
+  private String toMethodHint(ExecutableElement executable) {
+    List<String> parameterTypes = new ArrayList<String>();
+    for (VariableElement parameter : executable.getParameters()) {
+      parameterTypes.add(getClassName(this.types.erasure(parameter.asType())));
+    }
+    String name = executable.getKind() == ElementKind.CONSTRUCTOR ? CONSTRUCTOR
+        : executable.getSimpleName().toString();
+    return "{\"name\": " + toJsonString(name) + ", \"parameterTypes\": " + toJsonArray(parameterTypes) + "}";
+  }
+
+  private String getClassName(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return getClassName(((ArrayType) type).getComponentType()) + "[]";
+    }
+    if (type.getKind() == TypeKind.DECLARED) {
+      return this.elements.getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+    }
+    return type.toString();
+  }
+
+  private static String getAnnotationString(Element element, String attribute) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+          .contentEquals(SpringTypeNames.BEAN)) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+            : annotation.getElementValues().entrySet()) {
+          if (value.getKey().getSimpleName().contentEquals(attribute)) {
+            return (String) value.getValue().getValue();
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isAnnotatedWith(Element element, String annotationType) {
+    return isAnnotatedWithAny(element, Collections.singleton(annotationType));
+  }
+
+  private static boolean isAnnotatedWithAny(Element element, Set<String> annotationTypes) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      if (annotationTypes.contains(
+          ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String toJsonString(String value) {
+    StringWriter json = new StringWriter();
+    try {
+      ReportFormat.writeString(json, value);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return json.toString();
+  }
+
+  private static String toJsonArray(List<String> values) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < values.size(); i++) {
+      json.append(i == 0 ? "" : ", ").append(toJsonString(values.get(i)));
+    }
+    return json.append(']').toString();
+  }
+
+  /**
+   * Writes the reflection configuration.
+   *
+   * @param writer the writer of the reflection configuration resource
+   * @throws IOException if writing fails
+   */
+  void writeReflectConfig(Writer writer) throws IOException {
+    writer.write("[");
+    boolean first = true;
+    for (Map.Entry<String, TypeHints> type : this.typeHints.entrySet()) {
+      writer.write(first ? "\n  {\"name\": " : ",\n  {\"name\": ");
+      writer.write(toJsonString(type.getKey()));
+      TypeHints hints = type.getValue();
+      if (hints.queryAllDeclaredMethods) {
+        writer.write(", \"queryAllDeclaredMethods\": true");
+      }
+      if (!hints.fields.isEmpty()) {
+        writer.write(", \"fields\": [");
+        String separator = "";
+        for (String field : hints.fields) {
+          writer.write(separator + "{\"name\": " + toJsonString(field) + "}");
+          separator = ", ";
+        }
+        writer.write("]");
+      }
+      if (!hints.methods.isEmpty()) {
+        writer.write(", \"methods\": [");
+        String separator = "\n    ";
+        for (String method : hints.methods) {
+          writer.write(separator + method);
+          separator = ",\n    ";
+        }
+        writer.write("\n  ]");
+      }
+      writer.write("}");
+      first = false;
+    }
+    writer.write("\n]\n");
+  }
+
+  /**
+   * Writes the proxy configuration.
+   *
+   * @param writer the writer of the proxy configuration resource
+   * @throws IOException if writing fails
+   */
+  void writeProxyConfig(Writer writer) throws IOException {
+    writer.write("[");
+    String separator = "\n  ";
+    for (String proxy : this.proxyHints) {
+      writer.write(separator + proxy);
+      separator = ",\n  ";
+    }
+    writer.write("\n]\n");
+  }
+
+
+  /**
+   * The reflection hints of a type.
+   */
+  private static final class TypeHints {
+
+    private boolean queryAllDeclaredMethods;
+    private final Set<String> fields = new TreeSet<String>();
+    private final Set<String> methods = new TreeSet<String>();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Observes the rounds of the processor and the rule invocations, e.g. to emit them as JDK Flight Recorder events.
+ * The processor of a Java version provides its monitor by overriding
+ * {@link SpringConfigurationValidationProcessor#createMonitor()}. This default implementation observes nothing.
+ *
+ * <p>A monitor that is not recording returns {@code null} when an observation starts, so the processor does not call
+ * it again when the observation ends.
+ *
+ * @author Michael Pellaton
+ */
+class ProcessingMonitor {
+
+  /**
+   * The monitor observing nothing.
+   */
+  static final ProcessingMonitor NONE = new ProcessingMonitor();
+
+
+  /**
+   * Invoked when a round starts.
+   *
+   * @param round the number of the round, starting with {@code 1}
+   * @return the observation of the round or {@code null} if the round is not observed
+   */
+  Object roundStarted(int round) {
+    return null;
+  }
+
+  /**
+   * Invoked when a round observed by this monitor ends.
+   *
+   * @param observation the observation returned by {@link #roundStarted(int)}
+   * @param elements the number of elements validated in the round
+   * @param classChecks the number of classes checked in the round
+   * @param beanMethodChecks the number of {@code @Bean} methods checked in the round
+   */
+  void roundFinished(Object observation, int elements, int classChecks, int beanMethodChecks) {
+    // nothing to observe
+  }
+
+  /**
+   * Invoked before a rule validates an element.
+   *
+   * @param rule the rule
+   * @return the observation of the rule invocation or {@code null} if the invocation is not observed
+   */
+  Object ruleStarted(ValidationRule rule) {
+    return null;
+  }
+
+  /**
+   * Invoked after a rule observed by this monitor validated an element.
+   *
+   * @param observation the observation returned by {@link #ruleStarted(ValidationRule)}
+   * @param element the validated element
+   */
+  void ruleFinished(Object observation, Element element) {
+    // nothing to observe
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-round and per-check counters of the {@link SpringConfigurationValidationProcessor}. If the statistics are
+ * disabled, all recording methods return immediately without reading the clock.
+ *
+ * @author Michael Pellaton
+ */
+final class ProcessingStatistics {
+
+  private static final double NANOS_PER_MILLI = 1000000d;
+
+  private final boolean enabled;
+  private final List<long[]> rounds = new ArrayList<long[]>();
+  private final Map<String, long[]> checks = new LinkedHashMap<String, long[]>();
+
+  private long[] currentRound;
+  private long roundStart;
+
+
+  /**
+   * Constructor.
+   *
+   * @param enabled whether statistics are recorded
+   */
+  ProcessingStatistics(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+
+  /**
+   * Checks whether statistics are recorded.
+   *
+   * @return {@code true} if statistics are recorded
+   */
+  boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   * Marks the start of a processing round.
+   */
+  void roundStarted() {
+    if (this.enabled) {
+      this.currentRound = new long[Counter.values().length];
+      this.rounds.add(this.currentRound);
+      this.roundStart = System.nanoTime();
+    }
+  }
+
+  /**
+   * Marks the end of the current processing round.
+   */
+  void roundFinished() {
+    if (this.enabled) {
+      this.currentRound[Counter.NANOS.ordinal()] = System.nanoTime() - this.roundStart;
+    }
+  }
+
+  /**
+   * Increments a counter of the current round.
+   *
+   * @param counter the counter to increment
+   * @param amount the amount to add
+   */
+  void count(Counter counter, int amount) {
+    if (this.enabled) {
+      this.currentRound[counter.ordinal()] += amount;
+    }
+  }
+
+  /**
+   * Starts the timer for the next check.
+   *
+   * @return the current time or {@code 0} if the statistics are disabled
+   */
+  long startTimer() {
+    return this.enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records an invocation of a check that was started at the given time.
+   *
+   * @param check the name of the check
+   * @param start the time the check was started, as returned by {@link #startTimer()} or by this method
+   * @return the current time, which is the start time of a check invoked right after this one
+   */
+  long recordCheck(String check, long start) {
+    if (!this.enabled) {
+      return 0;
+    }
+
+    long now = System.nanoTime();
+    long[] counters = this.checks.get(check);
+    if (counters == null) {
+      counters = new long[2];
+      this.checks.put(check, counters);
+    }
+    counters[0]++;
+    counters[1] += now - start;
+    return now;
+  }
+
+  /**
+   * Gets a one-line summary of the statistics.
+   *
+   * @return the summary
+   */
+  String getSummary() {
+    long[] totals = getTotals();
+    return String.format(Locale.ENGLISH, "Spring configuration validation: %d rounds, %d elements, %d class checks, "
+        + "%d bean method checks in %.3f ms", Integer.valueOf(this.rounds.size()),
+        Long.valueOf(totals[Counter.ELEMENTS_VISITED.ordinal()]), Long.valueOf(totals[Counter.CLASS_CHECKS.ordinal()]),
+        Long.valueOf(totals[Counter.BEAN_METHOD_CHECKS.ordinal()]),
+        Double.valueOf(totals[Counter.NANOS.ordinal()] / NANOS_PER_MILLI));
+  }
+
+  /**
+   * Writes the statistics as JSON document.
+   *
+   * @param writer the writer to write to
+   * @throws IOException in case the writer fails
+   */
+  void writeJson(Writer writer) throws IOException {
+    writer.write("{\n  \"rounds\": [");
+    for (int i = 0; i < this.rounds.size(); i++) {
+      writer.write(i == 0 ? "\n    " : ",\n    ");
+      writeCounters(writer, "round", i + 1, this.rounds.get(i));
+    }
+    writer.write("\n  ],\n  \"totals\": ");
+    writeCounters(writer, "rounds", this.rounds.size(), getTotals());
+    writer.write(",\n  \"checks\": {");
+    boolean first = true;
+    for (Map.Entry<String, long[]> check : this.checks.entrySet()) {
+      writer.write(first ? "\n    \"" : ",\n    \"");
+      writer.write(check.getKey());
+      writer.write("\": {\"invocations\": " + check.getValue()[0] + ", \"nanos\": " + check.getValue()[1] + "}");
+      first = false;
+    }
+    writer.write("\n  }\n}\n");
+  }
+
+  private static void writeCounters(Writer writer, String name, int value, long[] counters) throws IOException {
+    writer.write("{\"" + name + "\": " + value);
+    for (Counter counter : Counter.values()) {
+      writer.write(", \"" + counter.jsonName + "\": " + counters[counter.ordinal()]);
+    }
+    writer.write("}");
+  }
+
+  private long[] getTotals() {
+    long[] totals = new long[Counter.values().length];
+    for (long[] round : this.rounds) {
+      for (int i = 0; i < totals.length; i++) {
+        totals[i] += round[i];
+      }
+    }
+    return totals;
+  }
+
+
+  /**
+   * The per-round counters.
+   */
+  enum Counter {
+    ELEMENTS_VISITED("elementsVisited"),
+    CLASS_CHECKS("classChecks"),
+    BEAN_METHOD_CHECKS("beanMethodChecks"),
+    NANOS("nanos");
+
+    private final String jsonName;
+
+    private Counter(String jsonName) {
+      this.jsonName = jsonName;
+    }
+  }
+}
@@ -0,0 +1,460 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * The annotation processor options ({@code -A<option>=<value>}) understood by the
+ * {@link SpringConfigurationValidationProcessor}.
+ *
+ * @author Michael Pellaton
+ */
+final class ProcessorOptions {
+
+  /**
+   * Records per-round and per-check statistics and writes them as a JSON resource at the end of the compilation.
+   */
+  static final String STATS = "springconfigvalidation.stats";
+
+  /**
+   * Streams every message to a report resource in the given format ({@code jsonl} or {@code sarif}).
+   */
+  static final String REPORT = "springconfigvalidation.report";
+
+  /**
+   * Writes an index of the configuration classes and their bean methods as a resource at the end of the compilation.
+   */
+  static final String INDEX = "springconfigvalidation.index";
+
+  /**
+   * Writes Spring's candidate components index of the classes of the compilation at the end of the compilation.
+   */
+  static final String COMPONENTS_INDEX = "springconfigvalidation.componentsIndex";
+
+  /**
+   * Recommends {@code proxyBeanMethods = false} for configuration classes without inter-bean method calls.
+   */
+  static final String PROXY_BEAN_METHODS = "springconfigvalidation.proxyBeanMethods";
+
+  /**
+   * Warns about {@code @Bean} return types that keep Spring from predicting the bean type.
+   */
+  static final String BEAN_RETURN_TYPES = "springconfigvalidation.beanReturnTypes";
+
+  /**
+   * Warns about component scans whose ratio of components to scanned types is below the given threshold between
+   * {@code 0} and {@code 1}.
+   */
+  static final String COMPONENT_SCAN_HIT_RATIO = "springconfigvalidation.componentScanHitRatio";
+
+  /**
+   * Reports the cycles in the bean dependency graph of the compilation ({@code true}) and writes the graph as a
+   * resource in the given format ({@code dot} or {@code json}).
+   */
+  static final String BEAN_GRAPH = "springconfigvalidation.beanGraph";
+
+  /**
+   * The value of the {@link #BEAN_GRAPH} option writing the graph in the DOT language.
+   */
+  static final String BEAN_GRAPH_DOT = "dot";
+
+  /**
+   * The value of the {@link #BEAN_GRAPH} option writing the graph as JSON.
+   */
+  static final String BEAN_GRAPH_JSON = "json";
+
+  /**
+   * Writes the bean metadata of the compilation as a resource at the end of the compilation, so downstream modules can
+   * analyze its beans.
+   */
+  static final String METADATA = "springconfigvalidation.metadata";
+
+  /**
+   * Additional directories and jars separated by the path separator whose bean metadata is added to the bean graph.
+   */
+  static final String METADATA_PATH = "springconfigvalidation.metadataPath";
+
+  /**
+   * The profile selecting the analyses: {@code fast}, {@code standard} or {@code full} (see {@link ValidationProfile}).
+   */
+  static final String PROFILE = "springconfigvalidation.profile";
+
+  /**
+   * Generates a companion class registering the bean definitions of every configuration class that can be registered
+   * without the {@code ConfigurationClassPostProcessor}.
+   */
+  static final String AOT = "springconfigvalidation.aot";
+
+  /**
+   * Writes the reflection and proxy hints of the configuration classes for GraalVM native images. The value is the
+   * {@code <groupId>/<artifactId>} of the module, which names the directory of the hints, or {@code true} for the
+   * shared directory {@link #NATIVE_IMAGE_DEFAULT_DIRECTORY}.
+   */
+  static final String NATIVE_IMAGE = "springconfigvalidation.nativeImage";
+
+  /**
+   * The directory of the native-image hints below {@code META-INF/native-image} if the {@link #NATIVE_IMAGE} option
+   * is {@code true}.
+   */
+  static final String NATIVE_IMAGE_DEFAULT_DIRECTORY = "spring-config-validation";
+
+  /**
+   * The prefix of the options setting the severity of a single check, followed by the name of its
+   * {@link SpringConfigurationMessage}. The values are {@code off}, {@code error}, {@code warning} and {@code note}.
+   */
+  static final String CHECK_PREFIX = "springconfigvalidation.check.";
+
+  /**
+   * The value of a check option disabling the check.
+   */
+  static final String CHECK_OFF = "off";
+
+  private static final Set<String> SUPPORTED_OPTIONS;
+  private static final Set<Kind> SEVERITIES = Collections.unmodifiableSet(EnumSet.of(Kind.ERROR, Kind.WARNING,
+      Kind.NOTE));
+
+  static {
+    Set<String> options = new LinkedHashSet<String>();
+    options.add(STATS);
+    options.add(REPORT);
+    options.add(INDEX);
+    options.add(COMPONENTS_INDEX);
+    options.add(PROXY_BEAN_METHODS);
+    options.add(BEAN_RETURN_TYPES);
+    options.add(COMPONENT_SCAN_HIT_RATIO);
+    options.add(BEAN_GRAPH);
+    options.add(METADATA);
+    options.add(METADATA_PATH);
+    options.add(PROFILE);
+    options.add(AOT);
+    options.add(NATIVE_IMAGE);
+    for (SpringConfigurationMessage message : SpringConfigurationMessage.values()) {
+      options.add(CHECK_PREFIX + message.name());
+    }
+    SUPPORTED_OPTIONS = Collections.unmodifiableSet(options);
+  }
+
+  private final boolean statistics;
+  private final String report;
+  private final boolean index;
+  private final boolean componentsIndex;
+  private final boolean proxyBeanMethods;
+  private final boolean beanReturnTypes;
+  private final String componentScanHitRatio;
+  private final String beanGraph;
+  private final boolean metadata;
+  private final String metadataPath;
+  private final String profile;
+  private final boolean aot;
+  private final String nativeImage;
+  private final Map<SpringConfigurationMessage, Kind> severities =
+      new EnumMap<SpringConfigurationMessage, Kind>(SpringConfigurationMessage.class);
+  private final List<String> invalidCheckOptions = new ArrayList<String>();
+
+
+  /**
+   * Constructor.
+   *
+   * @param options the processor options passed to the compiler
+   */
+  ProcessorOptions(Map<String, String> options) {
+    this.statistics = Boolean.parseBoolean(options.get(STATS));
+    this.report = options.get(REPORT);
+    this.index = Boolean.parseBoolean(options.get(INDEX));
+    this.componentsIndex = Boolean.parseBoolean(options.get(COMPONENTS_INDEX));
+    this.proxyBeanMethods = Boolean.parseBoolean(options.get(PROXY_BEAN_METHODS));
+    this.beanReturnTypes = Boolean.parseBoolean(options.get(BEAN_RETURN_TYPES));
+    this.componentScanHitRatio = options.get(COMPONENT_SCAN_HIT_RATIO);
+    this.beanGraph = options.get(BEAN_GRAPH);
+    this.metadata = Boolean.parseBoolean(options.get(METADATA));
+    this.metadataPath = options.get(METADATA_PATH);
+    this.profile = options.get(PROFILE);
+    this.aot = Boolean.parseBoolean(options.get(AOT));
+    this.nativeImage = options.get(NATIVE_IMAGE);
+    initSeverities(options);
+  }
+
+
+  private void initSeverities(Map<String, String> options) {
+    ValidationProfile validationProfile = getValidationProfile();
+    for (SpringConfigurationMessage message : SpringConfigurationMessage.values()) {
+      String option = CHECK_PREFIX + message.name();
+      String value = options.get(option);
+      Kind severity = value == null ? null : parseSeverity(value);
+      if (CHECK_OFF.equalsIgnoreCase(value)) {
+        continue;
+      } else if (severity != null) {
+        this.severities.put(message, severity);
+      } else {
+        if (value != null) {
+          this.invalidCheckOptions.add(option);
+        }
+        if (validationProfile == null || validationProfile.isEnabledByDefault(message)) {
+          this.severities.put(message, message.getKind());
+        }
+      }
+    }
+  }
+
+  private static Kind parseSeverity(String value) {
+    for (Kind kind : SEVERITIES) {
+      if (kind.name().equalsIgnoreCase(value)) {
+        return kind;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the names of all supported options.
+   *
+   * @return the names of all supported options
+   */
+  static Set<String> getSupportedOptions() {
+    return SUPPORTED_OPTIONS;
+  }
+
+  /**
+   * Checks whether statistics should be recorded.
+   *
+   * @return {@code true} if statistics should be recorded
+   */
+  boolean isStatisticsEnabled() {
+    return this.statistics;
+  }
+
+  /**
+   * Gets the value of the report option.
+   *
+   * @return the requested report format or {@code null} if no report is requested
+   */
+  String getReport() {
+    return this.report;
+  }
+
+  /**
+   * Gets the format of the report.
+   *
+   * @return the format of the report or {@code null} if no report is requested or the requested format is unknown
+   */
+  ReportFormat getReportFormat() {
+    return this.report == null ? null : ReportFormat.forOptionValue(this.report);
+  }
+
+  /**
+   * Checks whether the configuration index should be written.
+   *
+   * @return {@code true} if the configuration index should be written
+   */
+  boolean isIndexEnabled() {
+    return this.index;
+  }
+
+  /**
+   * Checks whether Spring's candidate components index should be written.
+   *
+   * @return {@code true} if the candidate components index should be written
+   */
+  boolean isComponentsIndexEnabled() {
+    return this.componentsIndex;
+  }
+
+  /**
+   * Checks whether {@code proxyBeanMethods = false} should be recommended where possible.
+   *
+   * @return {@code true} if the recommendation is enabled
+   */
+  boolean isProxyBeanMethodsEnabled() {
+    return this.proxyBeanMethods;
+  }
+
+  /**
+   * Checks whether the return types of the {@code @Bean} methods should be checked.
+   *
+   * @return {@code true} if the return types should be checked
+   */
+  boolean isBeanReturnTypesEnabled() {
+    return this.beanReturnTypes;
+  }
+
+  /**
+   * Gets the value of the component scan hit ratio option.
+   *
+   * @return the requested threshold or {@code null} if the component scans should not be analyzed
+   */
+  String getComponentScanHitRatio() {
+    return this.componentScanHitRatio;
+  }
+
+  /**
+   * Gets the threshold of the component scan hit ratio.
+   *
+   * @return the threshold between {@code 0} and {@code 1} or {@code -1} if the component scans should not be analyzed
+   *         or the requested threshold is not a number in that range
+   */
+  double getComponentScanHitRatioThreshold() {
+    if (this.componentScanHitRatio == null) {
+      return -1;
+    }
+    try {
+      double threshold = Double.parseDouble(this.componentScanHitRatio);
+      return threshold >= 0 && threshold <= 1 ? threshold : -1;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Gets the value of the bean graph option.
+   *
+   * @return {@code true}, {@link #BEAN_GRAPH_DOT}, {@link #BEAN_GRAPH_JSON}, any other value passed or {@code null} if
+   *         the bean graph is not requested
+   */
+  String getBeanGraph() {
+    return this.beanGraph;
+  }
+
+  /**
+   * Checks whether the bean metadata should be written.
+   *
+   * @return {@code true} if the bean metadata should be written
+   */
+  boolean isMetadataEnabled() {
+    return this.metadata;
+  }
+
+  /**
+   * Gets the additional directories and jars whose bean metadata is added to the bean graph.
+   *
+   * @return the directories and jars separated by the path separator or {@code null}
+   */
+  String getMetadataPath() {
+    return this.metadataPath;
+  }
+
+  /**
+   * Gets the value of the profile option.
+   *
+   * @return the requested profile or {@code null} if the default profile is used
+   */
+  String getProfile() {
+    return this.profile;
+  }
+
+  /**
+   * Checks whether the bean definitions of the configuration classes should be generated.
+   *
+   * @return {@code true} if the bean definitions should be generated
+   */
+  boolean isAotEnabled() {
+    return this.aot;
+  }
+
+  /**
+   * Checks whether the native-image hints should be written.
+   *
+   * @return {@code true} if the native-image option is set to any other value than {@code false}
+   */
+  boolean isNativeImageEnabled() {
+    return this.nativeImage != null && !"false".equals(this.nativeImage);
+  }
+
+  /**
+   * Gets the value of the native-image option.
+   *
+   * @return the value passed or {@code null} if the native-image hints are not requested
+   */
+  String getNativeImage() {
+    return this.nativeImage;
+  }
+
+  /**
+   * Gets the directory of the native-image hints below {@code META-INF/native-image}.
+   *
+   * @return the {@code <groupId>/<artifactId>} passed, {@link #NATIVE_IMAGE_DEFAULT_DIRECTORY} if the option is
+   *         {@code true} or {@code null} if the value is neither
+   */
+  String getNativeImageDirectory() {
+    if ("true".equals(this.nativeImage)) {
+      return NATIVE_IMAGE_DEFAULT_DIRECTORY;
+    }
+    return this.nativeImage != null && this.nativeImage.matches("[\\w-]+(\\.[\\w-]+)*/[\\w-]+(\\.[\\w-]+)*")
+        ? this.nativeImage : null;
+  }
+
+  /**
+   * Gets the profile selecting the analyses.
+   *
+   * @return the profile, {@link ValidationProfile#STANDARD} if none is requested or {@code null} if the requested
+   *         profile is unknown
+   */
+  ValidationProfile getValidationProfile() {
+    return this.profile == null ? ValidationProfile.STANDARD : ValidationProfile.forOptionValue(this.profile);
+  }
+
+  /**
+   * Gets the severity a message is reported with, as set by the profile and the check options.
+   *
+   * @param message the message
+   * @return the severity or {@code null} if the check is disabled
+   */
+  Kind getSeverity(SpringConfigurationMessage message) {
+    return this.severities.get(message);
+  }
+
+  /**
+   * Checks whether a message is reported, as set by the profile and the check options.
+   *
+   * @param message the message
+   * @return {@code true} if the message is reported, {@code false} if the check is disabled
+   */
+  boolean isCheckEnabled(SpringConfigurationMessage message) {
+    return this.severities.containsKey(message);
+  }
+
+  /**
+   * Gets the check options whose value is neither {@code off} nor a severity. The default severity applies to them.
+   *
+   * @return the names of the invalid check options
+   */
+  List<String> getInvalidCheckOptions() {
+    return Collections.unmodifiableList(this.invalidCheckOptions);
+  }
+
+  /**
+   * Checks whether any option is enabled that makes the processor write output aggregated over the whole compilation.
+   *
+   * @return {@code true} if the processor aggregates over the compilation, {@code false} if it is isolating
+   */
+  boolean isAggregating() {
+    return this.statistics || this.report != null || this.index || this.componentsIndex
+        || this.componentScanHitRatio != null || this.beanGraph != null || this.metadata || isNativeImageEnabled()
+        || getValidationProfile() == ValidationProfile.FULL;
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Reports the {@code @Profile} expressions Spring rejects when it evaluates the profile condition at startup. The
+ * expressions are parsed the way Spring's {@code Profiles.of} parses them, so exactly the expressions failing at
+ * startup are reported: an empty expression or annotation, {@code &} and {@code |} mixed without parentheses, and
+ * operators or parentheses without an operand. The rule checks the {@code @Profile} annotations present on classes,
+ * {@code @Bean} methods and composed annotation types.
+ *
+ * @author Michael Pellaton
+ */
+final class ProfileExpressionRule implements ValidationRule {
+
+  private static final String DELIMITERS = "()&|!";
+  private static final String EMPTY_ANNOTATION = "@Profile must specify at least one expression";
+  private static final String EMPTY_EXPRESSION = "the expression must contain text";
+  private static final String MIXED_OPERATORS = "& and | must not be mixed without parentheses";
+  private static final String MISSING_OPERAND = "an operator or parentheses lack an operand";
+
+  private static final Set<ElementKind> ELEMENT_KINDS = Collections.unmodifiableSet(
+      EnumSet.of(ElementKind.CLASS, ElementKind.METHOD, ElementKind.ANNOTATION_TYPE));
+  private static final Set<String> ANNOTATION_TYPES = Collections.singleton(SpringTypeNames.PROFILE);
+
+
+  @Override
+  public String getName() {
+    return "PROFILE_EXPRESSION";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    // the rule is stateless
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    for (AnnotationMirror annotation : facts.getElement().getAnnotationMirrors()) {
+      if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+          .contentEquals(SpringTypeNames.PROFILE)) {
+        continue;
+      }
+      List<String> expressions = getExpressions(annotation);
+      if (expressions.isEmpty()) {
+        reporter.report(SpringConfigurationMessage.MALFORMED_PROFILE_EXPRESSION, facts.getElement(), annotation, "",
+            EMPTY_ANNOTATION);
+      }
+      for (String expression : expressions) {
+        String malformation = checkExpression(expression);
+        if (malformation != null) {
+          reporter.report(SpringConfigurationMessage.MALFORMED_PROFILE_EXPRESSION, facts.getElement(), annotation,
+              expression, malformation);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the profile expressions of a {@code @Profile} annotation.
+   *
+   * @param profile the {@code @Profile} annotation
+   * @return the expressions in declaration order
+   */
+  static List<String> getExpressions(AnnotationMirror profile) {
+    List<String> expressions = new ArrayList<String>();
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+        : profile.getElementValues().entrySet()) {
+      if (value.getKey().getSimpleName().contentEquals("value")) {
+        Object values = value.getValue().getValue();
+        if (values instanceof List<?>) {
+          for (Object expression : (List<?>) values) {
+            expressions.add((String) ((AnnotationValue) expression).getValue());
+          }
+        } else {
+          expressions.add((String) values);
+        }
+      }
+    }
+    return expressions;
+  }
+
+  /**
+   * Checks whether Spring accepts a profile expression.
+   *
+   * @param expression the profile expression
+   * @return why the expression is malformed or {@code null} if it is well-formed
+   */
+  static String checkExpression(String expression) {
+    if (expression == null || expression.trim().length() == 0) {
+      return EMPTY_EXPRESSION;
+    }
+    try {
+      parseTokens(new StringTokenizer(expression, DELIMITERS, true), Context.NONE);
+      return null;
+    } catch (MalformedExpressionException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static void parseTokens(StringTokenizer tokens, Context context) throws MalformedExpressionException {
+    int elements = 0;
+    char operator = 0;
+    while (tokens.hasMoreTokens()) {
+      String token = tokens.nextToken().trim();
+      if (token.length() == 0) {
+        continue;
+      }
+      if ("(".equals(token)) {
+        parseTokens(tokens, Context.PARENTHESIS);
+        if (context == Context.NOT) {
+          return;
+        }
+        elements++;
+      } else if ("&".equals(token) || "|".equals(token)) {
+        if (operator != 0 && operator != token.charAt(0)) {
+          throw new MalformedExpressionException(MIXED_OPERATORS);
+        }
+        operator = token.charAt(0);
+      } else if ("!".equals(token)) {
+        parseTokens(tokens, Context.NOT);
+        elements++;
+      } else if (")".equals(token)) {
+        merge(elements);
+        if (context == Context.PARENTHESIS) {
+          return;
+        }
+        elements = 1;
+        operator = 0;
+      } else {
+        if (context == Context.NOT) {
+          return;
+        }
+        elements++;
+      }
+    }
+    merge(elements);
+  }
+
+  private static void merge(int elements) throws MalformedExpressionException {
+    if (elements == 0) {
+      throw new MalformedExpressionException(MISSING_OPERAND);
+    }
+  }
+
+
+  /**
+   * The context a sequence of tokens is parsed in.
+   */
+  private enum Context {
+    NONE, NOT, PARENTHESIS
+  }
+
+  /**
+   * Thrown if a profile expression is malformed.
+   */
+  private static final class MalformedExpressionException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+
+    MalformedExpressionException(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+/**
+ * Recommends {@code @Configuration(proxyBeanMethods = false)} for configuration classes none of whose {@code @Bean}
+ * methods is called from within the class. Such classes do not need the CGLIB subclass Spring generates to intercept
+ * inter-bean method calls, and dropping it saves the proxy generation at application startup.
+ *
+ * <p>The calls are searched in the source of the class, of its superclasses and of the interfaces declaring default
+ * {@code @Bean} methods with the {@link InterBeanCallFinder}. No recommendation is made if the source of one of these
+ * types is not part of the compilation or if the finder is not available on the compiler in use.
+ *
+ * @author Michael Pellaton
+ */
+final class ProxyBeanMethodsRule implements ValidationRule {
+
+  private static final String PROXY_BEAN_METHODS = "proxyBeanMethods";
+  private static final String OBJECT = "java.lang.Object";
+
+  private static final Set<ElementKind> ELEMENT_KINDS = Collections.unmodifiableSet(EnumSet.of(ElementKind.CLASS));
+  private static final Set<String> ANNOTATION_TYPES = Collections.singleton(SpringTypeNames.CONFIGURATION);
+
+  private Elements elements;
+  private MetaAnnotationIndex annotationIndex;
+  private InterBeanCallFinder finder;
+
+
+  @Override
+  public String getName() {
+    return "PROXY_BEAN_METHODS";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return ELEMENT_KINDS;
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return ANNOTATION_TYPES;
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.elements = context.getProcessingEnvironment().getElementUtils();
+    this.annotationIndex = context.getAnnotationIndex();
+    this.finder = context.getInterBeanCallFinder();
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (!this.finder.isAvailable() || !facts.isConfigurationClass() || facts.hasModifier(Modifier.ABSTRACT)
+        || facts.hasModifier(Modifier.FINAL)) {
+      return;
+    }
+    AnnotationMirror configuration = facts.getAnnotationMirror(SpringTypeNames.CONFIGURATION);
+    if (!isProxyBeanMethods(configuration)) {
+      return;
+    }
+    TypeElement type = (TypeElement) facts.getElement();
+    List<ExecutableElement> beanMethods = getProxiedBeanMethods(type);
+    if (beanMethods.isEmpty()) {
+      return;
+    }
+    Set<TypeElement> scannedTypes = new LinkedHashSet<TypeElement>();
+    for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+      scannedTypes.add(current);
+    }
+    for (ExecutableElement beanMethod : beanMethods) {
+      // the bodies of default methods are inherited from interfaces that are not in the superclass chain
+      if (beanMethod.getEnclosingElement().getKind() == ElementKind.INTERFACE
+          && !beanMethod.getModifiers().contains(Modifier.ABSTRACT)) {
+        scannedTypes.add((TypeElement) beanMethod.getEnclosingElement());
+      }
+    }
+    for (TypeElement scannedType : scannedTypes) {
+      List<InterBeanCallFinder.InterBeanCall> calls = this.finder.find(scannedType, beanMethods);
+      if (calls == null || !calls.isEmpty()) {
+        return;
+      }
+    }
+    reporter.report(SpringConfigurationMessage.PROXY_BEAN_METHODS_NOT_NEEDED, type, configuration,
+        Integer.valueOf(beanMethods.size()));
+  }
+
+  /**
+   * Checks whether a {@code @Configuration} annotation enables the proxying of the bean methods, which is the default.
+   *
+   * @param configuration the annotation that is or carries {@code @Configuration}
+   * @return {@code false} if the annotation declares {@code proxyBeanMethods = false}, {@code true} otherwise
+   */
+  static boolean isProxyBeanMethods(AnnotationMirror configuration) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+        : configuration.getElementValues().entrySet()) {
+      if (PROXY_BEAN_METHODS.equals(value.getKey().getSimpleName().toString())) {
+        return !Boolean.FALSE.equals(value.getValue().getValue());
+      }
+    }
+    return true;
+  }
+
+  private List<ExecutableElement> getProxiedBeanMethods(TypeElement type) {
+    List<ExecutableElement> beanMethods = new ArrayList<ExecutableElement>();
+    for (ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(type))) {
+      Set<Modifier> modifiers = method.getModifiers();
+      if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.PRIVATE)
+          && !modifiers.contains(Modifier.FINAL)
+          && this.annotationIndex.isAnyAnnotatedWith(method.getAnnotationMirrors(), SpringTypeNames.BEAN)) {
+        beanMethods.add(method);
+      }
+    }
+    return beanMethods;
+  }
+
+  private static TypeElement getSuperclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    Element element = ((DeclaredType) superclass).asElement();
+    return OBJECT.equals(((TypeElement) element).getQualifiedName().toString()) ? null : (TypeElement) element;
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+
+import javax.tools.Diagnostic.Kind;
+
+import com.github.pellaton.springconfigvalidation.SourceLocator.SourceLocation;
+
+/**
+ * The formats of the diagnostics report written with the {@code springconfigvalidation.report} option. Every format
+ * writes each record as soon as it is reported, so the memory used does not depend on the number of records.
+ *
+ * @author Michael Pellaton
+ */
+enum ReportFormat {
+
+  /**
+   * One JSON object per line.
+   */
+  JSON_LINES("jsonl", "META-INF/spring-config-validation-report.jsonl") {
+    @Override
+    void writeHeader(Writer writer) {
+      // JSON Lines have neither a header nor a footer
+    }
+
+    @Override
+    void writeRecord(Writer writer, boolean first, String id, Kind kind, String message, SourceLocation location,
+        String element) throws IOException {
+      writer.write("{\"id\": ");
+      writeString(writer, id);
+      writer.write(", \"kind\": \"" + kind.name() + "\", \"message\": ");
+      writeString(writer, message);
+      writer.write(", \"source\": ");
+      writeString(writer, location == null ? null : toPath(location.getSource()));
+      writer.write(", \"line\": " + (location == null ? -1 : location.getLine()));
+      writer.write(", \"column\": " + (location == null ? -1 : location.getColumn()));
+      writer.write(", \"element\": ");
+      writeString(writer, element);
+      writer.write("}\n");
+    }
+
+    @Override
+    void writeFooter(Writer writer) {
+      // JSON Lines have neither a header nor a footer
+    }
+  },
+
+  /**
+   * A SARIF 2.1.0 log with a single run.
+   *
+   * @see <a href="https://docs.oasis-open.org/sarif/sarif/v2.1.0/sarif-v2.1.0.html">Static Analysis Results
+   *      Interchange Format (SARIF) Version 2.1.0</a>
+   */
+  SARIF("sarif", "META-INF/spring-config-validation-report.sarif") {
+    @Override
+    void writeHeader(Writer writer) throws IOException {
+      writer.write("{\n  \"$schema\": \"https://json.schemastore.org/sarif-2.1.0.json\",\n  \"version\": \"2.1.0\",\n"
+          + "  \"runs\": [{\n    \"tool\": {\"driver\": {\n"
+          + "      \"name\": \"spring-configuration-validation-processor\",\n"
+          + "      \"informationUri\": \"https://github.com/pellaton/spring-configuration-validation-processor\",\n"
+          + "      \"rules\": [");
+      SpringConfigurationMessage[] messages = SpringConfigurationMessage.values();
+      for (int i = 0; i < messages.length; i++) {
+        writer.write(i == 0 ? "\n        {\"id\": \"" : ",\n        {\"id\": \"");
+        writer.write(messages[i].name() + "\", \"shortDescription\": {\"text\": ");
+        writeString(writer, messages[i].getMessage());
+        writer.write("}, \"defaultConfiguration\": {\"level\": \"" + toLevel(messages[i].getKind()) + "\"}}");
+      }
+      writer.write("\n      ]\n    }},\n    \"results\": [");
+    }
+
+    @Override
+    void writeRecord(Writer writer, boolean first, String id, Kind kind, String message, SourceLocation location,
+        String element) throws IOException {
+      writer.write(first ? "\n      {\"ruleId\": " : ",\n      {\"ruleId\": ");
+      writeString(writer, id);
+      writer.write(", \"level\": \"" + toLevel(kind) + "\", \"message\": {\"text\": ");
+      writeString(writer, message);
+      writer.write("}, \"locations\": [{");
+      if (location != null) {
+        writer.write("\"physicalLocation\": {\"artifactLocation\": {\"uri\": ");
+        writeString(writer, location.getSource().toString());
+        writer.write("}");
+        if (location.getLine() > 0) {
+          writer.write(", \"region\": {\"startLine\": " + location.getLine() + ", \"startColumn\": "
+              + location.getColumn() + "}");
+        }
+        writer.write("}, ");
+      }
+      writer.write("\"logicalLocations\": [{\"fullyQualifiedName\": ");
+      writeString(writer, element);
+      writer.write("}]}]}");
+    }
+
+    @Override
+    void writeFooter(Writer writer) throws IOException {
+      writer.write("\n    ]\n  }]\n}\n");
+    }
+  };
+
+
+  private final String optionValue;
+  private final String resourceName;
+
+
+  private ReportFormat(String optionValue, String resourceName) {
+    this.optionValue = optionValue;
+    this.resourceName = resourceName;
+  }
+
+
+  /**
+   * Gets the format for a value of the {@code springconfigvalidation.report} option.
+   *
+   * @param optionValue the option value
+   * @return the format or {@code null} if there is no format for the value
+   */
+  static ReportFormat forOptionValue(String optionValue) {
+    for (ReportFormat format : values()) {
+      if (format.optionValue.equals(optionValue)) {
+        return format;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the name of the resource the report is written to in the class output.
+   *
+   * @return the resource name
+   */
+  String getResourceName() {
+    return this.resourceName;
+  }
+
+  /**
+   * Writes the start of the report.
+   *
+   * @param writer the writer of the report
+   * @throws IOException if writing fails
+   */
+  abstract void writeHeader(Writer writer) throws IOException;
+
+  /**
+   * Writes a record.
+   *
+   * @param writer the writer of the report
+   * @param first whether this is the first record of the report
+   * @param id the id of the reporting check, the {@link SpringConfigurationMessage} constant for the built-in checks
+   * @param kind the diagnostic kind
+   * @param message the message
+   * @param location the location in the source or {@code null} if it is not known
+   * @param element the signature of the reported element
+   * @throws IOException if writing fails
+   */
+  abstract void writeRecord(Writer writer, boolean first, String id, Kind kind, String message,
+      SourceLocation location, String element) throws IOException;
+
+  /**
+   * Writes the end of the report.
+   *
+   * @param writer the writer of the report
+   * @throws IOException if writing fails
+   */
+  abstract void writeFooter(Writer writer) throws IOException;
+
+  private static String toPath(URI uri) {
+    if ("file".equals(uri.getScheme())) {
+      try {
+        return new File(uri).getPath();
+      } catch (IllegalArgumentException e) {
+        // not a hierarchical file URI, fall back to the URI itself
+      }
+    }
+    return uri.toString();
+  }
+
+  private static String toLevel(Kind kind) {
+    switch (kind) {
+      case ERROR:
+        return "error";
+      case WARNING:
+      case MANDATORY_WARNING:
+        return "warning";
+      default:
+        return "note";
+    }
+  }
+
+  /**
+   * Writes a string as a JSON string literal.
+   *
+   * @param writer the writer
+   * @param value the string, {@code null} is written as the JSON literal {@code null}
+   * @throws IOException if writing fails
+   */
+  static void writeString(Writer writer, String value) throws IOException {
+    if (value == null) {
+      writer.write("null");
+      return;
+    }
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        writer.write('\\');
+        writer.write(c);
+      } else if (c < 0x20) {
+        writer.write(String.format("\\u%04x", Integer.valueOf(c)));
+      } else {
+        writer.write(c);
+      }
+    }
+    writer.write('"');
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Finds the class a method returns instances of in its source. During annotation processing the method bodies are not
+ * attributed yet, so only {@code return} statements creating an instance of a named class with {@code new} are
+ * understood, and the class names are resolved like javac does from the member types of the enclosing classes, the
+ * imports and the package of the compilation unit.
+ *
+ * <p>Method bodies are only available through the compiler tree API of javac, so on other compilers the finder is not
+ * {@link #isAvailable() available}.
+ *
+ * @author Michael Pellaton
+ */
+abstract class ReturnedTypeFinder {
+
+  private static final ReturnedTypeFinder UNAVAILABLE = new ReturnedTypeFinder() {
+
+    @Override
+    boolean isAvailable() {
+      return false;
+    }
+
+    @Override
+    TypeElement find(ExecutableElement method) {
+      throw new UnsupportedOperationException("The compiler tree API is not available");
+    }
+  };
+
+
+  /**
+   * Creates the finder for the given processing environment.
+   *
+   * @param processingEnv the processing environment
+   * @return a finder using the compiler tree API if it is available, an unavailable finder otherwise
+   */
+  static ReturnedTypeFinder create(ProcessingEnvironment processingEnv) {
+    try {
+      return new TreesReturnedTypeFinder(processingEnv);
+    } catch (NoClassDefFoundError e) {
+      return UNAVAILABLE;
+    } catch (IllegalArgumentException e) {
+      return UNAVAILABLE;
+    }
+  }
+
+  /**
+   * Checks whether the finder can analyze method bodies.
+   *
+   * @return {@code true} if the compiler tree API is available
+   */
+  abstract boolean isAvailable();
+
+  /**
+   * Finds the class all {@code return} statements of a method create an instance of. The {@code return} statements
+   * of lambda expressions and of local and anonymous classes in the method are not considered.
+   *
+   * @param method the method to analyze
+   * @return the class or {@code null} if the source of the method is not part of the compilation, the method has no
+   *         {@code return} statement or a {@code return} statement does not create an instance of the same named class
+   */
+  abstract TypeElement find(ExecutableElement method);
+}
@@ -0,0 +1,197 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+
+import com.github.pellaton.springconfigvalidation.ProcessingStatistics.Counter;
+
+/**
+ * Evaluates {@link ValidationRule}s in a single pass over the elements of a round. The rules are indexed by the element
+ * kinds they validate, and the {@link ElementFacts} of an element are computed once and handed to all matching rules.
+ *
+ * <p>All rules are evaluated on the compiler thread: the facts they read are backed by the javac model, which is not
+ * thread-safe.
+ *
+ * @author Michael Pellaton
+ */
+final class RuleEngine {
+
+  private final ValidationContext context;
+  private final ValidationReporter reporter;
+  private final ProcessingStatistics statistics;
+  private final ProcessingMonitor monitor;
+  private final Map<ElementKind, List<ValidationRule>> rulesByKind =
+      new EnumMap<ElementKind, List<ValidationRule>>(ElementKind.class);
+  private final Set<String> annotationTypes = new HashSet<String>();
+
+  private int elementCount;
+  private int classCheckCount;
+  private int beanMethodCheckCount;
+
+
+  /**
+   * Constructor.
+   *
+   * @param rules the rules to evaluate, in evaluation order
+   * @param context the validation context of the current compilation
+   * @param reporter the reporter the rules report violations to
+   * @param statistics the statistics to record the rule invocations to
+   * @param monitor the monitor observing the rule invocations
+   */
+  RuleEngine(List<? extends ValidationRule> rules, ValidationContext context, ValidationReporter reporter,
+      ProcessingStatistics statistics, ProcessingMonitor monitor) {
+    this.context = context;
+    this.reporter = reporter;
+    this.statistics = statistics;
+    this.monitor = monitor;
+
+    for (ValidationRule rule : rules) {
+      rule.init(context);
+      this.annotationTypes.addAll(rule.getAnnotationTypes());
+      for (ElementKind kind : rule.getElementKinds()) {
+        List<ValidationRule> kindRules = this.rulesByKind.get(kind);
+        if (kindRules == null) {
+          kindRules = new ArrayList<ValidationRule>();
+          this.rulesByKind.put(kind, kindRules);
+        }
+        kindRules.add(rule);
+      }
+    }
+  }
+
+
+  /**
+   * Validates all elements of a round that are annotated with an annotation type of interest to a rule.
+   *
+   * @param annotations the annotation types present in the round
+   * @param roundEnv the round environment
+   */
+  void processRound(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    MetaAnnotationIndex annotationIndex = this.context.getAnnotationIndex();
+    Set<Element> elements = new LinkedHashSet<Element>();
+    for (TypeElement annotation : annotations) {
+      if (!Collections.disjoint(annotationIndex.getAnnotationClosure(annotation), this.annotationTypes)) {
+        elements.addAll(roundEnv.getElementsAnnotatedWith(annotation));
+      }
+    }
+
+    this.statistics.count(Counter.ELEMENTS_VISITED, elements.size());
+    this.elementCount = elements.size();
+    this.classCheckCount = 0;
+    this.beanMethodCheckCount = 0;
+    for (Element element : elements) {
+      if (this.rulesByKind.containsKey(element.getKind())) {
+        validate(createFacts(element));
+      }
+    }
+  }
+
+  /**
+   * Gets the number of elements annotated with an annotation type of interest in the last round.
+   *
+   * @return the number of elements of the last round
+   */
+  int getElementCount() {
+    return this.elementCount;
+  }
+
+  /**
+   * Gets the number of classes validated by at least one rule in the last round.
+   *
+   * @return the number of class checks of the last round
+   */
+  int getClassCheckCount() {
+    return this.classCheckCount;
+  }
+
+  /**
+   * Gets the number of methods validated by at least one rule in the last round.
+   *
+   * @return the number of {@code @Bean} method checks of the last round
+   */
+  int getBeanMethodCheckCount() {
+    return this.beanMethodCheckCount;
+  }
+
+  private void validate(ElementFacts facts) {
+    List<ValidationRule> kindRules = this.rulesByKind.get(facts.getKind());
+    boolean validated = false;
+    long start = this.statistics.startTimer();
+    for (ValidationRule rule : kindRules) {
+      if (facts.isAnnotatedWithAny(rule.getAnnotationTypes())) {
+        Object observation = this.monitor.ruleStarted(rule);
+        rule.validate(facts, this.reporter);
+        if (observation != null) {
+          this.monitor.ruleFinished(observation, facts.getElement());
+        }
+        start = this.statistics.recordCheck(rule.getName(), start);
+        validated = true;
+      }
+    }
+
+    if (validated) {
+      if (facts.getKind() == ElementKind.CLASS) {
+        this.statistics.count(Counter.CLASS_CHECKS, 1);
+        this.classCheckCount++;
+      } else if (facts.getKind() == ElementKind.METHOD) {
+        this.statistics.count(Counter.BEAN_METHOD_CHECKS, 1);
+        this.beanMethodCheckCount++;
+      }
+    }
+  }
+
+  private ElementFacts createFacts(Element element) {
+    MetaAnnotationIndex annotationIndex = this.context.getAnnotationIndex();
+    Map<String, AnnotationMirror> annotations = annotationIndex.resolveAnnotations(element.getAnnotationMirrors());
+    Map<String, AnnotationMirror> enclosingAnnotations = annotationIndex.resolveAnnotations(
+        element.getEnclosingElement().getAnnotationMirrors());
+
+    List<ElementFacts> constructors = Collections.emptyList();
+    if (element.getKind() == ElementKind.CLASS) {
+      boolean configurationClass = annotations.containsKey(SpringTypeNames.CONFIGURATION);
+      boolean componentClass = annotations.containsKey(SpringTypeNames.COMPONENT);
+      constructors = new ArrayList<ElementFacts>();
+      for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+        constructors.add(new ElementFacts(constructor, annotationIndex.resolveAnnotations(
+            constructor.getAnnotationMirrors()), configurationClass, componentClass,
+            Collections.<ElementFacts>emptyList(), this.context.getSupertypeIndex()));
+      }
+    }
+
+    return new ElementFacts(element, annotations, enclosingAnnotations.containsKey(SpringTypeNames.CONFIGURATION),
+        enclosingAnnotations.containsKey(SpringTypeNames.COMPONENT), constructors,
+        this.context.getSupertypeIndex());
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.net.URI;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+
+/**
+ * Locates elements in their source files. The source positions are only available through the compiler tree API of
+ * javac, so on other compilers the locator does not know any locations.
+ *
+ * @author Michael Pellaton
+ */
+abstract class SourceLocator {
+
+  private static final SourceLocator UNKNOWN = new SourceLocator() {
+
+    @Override
+    SourceLocation locate(Element element, AnnotationMirror annotationMirror) {
+      return null;
+    }
+  };
+
+
+  /**
+   * Creates the locator for the given processing environment.
+   *
+   * @param processingEnv the processing environment
+   * @return a locator using the compiler tree API if it is available, a locator not knowing any locations otherwise
+   */
+  static SourceLocator create(ProcessingEnvironment processingEnv) {
+    try {
+      return new TreesSourceLocator(processingEnv);
+    } catch (NoClassDefFoundError e) {
+      return UNKNOWN;
+    } catch (IllegalArgumentException e) {
+      return UNKNOWN;
+    }
+  }
+
+  /**
+   * Locates an element or one of its annotations.
+   *
+   * @param element the element
+   * @param annotationMirror an annotation of the element or {@code null} to locate the element itself
+   * @return the location or {@code null} if it is not known
+   */
+  abstract SourceLocation locate(Element element, AnnotationMirror annotationMirror);
+
+
+  /**
+   * A position in a source file.
+   */
+  static final class SourceLocation {
+
+    private final URI source;
+    private final long line;
+    private final long column;
+
+
+    SourceLocation(URI source, long line, long column) {
+      this.source = source;
+      this.line = line;
+      this.column = column;
+    }
+
+
+    /**
+     * Gets the URI of the source file.
+     *
+     * @return the URI of the source file
+     */
+    URI getSource() {
+      return this.source;
+    }
+
+    /**
+     * Gets the 1-based line.
+     *
+     * @return the line
+     */
+    long getLine() {
+      return this.line;
+    }
+
+    /**
+     * Gets the 1-based column.
+     *
+     * @return the column
+     */
+    long getColumn() {
+      return this.column;
+    }
+  }
+}
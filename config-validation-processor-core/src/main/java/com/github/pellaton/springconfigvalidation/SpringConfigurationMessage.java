@@ -52,7 +52,38 @@ public enum SpringConfigurationMessage {
   BFPP_BEAN_METHOD_NOT_STATIC(Kind.WARNING,
       "@Bean methods returning a BeanFactoryPostProcessor should be static."),
   BEAN_METHOD_NOT_IN_CONFIGURATION(Kind.WARNING,
-      "Invalid factory method: @Bean methods should be declared in classes annotated with @Configuration.");
+      "Invalid factory method: @Bean methods should be declared in classes annotated with @Configuration."),
+
+  // warnings on @Bean method return types
+  BEAN_METHOD_RETURN_TYPE_TOO_BROAD(Kind.WARNING,
+      "Broad @Bean return type: the method declares %s but returns %s, so Spring cannot predict the bean type "
+      + "without creating the bean: declare the returned type."),
+  RAW_FACTORY_BEAN_RETURN_TYPE(Kind.WARNING,
+      "Raw FactoryBean return type: declare the type argument of %s, so Spring can predict the type of the object "
+      + "without creating the factory bean."),
+
+  // errors on @Profile annotations
+  MALFORMED_PROFILE_EXPRESSION(Kind.ERROR,
+      "Invalid profile expression \"%s\": %s, Spring rejects it when evaluating the profile condition."),
+
+  // errors on @Bean method bodies
+  LITE_MODE_INTER_BEAN_CALL(Kind.ERROR,
+      "Invalid inter-bean call: the call of @Bean method %s() on line %d, column %d creates an unmanaged instance "
+      + "because @Bean methods are not intercepted in lite mode: inject the bean as a method parameter instead."),
+
+  // errors on the dependencies between beans
+  BEAN_DEPENDENCY_CYCLE(Kind.ERROR,
+      "Bean dependency cycle: %s: break it with an ObjectProvider or a @Lazy injection point."),
+
+  // warnings on the component scans of @Configuration classes
+  COMPONENT_SCAN_TOO_BROAD(Kind.WARNING,
+      "Broad component scan: the base packages %s cover %d types of this compilation of which %d are components "
+      + "(hit ratio %.1f%%, threshold %.1f%%): narrow the base packages to shorten the scan at startup."),
+
+  // recommendations on @Configuration classes
+  PROXY_BEAN_METHODS_NOT_NEEDED(Kind.NOTE,
+      "None of the %d proxied @Bean methods is called within the @Configuration class: "
+      + "consider @Configuration(proxyBeanMethods = false).");
 
 
   private final Kind kind;
@@ -83,4 +114,14 @@ public enum SpringConfigurationMessage {
   public String getMessage() {
     return this.message;
   }
+
+  /**
+   * Gets the message to be displayed with the placeholders of the message replaced by the given arguments.
+   *
+   * @param arguments the arguments of the message, see {@link String#format(String, Object...)}
+   * @return the formatted message, the plain message if there are no arguments
+   */
+  public String format(Object... arguments) {
+    return arguments.length == 0 ? this.message : String.format(this.message, arguments);
+  }
 }
@@ -17,7 +17,19 @@
  */
 package com.github.pellaton.springconfigvalidation;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -26,20 +38,16 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
-import javax.lang.model.element.ElementKind;
-import javax.lang.model.element.ExecutableElement;
-import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeKind;
-import javax.lang.model.util.ElementFilter;
-import javax.lang.model.util.Elements;
-import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 /**
- * Java 6 annotation processor that processes classes annotated with {@code @Configuration}. This processor is meant for
- * source validation during compilation only and does not write any output besides compiler messages. The following list
- * mentions all checks performed:
+ * Java 6 annotation processor that processes classes annotated with {@code @Configuration}, either directly or through
+ * a composed stereotype annotation such as {@code @SpringBootConfiguration}. This processor is meant for source
+ * validation during compilation only and, unless enabled by an option, does not write any output besides compiler
+ * messages. The following list mentions all checks performed:
  *
  * <pre>
  * Class Checks
@@ -56,8 +64,78 @@ import javax.lang.model.util.Types;
  * [x] Warn: Invalid factory method: @Bean methods should be declared in classes annotated with @Configuration.
  * [x] Warn:  @Bean methods returning a BeanFactoryPostProcessor should be static.
  * [x] Warn:  Only @Bean methods returning a BeanFactoryPostProcessor should be static.
+ * [x] Error: Invalid inter-bean call: @Bean methods in lite mode classes must not call other @Bean methods.
+ * [x] Warn:  Broad @Bean return type: @Bean methods should declare the type they return (option).
+ * [x] Warn:  Raw FactoryBean return type: @Bean methods should declare the type argument of a FactoryBean (option).
+ *
+ * Profile Checks
+ * [x] Error: Invalid profile expression: the expressions of @Profile must be accepted by Spring.
  * </pre>
  *
+ * <p>Every check only depends on the element being processed, its enclosing element in the same compilation unit and
+ * types resolved from the classpath. This allows the concrete processors to be registered as <em>dynamic</em>
+ * incremental annotation processors in Gradle (see {@code META-INF/gradle/incremental.annotation.processors}) that are
+ * isolating by default, so only the changed {@code @Configuration} classes need to be reprocessed.
+ *
+ * <p>The processor understands the following options:
+ * <ul>
+ * <li>{@code -Aspringconfigvalidation.stats=true}: records per-round and per-check counters and timings, writes them
+ * to {@code META-INF/spring-config-validation-stats.json} in the class output and prints a one-line summary.</li>
+ * <li>{@code -Aspringconfigvalidation.report=jsonl|sarif}: streams every message with its check id, kind, source
+ * position and element signature to {@code META-INF/spring-config-validation-report.jsonl} or {@code .sarif} in the
+ * class output as it is reported.</li>
+ * <li>{@code -Aspringconfigvalidation.index=true}: writes the configuration classes and their bean methods to
+ * {@code META-INF/spring-config-validation.idx} in the class output (see {@link ConfigurationIndex}), to be read by
+ * the runtime module at application startup.</li>
+ * <li>{@code -Aspringconfigvalidation.componentsIndex=true}: writes the candidate components of the compilation to
+ * Spring's candidate components index {@code META-INF/spring.components} in the class output (see
+ * {@link ComponentsIndex}), which the component scans read instead of the class files below their base packages.
+ * Spring ignores the components of modules without the index, so every module with components must write it.</li>
+ * <li>{@code -Aspringconfigvalidation.proxyBeanMethods=true}: notes the {@code @Configuration} classes none of whose
+ * {@code @Bean} methods is called within the class, which can declare {@code proxyBeanMethods = false} to avoid the
+ * CGLIB proxy (see {@link ProxyBeanMethodsRule}). The calls are only found when compiling with javac.</li>
+ * <li>{@code -Aspringconfigvalidation.beanReturnTypes=true}: warns about {@code @Bean} methods declaring a broader
+ * return type than the class they return, or a raw {@code FactoryBean}, which keep Spring from predicting the bean
+ * type without creating the bean (see {@link BeanReturnTypeRule}). The returned classes are only found when compiling
+ * with javac.</li>
+ * <li>{@code -Aspringconfigvalidation.componentScanHitRatio=<0..1>}: warns at the end of the compilation about the
+ * {@code @ComponentScan}s of {@code @Configuration} classes whose base packages contain fewer components per type of
+ * the compilation than the given ratio (see {@link ComponentScanAnalysis}).</li>
+ * <li>{@code -Aspringconfigvalidation.beanGraph=true|dot|json}: builds the dependency graph of the beans of the
+ * compilation, reports its cycles as errors at the end of every round (see {@link BeanDependencyGraph}) and, for
+ * {@code dot} or {@code json}, writes it to {@code META-INF/spring-config-validation-beans.dot} or {@code .json} in the
+ * class output. The beans of the modules on the processor path or the
+ * {@code -Aspringconfigvalidation.metadataPath} that were compiled with the {@code metadata} option are part of the
+ * graph.</li>
+ * <li>{@code -Aspringconfigvalidation.metadata=true}: writes the configuration classes, their injection points and
+ * {@code @Bean} methods to {@code META-INF/spring-config-validation.beans} in the class output (see
+ * {@link BeanMetadata}), so the bean graphs of downstream modules include them.</li>
+ * <li>{@code -Aspringconfigvalidation.profile=fast|standard|full}: selects the analyses (see
+ * {@link ValidationProfile}). {@code fast} runs the constant-time checks of modifiers and annotations only, for IDEs
+ * that run the processor on every reconcile. {@code full} also runs the {@code proxyBeanMethods} recommendation and
+ * the bean graph without their options.</li>
+ * <li>{@code -Aspringconfigvalidation.aot=true}: generates a companion class {@code <class>__BeanDefinitions} for
+ * every {@code @Configuration} class without errors whose bean definitions are fully determined by the class itself,
+ * which the runtime module uses instead of parsing the class at startup (see {@link BeanDefinitionsGenerator}).</li>
+ * <li>{@code -Aspringconfigvalidation.nativeImage=<groupId>/<artifactId>}: writes the reflection and proxy hints of
+ * the configuration classes and their beans to {@code META-INF/native-image/<groupId>/<artifactId>/reflect-config.json}
+ * and {@code proxy-config.json} in the class output (see {@link NativeImageHints}). With {@code true} the hints are
+ * written to {@code META-INF/native-image/spring-config-validation}.</li>
+ * <li>{@code -Aspringconfigvalidation.check.<MESSAGE>=off|error|warning|note}: disables a check or changes the
+ * severity of its {@link SpringConfigurationMessage}, overriding the profile. Rules whose messages are all disabled
+ * are not evaluated.</li>
+ * </ul>
+ * The processor reports itself to Gradle as aggregating as soon as an option producing output over the whole
+ * compilation is enabled.
+ *
+ * <p>The checks are implemented as {@link ValidationRule}s that are evaluated by a rule engine in a single pass over
+ * the elements of a round. Additional rules are loaded with the {@link ServiceLoader} from
+ * {@code META-INF/services/com.github.pellaton.springconfigvalidation.ValidationRule} on the processor path.
+ * The rounds and rule invocations are observed by the {@link ProcessingMonitor} of the concrete processor.
+ *
+ * <p>Concrete processors must support all annotation types ({@code "*"}) so that classes carrying only a composed
+ * stereotype are visited as well. The processor never claims any annotations.
+ *
  * @author Michael Pellaton
  *
  * @see <a href="http://static.springsource.org/spring/docs/3.1.x/spring-framework-reference/html/beans.html#beans-java">Spring Frameowrk Reference: Java-based container configuration</a>
@@ -66,14 +144,26 @@ import javax.lang.model.util.Types;
  */
 public abstract class SpringConfigurationValidationProcessor extends AbstractProcessor {
 
-  private TypeElement autowiredTypeElement;
-  private TypeElement beanTypeElement;
-  private TypeElement bfppTypeElement;
-  private TypeElement configurationTypeElement;
+  private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+  private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+  private static final String STATISTICS_RESOURCE = "META-INF/spring-config-validation-stats.json";
 
   private Messager messager;
-  private Types typeUtils;
-  private Elements elementUtils;
+  private ProcessorOptions options;
+  private ValidationProfile profile;
+  private ProcessingStatistics statistics;
+  private RuleEngine ruleEngine;
+  private DiagnosticsReport report;
+  private ConfigurationIndex index;
+  private ComponentsIndex componentsIndex;
+  private ComponentScanAnalysis componentScanAnalysis;
+  private BeanDependencyGraph beanGraph;
+  private BeanMetadataWriter metadataWriter;
+  private BeanDefinitionsGenerator beanDefinitionsGenerator;
+  private NativeImageHints nativeImageHints;
+  private ValidationReporter reporter;
+  private ProcessingMonitor monitor;
+  private int round;
 
 
   /**
@@ -89,181 +179,450 @@ public abstract class SpringConfigurationValidationProcessor extends AbstractPro
     super.init(processingEnv);
 
     this.messager = processingEnv.getMessager();
-    this.typeUtils = processingEnv.getTypeUtils();
-    this.elementUtils = processingEnv.getElementUtils();
-
-    this.autowiredTypeElement = this.elementUtils.getTypeElement(
-        "org.springframework.beans.factory.annotation.Autowired");
-    this.beanTypeElement = this.elementUtils.getTypeElement(
-        "org.springframework.context.annotation.Bean");
-    this.bfppTypeElement = this.elementUtils.getTypeElement(
-        "org.springframework.beans.factory.config.BeanFactoryPostProcessor");
-    this.configurationTypeElement = this.elementUtils.getTypeElement(
-        "org.springframework.context.annotation.Configuration");
+    this.options = new ProcessorOptions(processingEnv.getOptions());
+    this.profile = getProfile();
+    this.statistics = new ProcessingStatistics(this.options.isStatisticsEnabled());
+    this.report = createReport(processingEnv);
+    this.index = this.options.isIndexEnabled() ? new ConfigurationIndex() : null;
+    this.componentScanAnalysis = createComponentScanAnalysis();
+    this.beanGraph = createBeanGraph();
+    this.metadataWriter = this.options.isMetadataEnabled() ? new BeanMetadataWriter() : null;
+    this.beanDefinitionsGenerator = this.options.isAotEnabled() ? new BeanDefinitionsGenerator() : null;
+    this.nativeImageHints = createNativeImageHints();
+    this.reporter = new MessagerReporter();
+    this.monitor = createMonitor();
+    ValidationContext context = new ValidationContext(processingEnv);
+    this.componentsIndex = this.options.isComponentsIndexEnabled() ? new ComponentsIndex(context) : null;
+    this.ruleEngine = new RuleEngine(loadRules(), context, this.reporter, this.statistics, this.monitor);
   }
 
-  @Override
-  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-    if (!roundEnv.errorRaised() && !roundEnv.processingOver()) {
-      processRound(annotations, roundEnv);
-    }
-    return false;
+  /**
+   * Creates the monitor observing the rounds and rule invocations. Processors for Java versions with the JDK Flight
+   * Recorder override this method to emit events.
+   *
+   * @return the monitor, by default one observing nothing
+   */
+  ProcessingMonitor createMonitor() {
+    return ProcessingMonitor.NONE;
   }
 
-  private void processRound(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-    for (TypeElement annotation : annotations) {
-      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
-        processElement(element);
-      }
-    }
+  /**
+   * Gets the class loader the custom {@link ValidationRule}s are loaded from.
+   *
+   * @return the class loader, by default the one of the processor
+   */
+  ClassLoader getRuleClassLoader() {
+    return SpringConfigurationValidationProcessor.class.getClassLoader();
   }
 
-  private void processElement(Element element) {
-    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
-      Element annotationTypeElement = annotation.getAnnotationType().asElement();
+  /**
+   * Invoked after a violation was printed with the {@link Messager}. Tools running the processor override this method
+   * to learn which message a diagnostic stems from without parsing its text. The default implementation does nothing.
+   *
+   * @param message the built-in message or {@code null} for a message of a custom rule
+   * @param severity the kind of the printed diagnostic
+   * @param text the text of the printed diagnostic
+   * @param element the element the diagnostic refers to
+   */
+  protected void messageReported(SpringConfigurationMessage message, Kind severity, String text, Element element) {
+    // no-op by default
+  }
 
-      if (annotationTypeElement.equals(this.configurationTypeElement)) {
-        List<? extends Element> enclosedElements = element.getEnclosedElements();
-        processClass(element, ElementFilter.constructorsIn(enclosedElements));
+  private ValidationProfile getProfile() {
+    ValidationProfile validationProfile = this.options.getValidationProfile();
+    if (validationProfile == null) {
+      this.messager.printMessage(Kind.WARNING, "Unknown profile '" + this.options.getProfile()
+          + "', supported profiles are 'fast', 'standard' and 'full'");
+      validationProfile = ValidationProfile.STANDARD;
+    }
+    for (String option : this.options.getInvalidCheckOptions()) {
+      this.messager.printMessage(Kind.WARNING, "Invalid value of option '" + option
+          + "', expected 'off', 'error', 'warning' or 'note'");
+    }
+    return validationProfile;
+  }
 
-      } else if (annotationTypeElement.equals(this.beanTypeElement)) {
-        processBeanMethod((ExecutableElement) element);
-      }
+  private NativeImageHints createNativeImageHints() {
+    if (!this.options.isNativeImageEnabled()) {
+      return null;
+    }
+    if (this.options.getNativeImageDirectory() == null) {
+      this.messager.printMessage(Kind.WARNING, "Invalid native-image option '" + this.options.getNativeImage()
+          + "', expected '<groupId>/<artifactId>' or 'true'");
+      return null;
     }
+    return new NativeImageHints();
   }
 
-  private void processClass(Element element, List<ExecutableElement> constructors) {
-    processClassVisibility(element);
-    processConstructors(element, constructors);
-    processStaticClass(element);
+  private ComponentScanAnalysis createComponentScanAnalysis() {
+    if (this.options.getComponentScanHitRatio() == null
+        || !this.options.isCheckEnabled(SpringConfigurationMessage.COMPONENT_SCAN_TOO_BROAD)) {
+      return null;
+    }
+    double threshold = this.options.getComponentScanHitRatioThreshold();
+    if (threshold < 0) {
+      this.messager.printMessage(Kind.WARNING, "Invalid component scan hit ratio '"
+          + this.options.getComponentScanHitRatio() + "', expected a number between 0 and 1");
+      return null;
+    }
+    return new ComponentScanAnalysis(threshold);
   }
 
-  private void processStaticClass(Element element) {
-    if (isNestedClass(element) && !isStaticMethod(element)) {
-      printMessage(SpringConfigurationMessage.NESTED_CLASS_NOT_STATIC, element);
+  private DiagnosticsReport createReport(ProcessingEnvironment processingEnv) {
+    if (this.options.getReport() == null) {
+      return null;
+    }
+    ReportFormat format = this.options.getReportFormat();
+    if (format == null) {
+      this.messager.printMessage(Kind.WARNING, "Unknown report format '" + this.options.getReport()
+          + "', supported formats are 'jsonl' and 'sarif'");
+      return null;
     }
+    return new DiagnosticsReport(processingEnv.getFiler(), this.messager, format, SourceLocator.create(processingEnv));
   }
 
-  private boolean isNestedClass(Element element) {
-    return element.getEnclosingElement().getKind().equals(ElementKind.CLASS);
+  private BeanDependencyGraph createBeanGraph() {
+    if (this.profile == ValidationProfile.FAST) {
+      return null;
+    }
+    String beanGraphOption = this.options.getBeanGraph();
+    if (beanGraphOption == null && this.profile == ValidationProfile.FULL) {
+      beanGraphOption = "true";
+    }
+    if (beanGraphOption == null || "false".equals(beanGraphOption) || "true".equals(beanGraphOption)
+        && !this.options.isCheckEnabled(SpringConfigurationMessage.BEAN_DEPENDENCY_CYCLE)) {
+      return null;
+    }
+    if (!"true".equals(beanGraphOption) && !ProcessorOptions.BEAN_GRAPH_DOT.equals(beanGraphOption)
+        && !ProcessorOptions.BEAN_GRAPH_JSON.equals(beanGraphOption)) {
+      this.messager.printMessage(Kind.WARNING, "Unknown bean graph format '" + beanGraphOption
+          + "', supported values are 'true', 'dot' and 'json'");
+      return null;
+    }
+    ClassLoader classLoader = SpringConfigurationValidationProcessor.class.getClassLoader();
+    return new BeanDependencyGraph(MergedBeanMetadata.load(classLoader, this.options.getMetadataPath(),
+        getClassOutputMetadata(), this.messager));
   }
 
-  private void processClassVisibility(Element element) {
-    if (element.getModifiers().contains(Modifier.FINAL)) {
-      printMessage(SpringConfigurationMessage.CLASS_FINAL, element);
+  private File getClassOutputMetadata() {
+    try {
+      URI uri = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", BeanMetadata.RESOURCE)
+          .toUri();
+      return "file".equals(uri.getScheme()) ? new File(uri) : null;
+    } catch (IOException e) {
+      return null;
+    } catch (IllegalArgumentException e) {
+      return null;
     }
   }
 
-  private void processConstructors(Element element, List<ExecutableElement> constructors) {
-    boolean hasVisibleNoArgConsctructor = false;
-    for (ExecutableElement constructor : constructors) {
-      if (isVisibleElement(constructor) && hasNoParameter(constructor)) {
-        hasVisibleNoArgConsctructor = true;
+  private List<ValidationRule> loadRules() {
+    List<ValidationRule> rules = new ArrayList<ValidationRule>();
+    for (BuiltInRule rule : BuiltInRule.values()) {
+      if (isAnyCheckEnabled(rule.getMessages())) {
+        rules.add(rule);
       }
-      processAutowiredConstructor(constructor);
     }
-    if (!hasVisibleNoArgConsctructor) {
-      printMessage(SpringConfigurationMessage.MISSING_NO_ARG_CONSTRUCTOR, element);
+    Iterator<ValidationRule> customRules = ServiceLoader.load(ValidationRule.class, getRuleClassLoader()).iterator();
+    while (true) {
+      try {
+        if (!customRules.hasNext()) {
+          break;
+        }
+        rules.add(customRules.next());
+      } catch (ServiceConfigurationError e) {
+        this.messager.printMessage(Kind.WARNING, "Could not load validation rule: " + e.getMessage());
+      }
+    }
+    if (this.options.isCheckEnabled(SpringConfigurationMessage.MALFORMED_PROFILE_EXPRESSION)) {
+      rules.add(new ProfileExpressionRule());
+    }
+    if ((this.options.isBeanReturnTypesEnabled() || this.profile == ValidationProfile.FULL)
+        && isAnyCheckEnabled(EnumSet.of(SpringConfigurationMessage.BEAN_METHOD_RETURN_TYPE_TOO_BROAD,
+            SpringConfigurationMessage.RAW_FACTORY_BEAN_RETURN_TYPE))) {
+      rules.add(new BeanReturnTypeRule(
+          this.options.isCheckEnabled(SpringConfigurationMessage.BEAN_METHOD_RETURN_TYPE_TOO_BROAD)));
+    }
+    if (this.options.isCheckEnabled(SpringConfigurationMessage.LITE_MODE_INTER_BEAN_CALL)) {
+      rules.add(new LiteModeInterBeanCallRule());
+    }
+    if (this.index != null) {
+      rules.add(this.index);
+    }
+    if ((this.options.isProxyBeanMethodsEnabled() || this.profile == ValidationProfile.FULL)
+        && this.options.isCheckEnabled(SpringConfigurationMessage.PROXY_BEAN_METHODS_NOT_NEEDED)) {
+      rules.add(new ProxyBeanMethodsRule());
+    }
+    if (this.componentScanAnalysis != null) {
+      rules.add(this.componentScanAnalysis);
+    }
+    if (this.beanGraph != null) {
+      rules.add(this.beanGraph);
+    }
+    if (this.metadataWriter != null) {
+      rules.add(this.metadataWriter);
+    }
+    if (this.beanDefinitionsGenerator != null) {
+      rules.add(this.beanDefinitionsGenerator);
     }
+    if (this.nativeImageHints != null) {
+      rules.add(this.nativeImageHints);
+    }
+    return rules;
   }
 
-  private void processAutowiredConstructor(ExecutableElement constructor) {
-    List<? extends AnnotationMirror> annotations = constructor.getAnnotationMirrors();
-    for (AnnotationMirror annotationMirror : annotations) {
-
-      Element annotationTypeElement = annotationMirror.getAnnotationType().asElement();
-      if (annotationTypeElement.equals(this.autowiredTypeElement)) {
-        printMessage(SpringConfigurationMessage.AUTOWIRED_CONSTRUCTOR, constructor, annotationMirror);
+  private boolean isAnyCheckEnabled(Set<SpringConfigurationMessage> messages) {
+    for (SpringConfigurationMessage message : messages) {
+      if (this.options.isCheckEnabled(message)) {
+        return true;
       }
     }
+    return false;
   }
 
-  private boolean hasNoParameter(ExecutableElement constructor) {
-    return constructor.getParameters().isEmpty();
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Besides the processor's own options, this includes the incremental processing category for Gradle, which
+   * depends on whether any output aggregated over the whole compilation is enabled.
+   */
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> supportedOptions = new LinkedHashSet<String>(ProcessorOptions.getSupportedOptions());
+    supportedOptions.add(this.options != null && this.options.isAggregating() ? GRADLE_AGGREGATING : GRADLE_ISOLATING);
+    return supportedOptions;
   }
 
-  private boolean isVisibleElement(ExecutableElement constructor) {
-    return !constructor.getModifiers().contains(Modifier.PRIVATE);
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Object observation = this.monitor.roundStarted(++this.round);
+    boolean validated = false;
+    if (roundEnv.processingOver()) {
+      processingOver();
+    } else if (!roundEnv.errorRaised()) {
+      processRound(annotations, roundEnv);
+      validated = true;
+    }
+    if (observation != null) {
+      this.monitor.roundFinished(observation, validated ? this.ruleEngine.getElementCount() : 0,
+          validated ? this.ruleEngine.getClassCheckCount() : 0,
+          validated ? this.ruleEngine.getBeanMethodCheckCount() : 0);
+    }
+    return false;
   }
 
-  private void processBeanMethod(ExecutableElement methodElement) {
-    processForScope(methodElement);
-    processForFinal(methodElement);
-    processForReturnType(methodElement);
-    processForBFPP(methodElement);
-    processForConfigurationClass(methodElement);
+  private void processRound(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    this.statistics.roundStarted();
+    this.ruleEngine.processRound(annotations, roundEnv);
+    if (this.componentScanAnalysis != null) {
+      this.componentScanAnalysis.countTypes(roundEnv.getRootElements());
+    }
+    if (this.componentsIndex != null) {
+      this.componentsIndex.addTypes(roundEnv.getRootElements());
+    }
+    if (this.beanGraph != null) {
+      this.beanGraph.reportCycles(this.reporter);
+    }
+    if (this.beanDefinitionsGenerator != null) {
+      this.beanDefinitionsGenerator.generate(this.processingEnv.getFiler(), this.messager);
+    }
+    this.statistics.roundFinished();
+    if (this.report != null) {
+      this.report.flush();
+    }
   }
 
-  private void processForFinal(ExecutableElement methodElement) {
-    if (isFinalMethod(methodElement)) {
-      printMessage(SpringConfigurationMessage.BEAN_METHOD_FINAL, methodElement);
+  private void processingOver() {
+    if (this.componentScanAnalysis != null) {
+      this.componentScanAnalysis.report(this.reporter);
+    }
+    if (this.beanGraph != null) {
+      writeBeanGraph();
+    }
+    if (this.statistics.isEnabled()) {
+      writeStatistics();
+    }
+    if (this.report != null) {
+      this.report.close();
+    }
+    if (this.index != null) {
+      writeIndex();
+    }
+    if (this.componentsIndex != null) {
+      writeComponentsIndex();
+    }
+    if (this.metadataWriter != null) {
+      writeMetadata();
+    }
+    if (this.nativeImageHints != null) {
+      writeNativeImageHints();
     }
   }
 
-  private void processForReturnType(ExecutableElement methodElement) {
-    if (methodElement.getReturnType().getKind() == TypeKind.VOID) {
-      printMessage(SpringConfigurationMessage.BEAN_METHOD_RETURNS_VOID, methodElement);
-    }
+  private void writeIndex() {
+    writeResource(ConfigurationIndex.RESOURCE, new TextResourceWriter() {
+
+      @Override
+      void write(Writer writer) throws IOException {
+        SpringConfigurationValidationProcessor.this.index.write(writer);
+      }
+    });
   }
 
-  private void processForBFPP(ExecutableElement methodElement) {
-    boolean implementsBFPP = this.typeUtils.isAssignable(methodElement.getReturnType(), this.bfppTypeElement.asType());
-    boolean isStaticMethod = isStaticMethod(methodElement);
-    if (isStaticMethod) {
-      if (!implementsBFPP) {
-        printMessage(SpringConfigurationMessage.STATIC_BEAN_METHOD, methodElement);
+  private void writeComponentsIndex() {
+    writeResource(ComponentsIndex.RESOURCE, new TextResourceWriter() {
+
+      @Override
+      void write(Writer writer) throws IOException {
+        SpringConfigurationValidationProcessor.this.componentsIndex.write(writer);
       }
-    } else {
-      if (implementsBFPP) {
-        printMessage(SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC, methodElement);
+    });
+  }
+
+  private void writeNativeImageHints() {
+    String directory = "META-INF/native-image/" + this.options.getNativeImageDirectory() + "/";
+    writeResource(directory + NativeImageHints.REFLECT_CONFIG, new TextResourceWriter() {
+
+      @Override
+      void write(Writer writer) throws IOException {
+        SpringConfigurationValidationProcessor.this.nativeImageHints.writeReflectConfig(writer);
       }
-    }
+    });
+    writeResource(directory + NativeImageHints.PROXY_CONFIG, new TextResourceWriter() {
+
+      @Override
+      void write(Writer writer) throws IOException {
+        SpringConfigurationValidationProcessor.this.nativeImageHints.writeProxyConfig(writer);
+      }
+    });
   }
 
-  private void processForConfigurationClass(ExecutableElement methodElement) {
-    if (!isInConfigurationClass(methodElement)) {
-      printMessage(SpringConfigurationMessage.BEAN_METHOD_NOT_IN_CONFIGURATION, methodElement);
-    }
+  private void writeMetadata() {
+    writeResource(BeanMetadata.RESOURCE, new ResourceWriter() {
+
+      @Override
+      public void write(OutputStream outputStream) throws IOException {
+        SpringConfigurationValidationProcessor.this.metadataWriter.write(outputStream);
+      }
+    });
   }
 
-  private void processForScope(Element methodElement) {
-    if (isPrivateMethod(methodElement)) {
-      printMessage(SpringConfigurationMessage.BEAN_METHOD_PRIVATE, methodElement);
+  private void writeBeanGraph() {
+    final boolean dot = ProcessorOptions.BEAN_GRAPH_DOT.equals(this.options.getBeanGraph());
+    if (!dot && !ProcessorOptions.BEAN_GRAPH_JSON.equals(this.options.getBeanGraph())) {
+      return;
     }
+    writeResource(dot ? BeanDependencyGraph.DOT_RESOURCE : BeanDependencyGraph.JSON_RESOURCE, new TextResourceWriter() {
+
+      @Override
+      void write(Writer writer) throws IOException {
+        if (dot) {
+          SpringConfigurationValidationProcessor.this.beanGraph.writeDot(writer);
+        } else {
+          SpringConfigurationValidationProcessor.this.beanGraph.writeJson(writer);
+        }
+      }
+    });
   }
 
-  private boolean isPrivateMethod(Element methodElement) {
-    return methodElement.getModifiers().contains(Modifier.PRIVATE);
-  }
+  private void writeStatistics() {
+    writeResource(STATISTICS_RESOURCE, new TextResourceWriter() {
 
-  private boolean isFinalMethod(Element methodElement) {
-    return methodElement.getModifiers().contains(Modifier.FINAL);
+      @Override
+      void write(Writer writer) throws IOException {
+        SpringConfigurationValidationProcessor.this.statistics.writeJson(writer);
+      }
+    });
+    this.messager.printMessage(Kind.NOTE, this.statistics.getSummary());
   }
 
-  private boolean isStaticMethod(Element methodElement) {
-    return methodElement.getModifiers().contains(Modifier.STATIC);
+  private void writeResource(String name, ResourceWriter body) {
+    try {
+      FileObject resource = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+      OutputStream outputStream = resource.openOutputStream();
+      try {
+        body.write(outputStream);
+      } finally {
+        outputStream.close();
+      }
+    } catch (IOException e) {
+      this.messager.printMessage(Kind.WARNING, "Could not write " + name + ": " + e.getMessage());
+    }
   }
 
-  private boolean isInConfigurationClass(ExecutableElement methodElement) {
-    Element enclosingElement = methodElement.getEnclosingElement();
 
-    List<? extends AnnotationMirror> annotationMirrors = enclosingElement.getAnnotationMirrors();
-    for (AnnotationMirror annotationMirror : annotationMirrors) {
-      DeclaredType annotationType = annotationMirror.getAnnotationType();
+  /**
+   * {@link ValidationReporter} printing the violations with the {@link Messager}.
+   */
+  private final class MessagerReporter implements ValidationReporter {
 
-      if (this.configurationTypeElement.equals(annotationType.asElement())) {
-        return true;
+    @Override
+    public void report(SpringConfigurationMessage message, Element element) {
+      report(message, element, null);
+    }
+
+    @Override
+    public void report(SpringConfigurationMessage message, Element element, AnnotationMirror annotationMirror) {
+      report(message, element, annotationMirror, new Object[0]);
+    }
+
+    @Override
+    public void report(SpringConfigurationMessage message, Element element, AnnotationMirror annotationMirror,
+        Object... arguments) {
+      Kind severity = SpringConfigurationValidationProcessor.this.options.getSeverity(message);
+      if (severity == null) {
+        return;
+      }
+      String text = message.format(arguments);
+      SpringConfigurationValidationProcessor.this.messager.printMessage(severity, text, element, annotationMirror);
+      messageReported(message, severity, text, element);
+      if (SpringConfigurationValidationProcessor.this.report != null) {
+        SpringConfigurationValidationProcessor.this.report.report(message.name(), severity, text, element,
+            annotationMirror);
       }
+      excludeOnError(severity, element);
     }
 
-    return false;
+    @Override
+    public void report(String rule, Kind kind, String message, Element element) {
+      SpringConfigurationValidationProcessor.this.messager.printMessage(kind, message, element);
+      messageReported(null, kind, message, element);
+      if (SpringConfigurationValidationProcessor.this.report != null) {
+        SpringConfigurationValidationProcessor.this.report.report(rule, kind, message, element, null);
+      }
+      excludeOnError(kind, element);
+    }
+
+    private void excludeOnError(Kind kind, Element element) {
+      if (kind == Kind.ERROR && element != null
+          && SpringConfigurationValidationProcessor.this.beanDefinitionsGenerator != null) {
+        SpringConfigurationValidationProcessor.this.beanDefinitionsGenerator.exclude(element);
+      }
+    }
   }
 
-  private void printMessage(SpringConfigurationMessage message, Element element, AnnotationMirror annotationMirror) {
-    this.messager.printMessage(message.getKind(), message.getMessage(), element, annotationMirror);
+
+  /**
+   * Writes the content of a resource in the class output.
+   */
+  private interface ResourceWriter {
+
+    void write(OutputStream outputStream) throws IOException;
   }
 
-  private void printMessage(SpringConfigurationMessage message, Element element) {
-    printMessage(message, element, null);
+
+  /**
+   * {@link ResourceWriter} writing UTF-8 text.
+   */
+  private abstract static class TextResourceWriter implements ResourceWriter {
+
+    @Override
+    public final void write(OutputStream outputStream) throws IOException {
+      Writer writer = new OutputStreamWriter(outputStream, "UTF-8");
+      write(writer);
+      writer.flush();
+    }
+
+    abstract void write(Writer writer) throws IOException;
   }
 }
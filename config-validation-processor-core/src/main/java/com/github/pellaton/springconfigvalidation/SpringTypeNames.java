@@ -0,0 +1,50 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+/**
+ * Fully qualified names of the Spring types the processor refers to. The types are resolved by name so the processor
+ * does not depend on Spring at runtime.
+ *
+ * @author Michael Pellaton
+ */
+final class SpringTypeNames {
+
+  static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+  static final String BEAN = "org.springframework.context.annotation.Bean";
+  static final String COMPONENT = "org.springframework.stereotype.Component";
+  static final String COMPONENT_SCAN = "org.springframework.context.annotation.ComponentScan";
+  static final String COMPONENT_SCANS = "org.springframework.context.annotation.ComponentScans";
+  static final String CONDITIONAL = "org.springframework.context.annotation.Conditional";
+  static final String CONFIGURATION = "org.springframework.context.annotation.Configuration";
+  static final String DEPENDS_ON = "org.springframework.context.annotation.DependsOn";
+  static final String IMPORT = "org.springframework.context.annotation.Import";
+  static final String INDEXED = "org.springframework.stereotype.Indexed";
+  static final String LAZY = "org.springframework.context.annotation.Lazy";
+  static final String PRIMARY = "org.springframework.context.annotation.Primary";
+  static final String PROFILE = "org.springframework.context.annotation.Profile";
+  static final String VALUE = "org.springframework.beans.factory.annotation.Value";
+
+
+  /**
+   * Avoid instantiation.
+   */
+  private SpringTypeNames() {
+    throw new AssertionError("Not instantiable.");
+  }
+}
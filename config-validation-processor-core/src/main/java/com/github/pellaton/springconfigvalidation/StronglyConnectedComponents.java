@@ -0,0 +1,110 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tarjan's algorithm finding the strongly connected components of a directed graph in time linear in the number of
+ * nodes and edges. The depth-first search keeps its own stack instead of recursing, so graphs with long dependency
+ * chains do not overflow the thread stack of the compiler.
+ *
+ * @author Michael Pellaton
+ */
+final class StronglyConnectedComponents {
+
+  private static final int UNVISITED = -1;
+
+
+  /**
+   * Avoid instantiation.
+   */
+  private StronglyConnectedComponents() {
+    throw new AssertionError("Not instantiable.");
+  }
+
+
+  /**
+   * Finds the strongly connected components of a graph.
+   *
+   * @param edges the targets of the edges of every node, nodes are numbered from {@code 0} to
+   *        {@code edges.length - 1}
+   * @return the components in reverse topological order, each with its nodes in ascending order
+   */
+  static List<int[]> find(int[][] edges) {
+    int nodeCount = edges.length;
+    int[] index = new int[nodeCount];
+    int[] lowLink = new int[nodeCount];
+    boolean[] onStack = new boolean[nodeCount];
+    int[] stack = new int[nodeCount];
+    int[] path = new int[nodeCount];
+    int[] nextEdge = new int[nodeCount];
+    Arrays.fill(index, UNVISITED);
+
+    List<int[]> components = new ArrayList<int[]>();
+    int counter = 0;
+    int stackSize = 0;
+    for (int root = 0; root < nodeCount; root++) {
+      if (index[root] != UNVISITED) {
+        continue;
+      }
+      int depth = 0;
+      index[root] = counter;
+      lowLink[root] = counter++;
+      stack[stackSize++] = root;
+      onStack[root] = true;
+      path[depth++] = root;
+
+      while (depth > 0) {
+        int node = path[depth - 1];
+        if (nextEdge[node] < edges[node].length) {
+          int target = edges[node][nextEdge[node]++];
+          if (index[target] == UNVISITED) {
+            index[target] = counter;
+            lowLink[target] = counter++;
+            stack[stackSize++] = target;
+            onStack[target] = true;
+            path[depth++] = target;
+          } else if (onStack[target]) {
+            lowLink[node] = Math.min(lowLink[node], index[target]);
+          }
+          continue;
+        }
+
+        depth--;
+        if (depth > 0) {
+          int parent = path[depth - 1];
+          lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+        }
+        if (lowLink[node] == index[node]) {
+          int start = stackSize;
+          do {
+            onStack[stack[--start]] = false;
+          } while (stack[start] != node);
+          int[] component = Arrays.copyOfRange(stack, start, stackSize);
+          Arrays.sort(component);
+          components.add(component);
+          stackSize = start;
+        }
+      }
+    }
+    return components;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Per-compilation index of the Spring marker types that types are assignable to. The index is keyed by the erased
+ * {@link TypeElement} of a type and holds a bit set of the {@link MarkerType}s the type implements. The bit set of a
+ * type is computed the first time the type is looked up and is then shared across all rounds, so every marker check on
+ * a type that has been seen before is a constant time lookup instead of a walk over the type hierarchy.
+ *
+ * @author Michael Pellaton
+ */
+final class SupertypeIndex {
+
+  private static final MarkerType[] MARKERS = MarkerType.values();
+
+  private final Types typeUtils;
+  private final TypeMirror[] markerTypes;
+  private final Map<String, Integer> markersByType = new HashMap<String, Integer>();
+
+
+  /**
+   * Constructor.
+   *
+   * @param elementUtils the element utilities of the current compilation
+   * @param typeUtils the type utilities of the current compilation
+   */
+  SupertypeIndex(Elements elementUtils, Types typeUtils) {
+    this.typeUtils = typeUtils;
+    this.markerTypes = new TypeMirror[MARKERS.length];
+    for (MarkerType marker : MARKERS) {
+      TypeElement markerElement = elementUtils.getTypeElement(marker.getTypeName());
+      if (markerElement != null) {
+        this.markerTypes[marker.ordinal()] = typeUtils.erasure(markerElement.asType());
+      }
+    }
+  }
+
+
+  /**
+   * Checks whether the given type is assignable to the given marker type.
+   *
+   * @param type the type to check
+   * @param marker the marker type
+   * @return {@code true} if the erasure of {@code type} is assignable to {@code marker}, {@code false} otherwise
+   */
+  boolean isAssignable(TypeMirror type, MarkerType marker) {
+    return isAssignable(getMarkers(type), marker);
+  }
+
+  /**
+   * Checks whether the given bit set contains the given marker type.
+   *
+   * @param markers the bit set as returned by {@link #getMarkers(TypeMirror)}
+   * @param marker the marker type
+   * @return {@code true} if the bit set contains {@code marker}, {@code false} otherwise
+   */
+  static boolean isAssignable(int markers, MarkerType marker) {
+    return (markers & marker.mask()) != 0;
+  }
+
+  /**
+   * Gets the bit set of all markers the given type is assignable to.
+   *
+   * @param type the type
+   * @return the bit set of {@link MarkerType#mask() marker masks}, {@code 0} for types other than classes and
+   *         interfaces
+   */
+  int getMarkers(TypeMirror type) {
+    TypeMirror erasure = this.typeUtils.erasure(type);
+    if (erasure.getKind() != TypeKind.DECLARED) {
+      return 0;
+    }
+
+    TypeElement typeElement = (TypeElement) ((DeclaredType) erasure).asElement();
+    String key = typeElement.getQualifiedName().toString();
+    Integer markers = this.markersByType.get(key);
+    if (markers == null) {
+      markers = Integer.valueOf(computeMarkers(erasure));
+      if (key.length() > 0) {
+        this.markersByType.put(key, markers);
+      }
+    }
+    return markers.intValue();
+  }
+
+  private int computeMarkers(TypeMirror erasure) {
+    int markers = 0;
+    for (MarkerType marker : MARKERS) {
+      TypeMirror markerType = this.markerTypes[marker.ordinal()];
+      if (markerType != null && this.typeUtils.isAssignable(erasure, markerType)) {
+        markers |= marker.mask();
+      }
+    }
+    return markers;
+  }
+}
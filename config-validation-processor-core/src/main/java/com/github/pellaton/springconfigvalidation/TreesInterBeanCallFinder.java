@@ -0,0 +1,196 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.tools.Diagnostic;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberReferenceTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+
+/**
+ * {@link InterBeanCallFinder} based on the javac tree API.
+ *
+ * <p>This class must only be loaded through {@link InterBeanCallFinder#create(ProcessingEnvironment)} which falls back
+ * if the tree API is not available.
+ *
+ * @author Michael Pellaton
+ */
+final class TreesInterBeanCallFinder extends InterBeanCallFinder {
+
+  private static final String THIS = "this";
+  private static final String SUPER = "super";
+
+  private final Trees trees;
+  private final SourcePositions positions;
+
+
+  /**
+   * Constructor.
+   *
+   * @param processingEnv the processing environment
+   * @throws IllegalArgumentException if the processing environment is not the one of javac
+   */
+  TreesInterBeanCallFinder(ProcessingEnvironment processingEnv) {
+    this.trees = Trees.instance(processingEnv);
+    this.positions = this.trees.getSourcePositions();
+  }
+
+
+  @Override
+  boolean isAvailable() {
+    return true;
+  }
+
+  @Override
+  List<InterBeanCall> find(Element scope, Collection<? extends ExecutableElement> beanMethods) {
+    TreePath path = this.trees.getPath(scope);
+    if (path == null) {
+      return null;
+    }
+    if (beanMethods.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<String, Set<Integer>> arities = new HashMap<String, Set<Integer>>();
+    for (ExecutableElement beanMethod : beanMethods) {
+      String name = beanMethod.getSimpleName().toString();
+      Set<Integer> methodArities = arities.get(name);
+      if (methodArities == null) {
+        methodArities = new HashSet<Integer>();
+        arities.put(name, methodArities);
+      }
+      // the arity of a varargs method is negated, it takes any number of arguments from its parameters but one
+      int parameterCount = beanMethod.getParameters().size();
+      methodArities.add(Integer.valueOf(beanMethod.isVarArgs() ? -parameterCount : parameterCount));
+    }
+
+    CallScanner scanner = new CallScanner(path.getCompilationUnit(), path.getLeaf(), arities);
+    scanner.scan(path.getLeaf(), null);
+    return scanner.calls;
+  }
+
+  private static boolean isOwnInstance(ExpressionTree receiver) {
+    if (receiver instanceof IdentifierTree) {
+      String name = ((IdentifierTree) receiver).getName().toString();
+      return THIS.equals(name) || SUPER.equals(name);
+    }
+    return receiver instanceof MemberSelectTree
+        && THIS.equals(((MemberSelectTree) receiver).getIdentifier().toString());
+  }
+
+
+  /**
+   * Collects the calls of the bean methods.
+   */
+  private final class CallScanner extends TreeScanner<Void, Void> {
+
+    private final CompilationUnitTree unit;
+    private final Tree root;
+    private final Map<String, Set<Integer>> arities;
+    private final List<InterBeanCall> calls = new ArrayList<InterBeanCall>();
+
+
+    CallScanner(CompilationUnitTree unit, Tree root, Map<String, Set<Integer>> arities) {
+      this.unit = unit;
+      this.root = root;
+      this.arities = arities;
+    }
+
+
+    @Override
+    public Void visitClass(ClassTree tree, Void unused) {
+      if (tree != this.root && (tree.getKind() != Tree.Kind.CLASS
+          || tree.getModifiers().getFlags().contains(Modifier.STATIC))) {
+        // static nested classes, interfaces, enums and annotation types have no enclosing instance
+        return null;
+      }
+      return super.visitClass(tree, unused);
+    }
+
+    @Override
+    public Void visitMethodInvocation(MethodInvocationTree tree, Void unused) {
+      ExpressionTree method = tree.getMethodSelect();
+      String name = null;
+      if (method instanceof IdentifierTree) {
+        name = ((IdentifierTree) method).getName().toString();
+      } else if (method instanceof MemberSelectTree && isOwnInstance(((MemberSelectTree) method).getExpression())) {
+        name = ((MemberSelectTree) method).getIdentifier().toString();
+      }
+      if (name != null) {
+        Set<Integer> methodArities = this.arities.get(name);
+        if (methodArities != null && matchesArity(methodArities, tree.getArguments().size())) {
+          addCall(name, tree);
+        }
+      }
+      return super.visitMethodInvocation(tree, unused);
+    }
+
+    private boolean matchesArity(Set<Integer> methodArities, int argumentCount) {
+      if (methodArities.contains(Integer.valueOf(argumentCount))) {
+        return true;
+      }
+      for (Integer arity : methodArities) {
+        if (arity.intValue() < 0 && argumentCount >= -arity.intValue() - 1) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public Void visitMemberReference(MemberReferenceTree tree, Void unused) {
+      String name = tree.getName().toString();
+      if (isOwnInstance(tree.getQualifierExpression()) && this.arities.containsKey(name)) {
+        addCall(name, tree);
+      }
+      return super.visitMemberReference(tree, unused);
+    }
+
+    private void addCall(String name, Tree tree) {
+      long position = TreesInterBeanCallFinder.this.positions.getStartPosition(this.unit, tree);
+      if (position == Diagnostic.NOPOS) {
+        this.calls.add(new InterBeanCall(name, Diagnostic.NOPOS, Diagnostic.NOPOS));
+      } else {
+        this.calls.add(new InterBeanCall(name, this.unit.getLineMap().getLineNumber(position),
+            this.unit.getLineMap().getColumnNumber(position)));
+      }
+    }
+  }
+}
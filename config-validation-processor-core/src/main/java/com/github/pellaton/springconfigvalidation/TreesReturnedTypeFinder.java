@@ -0,0 +1,233 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ParameterizedTypeTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+
+/**
+ * {@link ReturnedTypeFinder} based on the javac tree API.
+ *
+ * <p>This class must only be loaded through {@link ReturnedTypeFinder#create(ProcessingEnvironment)} which falls back
+ * if the tree API is not available.
+ *
+ * @author Michael Pellaton
+ */
+final class TreesReturnedTypeFinder extends ReturnedTypeFinder {
+
+  private static final String JAVA_LANG = "java.lang";
+  private static final String ON_DEMAND = "*";
+
+  private final Trees trees;
+  private final Elements elements;
+
+
+  /**
+   * Constructor.
+   *
+   * @param processingEnv the processing environment
+   * @throws IllegalArgumentException if the processing environment is not the one of javac
+   */
+  TreesReturnedTypeFinder(ProcessingEnvironment processingEnv) {
+    this.trees = Trees.instance(processingEnv);
+    this.elements = processingEnv.getElementUtils();
+  }
+
+
+  @Override
+  boolean isAvailable() {
+    return true;
+  }
+
+  @Override
+  TypeElement find(ExecutableElement method) {
+    TreePath path = this.trees.getPath(method);
+    if (path == null || !(path.getLeaf() instanceof MethodTree) || ((MethodTree) path.getLeaf()).getBody() == null) {
+      return null;
+    }
+    ReturnScanner scanner = new ReturnScanner();
+    scanner.scan(((MethodTree) path.getLeaf()).getBody(), null);
+    if (scanner.unknown || scanner.typeNames.isEmpty()) {
+      return null;
+    }
+    TypeElement returnedType = null;
+    for (String typeName : scanner.typeNames) {
+      String simpleName = typeName.split("\\.")[0];
+      if (scanner.localClassNames.contains(simpleName) || isTypeVariable(simpleName, method)) {
+        // local classes and type variables shadow the types of the same name but are not found by name
+        return null;
+      }
+      TypeElement type = resolve(typeName, method, path.getCompilationUnit());
+      if (type == null || (returnedType != null && !returnedType.equals(type))) {
+        return null;
+      }
+      returnedType = type;
+    }
+    return returnedType;
+  }
+
+  private static boolean isTypeVariable(String simpleName, ExecutableElement method) {
+    for (Element enclosing = method; enclosing != null; enclosing = enclosing.getEnclosingElement()) {
+      List<? extends TypeParameterElement> typeParameters;
+      if (enclosing instanceof TypeElement) {
+        typeParameters = ((TypeElement) enclosing).getTypeParameters();
+      } else if (enclosing instanceof ExecutableElement) {
+        typeParameters = ((ExecutableElement) enclosing).getTypeParameters();
+      } else {
+        break;
+      }
+      for (TypeParameterElement typeParameter : typeParameters) {
+        if (typeParameter.getSimpleName().contentEquals(simpleName)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private TypeElement resolve(String typeName, ExecutableElement method, CompilationUnitTree unit) {
+    String[] segments = typeName.split("\\.");
+    TypeElement type = resolveSimpleName(segments[0], method, unit);
+    if (type == null) {
+      return this.elements.getTypeElement(typeName);
+    }
+    for (int i = 1; i < segments.length && type != null; i++) {
+      type = findMemberType(type, segments[i]);
+    }
+    return type;
+  }
+
+  private TypeElement resolveSimpleName(String simpleName, ExecutableElement method, CompilationUnitTree unit) {
+    for (Element enclosing = method.getEnclosingElement(); enclosing instanceof TypeElement;
+        enclosing = enclosing.getEnclosingElement()) {
+      if (enclosing.getSimpleName().contentEquals(simpleName)) {
+        return (TypeElement) enclosing;
+      }
+      TypeElement memberType = findMemberType((TypeElement) enclosing, simpleName);
+      if (memberType != null) {
+        return memberType;
+      }
+    }
+    for (ImportTree importTree : unit.getImports()) {
+      String qualifiedName = importTree.getQualifiedIdentifier().toString();
+      if (!importTree.isStatic() && qualifiedName.endsWith("." + simpleName)) {
+        return this.elements.getTypeElement(qualifiedName);
+      }
+    }
+    String packageName = unit.getPackageName() == null ? "" : unit.getPackageName().toString();
+    TypeElement type = this.elements.getTypeElement(packageName.length() == 0 ? simpleName
+        : packageName + "." + simpleName);
+    if (type != null) {
+      return type;
+    }
+    for (ImportTree importTree : unit.getImports()) {
+      String qualifiedName = importTree.getQualifiedIdentifier().toString();
+      if (!importTree.isStatic() && qualifiedName.endsWith("." + ON_DEMAND)) {
+        type = this.elements.getTypeElement(qualifiedName.substring(0, qualifiedName.length() - 1) + simpleName);
+        if (type != null) {
+          return type;
+        }
+      }
+    }
+    return this.elements.getTypeElement(JAVA_LANG + "." + simpleName);
+  }
+
+  private TypeElement findMemberType(TypeElement type, String simpleName) {
+    for (TypeElement memberType : ElementFilter.typesIn(this.elements.getAllMembers(type))) {
+      if (memberType.getSimpleName().contentEquals(simpleName)) {
+        return memberType;
+      }
+    }
+    return null;
+  }
+
+
+  /**
+   * Collects the names of the classes instantiated by the {@code return} statements of a method body.
+   */
+  private static final class ReturnScanner extends TreeScanner<Void, Void> {
+
+    private final Set<String> typeNames = new LinkedHashSet<String>();
+    private final Set<String> localClassNames = new HashSet<String>();
+    private boolean unknown;
+
+
+    @Override
+    public Void visitClass(ClassTree tree, Void unused) {
+      // the return statements of local and anonymous classes belong to their own methods
+      this.localClassNames.add(tree.getSimpleName().toString());
+      return null;
+    }
+
+    @Override
+    public Void visitLambdaExpression(LambdaExpressionTree tree, Void unused) {
+      return null;
+    }
+
+    @Override
+    public Void visitReturn(ReturnTree tree, Void unused) {
+      ExpressionTree expression = tree.getExpression();
+      while (expression instanceof ParenthesizedTree) {
+        expression = ((ParenthesizedTree) expression).getExpression();
+      }
+      String typeName = null;
+      if (expression instanceof NewClassTree && ((NewClassTree) expression).getClassBody() == null
+          && ((NewClassTree) expression).getEnclosingExpression() == null) {
+        ExpressionTree identifier = ((NewClassTree) expression).getIdentifier();
+        if (identifier instanceof ParameterizedTypeTree) {
+          identifier = (ExpressionTree) ((ParameterizedTypeTree) identifier).getType();
+        }
+        if (identifier instanceof IdentifierTree || identifier instanceof MemberSelectTree) {
+          typeName = identifier.toString();
+        }
+      }
+      if (typeName == null) {
+        this.unknown = true;
+      } else {
+        this.typeNames.add(typeName);
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.io.IOException;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ModifiersTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+
+/**
+ * {@link SourceLocator} based on the javac tree API. Declarations are located at the first token after their
+ * modifiers, which is on the line javac reports the diagnostics of the element on, and annotations at their {@code @}.
+ *
+ * <p>This class must only be loaded through {@link SourceLocator#create(ProcessingEnvironment)} which falls back if the
+ * tree API is not available.
+ *
+ * @author Michael Pellaton
+ */
+final class TreesSourceLocator extends SourceLocator {
+
+  private final Trees trees;
+  private final SourcePositions positions;
+
+  private CompilationUnitTree contentUnit;
+  private CharSequence content;
+
+
+  /**
+   * Constructor.
+   *
+   * @param processingEnv the processing environment
+   * @throws IllegalArgumentException if the processing environment is not the one of javac
+   */
+  TreesSourceLocator(ProcessingEnvironment processingEnv) {
+    this.trees = Trees.instance(processingEnv);
+    this.positions = this.trees.getSourcePositions();
+  }
+
+
+  @Override
+  SourceLocation locate(Element element, AnnotationMirror annotationMirror) {
+    TreePath path = annotationMirror == null
+        ? this.trees.getPath(element) : this.trees.getPath(element, annotationMirror);
+    if (path == null) {
+      return null;
+    }
+    CompilationUnitTree unit = path.getCompilationUnit();
+    long position = annotationMirror == null
+        ? getDeclarationPosition(unit, path.getLeaf()) : this.positions.getStartPosition(unit, path.getLeaf());
+    if (position == Diagnostic.NOPOS) {
+      return new SourceLocation(unit.getSourceFile().toUri(), Diagnostic.NOPOS, Diagnostic.NOPOS);
+    }
+    return new SourceLocation(unit.getSourceFile().toUri(), unit.getLineMap().getLineNumber(position),
+        unit.getLineMap().getColumnNumber(position));
+  }
+
+  private long getDeclarationPosition(CompilationUnitTree unit, Tree tree) {
+    long start = this.positions.getStartPosition(unit, tree);
+    ModifiersTree modifiers = getModifiers(tree);
+    if (modifiers == null) {
+      return start;
+    }
+    long end = this.positions.getEndPosition(unit, modifiers);
+    if (end == Diagnostic.NOPOS || end <= start) {
+      return start;
+    }
+    CharSequence source = getContent(unit);
+    if (source == null) {
+      return end;
+    }
+    while (end < source.length() && Character.isWhitespace(source.charAt((int) end))) {
+      end++;
+    }
+    return end;
+  }
+
+  private static ModifiersTree getModifiers(Tree tree) {
+    if (tree instanceof ClassTree) {
+      return ((ClassTree) tree).getModifiers();
+    } else if (tree instanceof MethodTree) {
+      return ((MethodTree) tree).getModifiers();
+    } else if (tree instanceof VariableTree) {
+      return ((VariableTree) tree).getModifiers();
+    }
+    return null;
+  }
+
+  /**
+   * Gets the content of the source file. Only the content of the last compilation unit is cached, the findings of one
+   * unit are usually reported together.
+   */
+  private CharSequence getContent(CompilationUnitTree unit) {
+    if (unit != this.contentUnit) {
+      this.contentUnit = unit;
+      try {
+        this.content = unit.getSourceFile().getCharContent(true);
+      } catch (IOException e) {
+        this.content = null;
+      }
+    }
+    return this.content;
+  }
+}
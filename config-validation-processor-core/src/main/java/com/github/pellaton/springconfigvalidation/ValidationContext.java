@@ -0,0 +1,95 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * The per-compilation context handed to {@link ValidationRule}s.
+ *
+ * @author Michael Pellaton
+ */
+public final class ValidationContext {
+
+  private final ProcessingEnvironment processingEnv;
+  private final SupertypeIndex supertypeIndex;
+  private final MetaAnnotationIndex annotationIndex;
+
+  private InterBeanCallFinder interBeanCallFinder;
+  private ReturnedTypeFinder returnedTypeFinder;
+  private InjectionPoints injectionPoints;
+
+
+  ValidationContext(ProcessingEnvironment processingEnv) {
+    this.processingEnv = processingEnv;
+    this.supertypeIndex = new SupertypeIndex(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+    this.annotationIndex = new MetaAnnotationIndex();
+  }
+
+
+  /**
+   * Gets the processing environment of the current compilation.
+   *
+   * @return the processing environment
+   */
+  public ProcessingEnvironment getProcessingEnvironment() {
+    return this.processingEnv;
+  }
+
+  /**
+   * Checks whether the erasure of the given type is assignable to the given marker type. The result is memoized per
+   * type for the whole compilation.
+   *
+   * @param type the type to check
+   * @param marker the marker type
+   * @return {@code true} if {@code type} is assignable to {@code marker}, {@code false} otherwise
+   */
+  public boolean isAssignable(TypeMirror type, MarkerType marker) {
+    return this.supertypeIndex.isAssignable(type, marker);
+  }
+
+  SupertypeIndex getSupertypeIndex() {
+    return this.supertypeIndex;
+  }
+
+  MetaAnnotationIndex getAnnotationIndex() {
+    return this.annotationIndex;
+  }
+
+  InterBeanCallFinder getInterBeanCallFinder() {
+    if (this.interBeanCallFinder == null) {
+      this.interBeanCallFinder = InterBeanCallFinder.create(this.processingEnv);
+    }
+    return this.interBeanCallFinder;
+  }
+
+  ReturnedTypeFinder getReturnedTypeFinder() {
+    if (this.returnedTypeFinder == null) {
+      this.returnedTypeFinder = ReturnedTypeFinder.create(this.processingEnv);
+    }
+    return this.returnedTypeFinder;
+  }
+
+  InjectionPoints getInjectionPoints() {
+    if (this.injectionPoints == null) {
+      this.injectionPoints = new InjectionPoints(this.processingEnv.getTypeUtils(), this.annotationIndex);
+    }
+    return this.injectionPoints;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The profiles selecting how much analysis the processor does, chosen with the {@code springconfigvalidation.profile}
+ * option. IDEs run annotation processors whenever a source is reconciled, so they should use {@link #FAST}, while the
+ * CI build can use {@link #FULL} with the same processor artifact.
+ *
+ * @author Michael Pellaton
+ */
+enum ValidationProfile {
+
+  /**
+   * Only the checks of the modifiers, constructors and annotations of an element, which take constant time per
+   * element. The checks resolving supertypes, inspecting method bodies or building the bean graph are disabled, even if
+   * their options are set.
+   */
+  FAST(EnumSet.of(SpringConfigurationMessage.STATIC_BEAN_METHOD, SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC,
+      SpringConfigurationMessage.LITE_MODE_INTER_BEAN_CALL, SpringConfigurationMessage.PROXY_BEAN_METHODS_NOT_NEEDED,
+      SpringConfigurationMessage.COMPONENT_SCAN_TOO_BROAD, SpringConfigurationMessage.BEAN_DEPENDENCY_CYCLE,
+      SpringConfigurationMessage.BEAN_METHOD_RETURN_TYPE_TOO_BROAD,
+      SpringConfigurationMessage.RAW_FACTORY_BEAN_RETURN_TYPE)),
+
+  /**
+   * All checks that are always enabled, and the analyses whose options are set. The default profile.
+   */
+  STANDARD(EnumSet.noneOf(SpringConfigurationMessage.class)),
+
+  /**
+   * All checks, including the {@code proxyBeanMethods} recommendation, the bean return types and the bean graph, which
+   * are enabled without their options being set.
+   */
+  FULL(EnumSet.noneOf(SpringConfigurationMessage.class));
+
+
+  private final Set<SpringConfigurationMessage> disabledMessages;
+
+
+  private ValidationProfile(Set<SpringConfigurationMessage> disabledMessages) {
+    this.disabledMessages = Collections.unmodifiableSet(disabledMessages);
+  }
+
+
+  /**
+   * Checks whether a message is reported in this profile unless its check option says otherwise.
+   *
+   * @param message the message
+   * @return {@code true} if the message is enabled by default, {@code false} otherwise
+   */
+  boolean isEnabledByDefault(SpringConfigurationMessage message) {
+    return !this.disabledMessages.contains(message);
+  }
+
+  /**
+   * Gets the profile for the value of the profile option.
+   *
+   * @param value the value of the option
+   * @return the profile or {@code null} if the value is unknown
+   */
+  static ValidationProfile forOptionValue(String value) {
+    for (ValidationProfile profile : values()) {
+      if (profile.name().toLowerCase(Locale.ENGLISH).equals(value)) {
+        return profile;
+      }
+    }
+    return null;
+  }
+}
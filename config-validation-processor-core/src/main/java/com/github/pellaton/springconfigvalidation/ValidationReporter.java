@@ -0,0 +1,69 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Receives the violations detected by {@link ValidationRule}s.
+ *
+ * @author Michael Pellaton
+ */
+public interface ValidationReporter {
+
+  /**
+   * Reports a built-in message on an element.
+   *
+   * @param message the message
+   * @param element the element the message refers to
+   */
+  void report(SpringConfigurationMessage message, Element element);
+
+  /**
+   * Reports a built-in message on an annotation of an element.
+   *
+   * @param message the message
+   * @param element the element the message refers to
+   * @param annotationMirror the annotation of {@code element} the message refers to
+   */
+  void report(SpringConfigurationMessage message, Element element, AnnotationMirror annotationMirror);
+
+  /**
+   * Reports a built-in message with placeholders on an element or one of its annotations.
+   *
+   * @param message the message
+   * @param element the element the message refers to
+   * @param annotationMirror the annotation of {@code element} the message refers to or {@code null}
+   * @param arguments the arguments replacing the placeholders of the message
+   * @see SpringConfigurationMessage#format(Object...)
+   */
+  void report(SpringConfigurationMessage message, Element element, AnnotationMirror annotationMirror,
+      Object... arguments);
+
+  /**
+   * Reports a message of a custom rule on an element.
+   *
+   * @param rule the name of the reporting rule
+   * @param kind the kind of the message
+   * @param message the message
+   * @param element the element the message refers to
+   */
+  void report(String rule, Kind kind, String message, Element element);
+}
@@ -0,0 +1,74 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Set;
+
+import javax.lang.model.element.ElementKind;
+
+/**
+ * A validation rule evaluated by the {@link SpringConfigurationValidationProcessor}. A rule declares the element kinds
+ * and annotation types it is interested in and is invoked once for every matching element with the {@link ElementFacts}
+ * computed for that element.
+ *
+ * <p>Besides the built-in rules, the processor loads additional rules with the {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/com.github.pellaton.springconfigvalidation.ValidationRule} on the processor path. This
+ * allows in-house checks to run in the same pass over the round as the built-in checks. Implementations must have a
+ * public no-argument constructor.
+ *
+ * @author Michael Pellaton
+ */
+public interface ValidationRule {
+
+  /**
+   * Gets the name of this rule, used e.g. in the processor statistics.
+   *
+   * @return the name of this rule
+   */
+  String getName();
+
+  /**
+   * Gets the kinds of elements this rule validates.
+   *
+   * @return the kinds of elements this rule validates
+   */
+  Set<ElementKind> getElementKinds();
+
+  /**
+   * Gets the qualified names of the annotation types this rule validates. An element is validated if it is annotated
+   * with at least one of these annotation types, either directly or through a meta-annotation.
+   *
+   * @return the qualified names of the annotation types this rule validates
+   */
+  Set<String> getAnnotationTypes();
+
+  /**
+   * Initializes this rule. Invoked once per compilation before any element is validated.
+   *
+   * @param context the validation context of the current compilation
+   */
+  void init(ValidationContext context);
+
+  /**
+   * Validates an element.
+   *
+   * @param facts the facts of the element to validate
+   * @param reporter the reporter to report violations to
+   */
+  void validate(ElementFacts facts, ValidationReporter reporter);
+}
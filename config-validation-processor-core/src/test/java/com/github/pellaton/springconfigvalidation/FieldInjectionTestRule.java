@@ -0,0 +1,64 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javax.lang.model.element.ElementKind;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Custom {@link ValidationRule} registered with the {@link java.util.ServiceLoader} in the custom rule test. Reports
+ * {@code @Autowired} fields in {@code @Configuration} classes.
+ */
+public class FieldInjectionTestRule implements ValidationRule {
+
+  static final String MESSAGE = "Field injection in @Configuration class.";
+
+  private boolean initialized;
+
+
+  @Override
+  public String getName() {
+    return "FIELD_INJECTION";
+  }
+
+  @Override
+  public Set<ElementKind> getElementKinds() {
+    return EnumSet.of(ElementKind.FIELD);
+  }
+
+  @Override
+  public Set<String> getAnnotationTypes() {
+    return Collections.singleton("org.springframework.beans.factory.annotation.Autowired");
+  }
+
+  @Override
+  public void init(ValidationContext context) {
+    this.initialized = context.getProcessingEnvironment() != null;
+  }
+
+  @Override
+  public void validate(ElementFacts facts, ValidationReporter reporter) {
+    if (this.initialized && facts.isEnclosedInConfigurationClass()) {
+      reporter.report(getName(), Kind.NOTE, MESSAGE, facts.getElement());
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.pellaton.springconfigvalidation.util.AnnotationProcessorTestCompiler;
+import com.github.pellaton.springconfigvalidation.util.CompilationResult;
+
+/**
+ * Regression gate for the cost of {@link SpringConfigurationValidationProcessor} as the compilation grows. Inputs of
+ * 1000, 10000 and 50000 {@code @Bean} methods, every tenth class of them nested several levels deep, are processed with
+ * the bean graph enabled. The time spent in {@code process()} and the bytes it allocates on the compiler thread are
+ * measured and compared to the budget in {@code scaling-budget.properties}:
+ * <ul>
+ * <li>the bytes allocated per {@code @Bean} method must not exceed {@code allocatedBytesPerBeanMethod} for any input,
+ * </li>
+ * <li>the bytes allocated per {@code @Bean} method of the largest input must not exceed those of the smallest input by
+ * more than the factor {@code maxAllocationGrowth} and</li>
+ * <li>the time per {@code @Bean} method of the largest input must not exceed that of the smallest input by more than
+ * the factor {@code maxTimeGrowth}.</li>
+ * </ul>
+ * Linear cost keeps the cost per {@code @Bean} method constant, so the growth factors detect superlinear cost. The time
+ * budget is generous because timing is noisy, the allocation budget is tight because allocation is deterministic.
+ *
+ * @author Michael Pellaton
+ */
+public class ProcessorScalingTest {
+
+  private static final String BUDGET = "/com/github/pellaton/springconfigvalidation/scaling-budget.properties";
+  private static final String PACKAGE_NAME = "ch.contrails.springconfigvalidation.scaling";
+  private static final int[] BEAN_METHOD_COUNTS = {1000, 10000, 50000};
+  private static final int BEAN_METHODS_PER_CLASS = 50;
+  private static final int NESTING_DEPTH = 5;
+
+  private static Properties budget;
+
+
+  /**
+   * Loads the budget and warms up the compiler and the processor, so the smallest input is not measured cold.
+   */
+  @BeforeClass
+  public static void setUp() throws IOException {
+    budget = new Properties();
+    InputStream inputStream = ProcessorScalingTest.class.getResourceAsStream(BUDGET);
+    try {
+      budget.load(inputStream);
+    } finally {
+      inputStream.close();
+    }
+    for (int i = 0; i < 3; i++) {
+      process(BEAN_METHOD_COUNTS[0]);
+    }
+  }
+
+
+  /**
+   * Tests that the time and the allocated bytes per {@code @Bean} method stay within the budget as the input grows.
+   */
+  @Test(timeout = 300000)
+  public void linearCost() throws IOException {
+    List<MeasuringProcessor> measurements = new ArrayList<MeasuringProcessor>();
+    for (int beanMethodCount : BEAN_METHOD_COUNTS) {
+      measurements.add(process(beanMethodCount));
+    }
+
+    MeasuringProcessor smallest = measurements.get(0);
+    MeasuringProcessor largest = measurements.get(measurements.size() - 1);
+    if (MeasuringProcessor.THREADS.isThreadAllocatedMemorySupported()) {
+      for (int i = 0; i < BEAN_METHOD_COUNTS.length; i++) {
+        assertThat("allocated bytes per @Bean method of " + BEAN_METHOD_COUNTS[i],
+            measurements.get(i).allocatedBytes / BEAN_METHOD_COUNTS[i],
+            lessThanOrEqualTo(Long.parseLong(budget.getProperty("allocatedBytesPerBeanMethod"))));
+      }
+      assertThat("allocation growth", getGrowth(smallest.allocatedBytes, largest.allocatedBytes),
+          lessThanOrEqualTo(Double.parseDouble(budget.getProperty("maxAllocationGrowth"))));
+    }
+    assertThat("time growth", getGrowth(smallest.nanos, largest.nanos),
+        lessThanOrEqualTo(Double.parseDouble(budget.getProperty("maxTimeGrowth"))));
+  }
+
+  private static double getGrowth(long smallestCost, long largestCost) {
+    double smallestCostPerBeanMethod = (double) smallestCost / BEAN_METHOD_COUNTS[0];
+    double largestCostPerBeanMethod = (double) largestCost / BEAN_METHOD_COUNTS[BEAN_METHOD_COUNTS.length - 1];
+    return largestCostPerBeanMethod / smallestCostPerBeanMethod;
+  }
+
+  private static MeasuringProcessor process(int beanMethodCount) throws IOException {
+    List<JavaFileObject> sources = new ArrayList<JavaFileObject>();
+    for (int i = 0; i * BEAN_METHODS_PER_CLASS < beanMethodCount; i++) {
+      sources.add(generateConfigurationClass(i));
+    }
+    MeasuringProcessor processor = new MeasuringProcessor();
+    CompilationResult result = AnnotationProcessorTestCompiler.compileSources(sources, processor,
+        Arrays.asList("-Aspringconfigvalidation.beanGraph=true"));
+    assertThat(result.getDiagnostics(), hasSize(0));
+    return processor;
+  }
+
+  private static JavaFileObject generateConfigurationClass(int index) {
+    int depth = index % 10 == 0 ? NESTING_DEPTH : 1;
+    int beanMethodsPerLevel = BEAN_METHODS_PER_CLASS / depth;
+    StringBuilder content = new StringBuilder("package ").append(PACKAGE_NAME).append(";\n\n")
+        .append("import org.springframework.context.annotation.Bean;\n")
+        .append("import org.springframework.context.annotation.Configuration;\n\n");
+    String indent = "";
+    int bean = index * BEAN_METHODS_PER_CLASS;
+    for (int level = 0; level < depth; level++) {
+      content.append(indent).append("@Configuration\n").append(indent)
+          .append(level == 0 ? "public class ScalingConfiguration" + index : "public static class Level" + level)
+          .append(" {\n");
+      indent += "  ";
+      for (int i = 0; i < beanMethodsPerLevel; i++, bean++) {
+        content.append(indent).append("@Bean\n").append(indent).append("public Type").append(bean).append(" bean")
+            .append(bean).append('(').append(bean > 0 ? "Type" + (bean - 1) + " previous" : "").append(") {\n")
+            .append(indent).append("  return new Type").append(bean).append("();\n").append(indent).append("}\n");
+      }
+    }
+    for (int level = 0; level < depth; level++) {
+      indent = indent.substring(2);
+      content.append(indent).append("}\n");
+    }
+    for (int i = index * BEAN_METHODS_PER_CLASS; i < bean; i++) {
+      content.append("\nclass Type").append(i).append(" {\n}\n");
+    }
+    return AnnotationProcessorTestCompiler.createSource(PACKAGE_NAME + ".ScalingConfiguration" + index,
+        content.toString());
+  }
+
+
+  /**
+   * Measures the time spent in {@code process()} and the bytes allocated by it on the compiler thread.
+   */
+  @SupportedAnnotationTypes("*")
+  @SupportedSourceVersion(SourceVersion.RELEASE_11)
+  private static final class MeasuringProcessor extends TestSpringConfigurationValidationProcessor {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private long nanos;
+    private long allocatedBytes;
+
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      long threadId = Thread.currentThread().getId();
+      long startBytes = THREADS.getThreadAllocatedBytes(threadId);
+      long start = System.nanoTime();
+      try {
+        return super.process(annotations, roundEnv);
+      } finally {
+        this.nanos += System.nanoTime() - start;
+        this.allocatedBytes += THREADS.getThreadAllocatedBytes(threadId) - startBytes;
+      }
+    }
+  }
+}
@@ -17,15 +17,50 @@
  */
 package com.github.pellaton.springconfigvalidation;
 
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
 import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
 import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.util.FileCopyUtils;
 
 import com.github.pellaton.springconfigvalidation.util.AnnotationProcessorTestCompiler;
+import com.github.pellaton.springconfigvalidation.util.CompilationResult;
 import com.github.pellaton.springconfigvalidation.util.DiagnosticsAssert;
 
 /**
@@ -37,6 +72,15 @@ import com.github.pellaton.springconfigvalidation.util.DiagnosticsAssert;
  */
 public class SpringConfigurationValidationProcessorTest {
 
+  /**
+   * Temporary folder for the output of the processor.
+   */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final String FIXTURE_PATH = "/com/github/pellaton/springconfigvalidation/";
+  private static final int STRESS_CLASS_COUNT = 2000;
+
   /**
    * Tests with a valid configuration class on which the processor should not emit any messages.
    */
@@ -129,6 +173,17 @@ public class SpringConfigurationValidationProcessorTest {
     compileAndAssert("BFPPBeanMethodTestConfiguration", SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC, 35);
   }
 
+  /**
+   * Tests the processor's detection of a non-{@code static} bean factory method returning a subtype of
+   * {@link org.springframework.beans.factory.config.BeanFactoryPostProcessor} that is also returned by a valid
+   * {@code static} bean factory method.
+   */
+  @Test
+  public void bfppSubtypeBeanMethods() throws IOException {
+    compileAndAssert("BFPPSubtypeBeanMethodTestConfiguration", SpringConfigurationMessage.BFPP_BEAN_METHOD_NOT_STATIC,
+        40);
+  }
+
   /**
    * Tests the processor's detection of a {@code static} bean factory method not returning a
    * {@link org.springframework.beans.factory.config.BeanFactoryPostProcessor}.
@@ -144,10 +199,699 @@ public class SpringConfigurationValidationProcessorTest {
         SpringConfigurationMessage.BEAN_METHOD_NOT_IN_CONFIGURATION, 32);
   }
 
+  /**
+   * Tests the processor's detection of a final configuration class that is only meta-annotated with
+   * {@code @Configuration}. Its {@code @Bean} method must not be reported as being outside of a configuration class.
+   */
+  @Test
+  public void metaAnnotatedConfigurationClass() throws IOException {
+    compileAndAssert("MetaAnnotatedConfigurationTestConfiguration", SpringConfigurationMessage.CLASS_FINAL, 36);
+  }
+
+  /**
+   * Tests the processor's detection of a final configuration class that is meta-annotated with {@code @Configuration}
+   * through an annotation of a cycle of meta-annotations whose closure was resolved from another annotation first.
+   */
+  @Test
+  public void cyclicMetaAnnotations() throws IOException {
+    compileAndAssert("CyclicMetaAnnotationTestConfiguration", SpringConfigurationMessage.CLASS_FINAL, 48);
+  }
+
+  /**
+   * Tests that custom validation rules registered with the {@link java.util.ServiceLoader} are evaluated. The rule is
+   * registered in a directory only the class loader of this test sees, so it is not evaluated by the other tests.
+   */
+  @Test
+  public void customRule() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "FieldInjectionTestConfiguration", new CustomRuleProcessor());
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.NOTE));
+    assertThat(diagnostics.get(0).getLineNumber(), is(34L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(FieldInjectionTestRule.MESSAGE));
+  }
+
+  /**
+   * Tests the statistics written if the {@code springconfigvalidation.stats} option is enabled.
+   */
+  @Test
+  public void statistics() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "ValidTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.stats=true", "-d", outputDirectory.getPath()));
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.NOTE));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()),
+        startsWith("Spring configuration validation: 1 rounds, 4 elements, 2 class checks, 2 bean method checks in "));
+
+    String statistics = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(outputDirectory, "META-INF/spring-config-validation-stats.json")), "UTF-8"));
+    assertThat(statistics, containsString("\"totals\": {\"rounds\": 1, \"elementsVisited\": 4, \"classChecks\": 2, "
+        + "\"beanMethodChecks\": 2, \"nanos\": "));
+    assertThat(statistics, containsString("\"STATIC_BEAN_METHOD\": {\"invocations\": 2, \"nanos\": "));
+  }
+
+  /**
+   * Tests the JSON Lines report written if the {@code springconfigvalidation.report} option is {@code jsonl}.
+   */
+  @Test
+  public void jsonLinesReport() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    AnnotationProcessorTestCompiler.compileClass(FIXTURE_PATH + "FinalBeanMethodTestConfiguration",
+        new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.report=jsonl", "-d", outputDirectory.getPath()));
+
+    String report = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(outputDirectory, "META-INF/spring-config-validation-report.jsonl")), "UTF-8"));
+    assertThat(report.split("\n"), arrayWithSize(1));
+    assertThat(report, startsWith("{\"id\": \"BEAN_METHOD_FINAL\", \"kind\": \"ERROR\", "
+        + "\"message\": \"Invalid factory method: @Bean methods must not be final.\", \"source\": \""));
+    assertThat(report, endsWith("FinalBeanMethodTestConfiguration.java\", \"line\": 33, \"column\": 16, "
+        + "\"element\": \"ch.contrails.springconfigvalidation.FinalBeanMethodTestConfiguration#someString()\"}\n"));
+  }
+
+  /**
+   * Tests the SARIF report written if the {@code springconfigvalidation.report} option is {@code sarif}.
+   */
+  @Test
+  public void sarifReport() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    AnnotationProcessorTestCompiler.compileClass(FIXTURE_PATH + "AutowiredConstructorConfiguration",
+        new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.report=sarif", "-d", outputDirectory.getPath()));
+
+    String report = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(outputDirectory, "META-INF/spring-config-validation-report.sarif")), "UTF-8"));
+    assertThat(report, containsString("\"version\": \"2.1.0\""));
+    assertThat(report, containsString("{\"id\": \"AUTOWIRED_CONSTRUCTOR\", \"shortDescription\": "));
+    assertThat(report, containsString("{\"ruleId\": \"AUTOWIRED_CONSTRUCTOR\", \"level\": \"error\", "));
+    assertThat(report, containsString("AutowiredConstructorConfiguration.java\"}, "
+        + "\"region\": {\"startLine\": 32, \"startColumn\": 3}}, \"logicalLocations\": [{\"fullyQualifiedName\": "
+        + "\"ch.contrails.springconfigvalidation.AutowiredConstructorConfiguration#<init>(java.lang.String)\"}]}]}"));
+    assertThat(report, endsWith("\n    ]\n  }]\n}\n"));
+  }
+
+  /**
+   * Tests the index written if the {@code springconfigvalidation.index} option is enabled.
+   */
+  @Test
+  public void configurationIndex() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    AnnotationProcessorTestCompiler.compileClasses(Arrays.asList(FIXTURE_PATH + "ValidTestConfiguration",
+        FIXTURE_PATH + "BFPPBeanMethodTestConfiguration", FIXTURE_PATH + "ProfileTestConfiguration"),
+        new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.index=true", "-d", outputDirectory.getPath()));
+
+    String index = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(outputDirectory, "META-INF/spring-config-validation.idx")), "UTF-8"));
+    assertThat(index, is("# Spring configuration validation index, version 2\n"
+        + "ch.contrails.springconfigvalidation.BFPPBeanMethodTestConfiguration\n"
+        + "\tpropertyPlaceholder\torg.springframework.beans.factory.config.BeanFactoryPostProcessor\tbfpp\n"
+        + "ch.contrails.springconfigvalidation.ProfileTestConfiguration\tcloud,!local\t"
+        + "ch.contrails.springconfigvalidation.ProfileTestConfiguration$OnDatabaseCondition\n"
+        + "\tgreeting\tjava.lang.String\t\n"
+        + "ch.contrails.springconfigvalidation.ValidTestConfiguration\n"
+        + "\tsomeString\tjava.lang.String\t\n"
+        + "ch.contrails.springconfigvalidation.ValidTestConfiguration$NestedClass\n"
+        + "\tpropertyPlaceholder\torg.springframework.beans.factory.config.BeanFactoryPostProcessor\tstatic,bfpp\n"));
+  }
+
+  /**
+   * Tests Spring's candidate components index written if the {@code springconfigvalidation.componentsIndex} option is
+   * enabled.
+   */
+  @Test
+  public void componentsIndex() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    AnnotationProcessorTestCompiler.compileClasses(Arrays.asList(FIXTURE_PATH + "ComponentsIndexTestConfiguration"),
+        new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.componentsIndex=true", "-d", outputDirectory.getPath()));
+
+    String index = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(outputDirectory, "META-INF/spring.components")), "ISO-8859-1"));
+    assertThat(index, is("ch.contrails.springconfigvalidation.ComponentsIndexTestConfiguration="
+        + "org.springframework.stereotype.Component\n"
+        + "ch.contrails.springconfigvalidation.ComponentsIndexTestConfiguration$GreetingRepository="
+        + "ch.contrails.springconfigvalidation.ComponentsIndexTestConfiguration$Repository\n"
+        + "ch.contrails.springconfigvalidation.ComponentsIndexTestConfiguration$GreetingService="
+        + "org.springframework.stereotype.Component\n"
+        + "ch.contrails.springconfigvalidation.ComponentsIndexTestConfiguration$Repository="
+        + "ch.contrails.springconfigvalidation.ComponentsIndexTestConfiguration$Repository\n"));
+  }
+
+  /**
+   * Tests the reflection and proxy hints written to the directory of the module if the
+   * {@code springconfigvalidation.nativeImage} option names its {@code <groupId>/<artifactId>}.
+   */
+  @Test
+  public void nativeImageHints() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    AnnotationProcessorTestCompiler.compileClasses(Arrays.asList(FIXTURE_PATH + "NativeImageTestConfiguration"),
+        new TestSpringConfigurationValidationProcessor(), Arrays.asList(
+            "-Aspringconfigvalidation.nativeImage=ch.contrails/native-image-test", "-d", outputDirectory.getPath()));
+
+    File hintsDirectory = new File(outputDirectory, "META-INF/native-image/ch.contrails/native-image-test");
+    String reflectConfig = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(hintsDirectory, "reflect-config.json")), "UTF-8"));
+    String proxyConfig = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(hintsDirectory, "proxy-config.json")), "UTF-8"));
+    assertThat(reflectConfig, is("[\n"
+        + "  {\"name\": \"ch.contrails.springconfigvalidation.NativeImageTestConfiguration\", "
+        + "\"queryAllDeclaredMethods\": true, \"fields\": [{\"name\": \"environment\"}], \"methods\": [\n"
+        + "    {\"name\": \"<init>\", \"parameterTypes\": [\"java.util.concurrent.Executor\"]},\n"
+        + "    {\"name\": \"service\", \"parameterTypes\": [\"java.util.List\"]},\n"
+        + "    {\"name\": \"task\", \"parameterTypes\": []}\n"
+        + "  ]},\n"
+        + "  {\"name\": \"ch.contrails.springconfigvalidation.NativeImageTestConfiguration$Service\", \"methods\": [\n"
+        + "    {\"name\": \"close\", \"parameterTypes\": []},\n"
+        + "    {\"name\": \"start\", \"parameterTypes\": []}\n"
+        + "  ]},\n"
+        + "  {\"name\": \"java.lang.Runnable\"}\n"
+        + "]\n"));
+    assertThat(proxyConfig, is("[\n"
+        + "  [\"java.util.concurrent.Executor\", \"org.springframework.aop.SpringProxy\", "
+        + "\"org.springframework.aop.framework.Advised\", \"org.springframework.core.DecoratingProxy\"]\n"
+        + "]\n"));
+  }
+
+  /**
+   * Tests that the native-image hints are written to the shared directory if the
+   * {@code springconfigvalidation.nativeImage} option is {@code true} and not at all with a warning if the option is
+   * not a {@code <groupId>/<artifactId>}.
+   */
+  @Test
+  public void nativeImageHintsDirectory() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    AnnotationProcessorTestCompiler.compileClass(FIXTURE_PATH + "NativeImageTestConfiguration",
+        new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.nativeImage=true", "-d", outputDirectory.getPath()));
+    assertThat(new File(outputDirectory, "META-INF/native-image/spring-config-validation/reflect-config.json").isFile(),
+        is(true));
+
+    outputDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "NativeImageTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.nativeImage=../hints", "-d", outputDirectory.getPath()));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.WARNING));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()),
+        is("Invalid native-image option '../hints', expected '<groupId>/<artifactId>' or 'true'"));
+    assertThat(new File(outputDirectory, "META-INF/native-image").exists(), is(false));
+  }
+
+  /**
+   * Tests the bean definitions generated if the {@code springconfigvalidation.aot} option is enabled. Classes with a
+   * component scan or errors are left to the {@code ConfigurationClassPostProcessor}. The generated sources are
+   * compiled together with the configuration class and run against a bean factory.
+   */
+  @Test
+  public void generatedBeanDefinitions() throws Exception {
+    File sourceOutputDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClasses(
+        Arrays.asList(FIXTURE_PATH + "BeanDefinitionsTestConfiguration",
+            FIXTURE_PATH + "ComponentScanTestConfiguration"), new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.aot=true", "-s", sourceOutputDirectory.getPath()));
+    AnnotationProcessorTestCompiler.compileClasses(Arrays.asList(FIXTURE_PATH + "FinalClassTestConfiguration"),
+        new TestSpringConfigurationValidationProcessor(), Arrays.asList("-Aspringconfigvalidation.aot=true",
+            "-s", sourceOutputDirectory.getPath()));
+
+    assertThat(diagnostics, hasSize(0));
+    File generatedPackage = new File(sourceOutputDirectory, "ch/contrails/springconfigvalidation");
+    assertThat(generatedPackage.list(), arrayContainingInAnyOrder(
+        "BeanDefinitionsTestConfiguration__BeanDefinitions.java",
+        "BeanDefinitionsTestConfiguration$NestedConfiguration__BeanDefinitions.java"));
+
+    File outputDirectory = this.temporaryFolder.newFolder();
+    int result = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none",
+        "-classpath", System.getProperty("java.class.path"), "-d", outputDirectory.getPath(),
+        new File(getClass().getResource(FIXTURE_PATH + "BeanDefinitionsTestConfiguration.java").toURI()).getPath(),
+        new File(generatedPackage, "BeanDefinitionsTestConfiguration__BeanDefinitions.java").getPath(),
+        new File(generatedPackage, "BeanDefinitionsTestConfiguration$NestedConfiguration__BeanDefinitions.java")
+            .getPath());
+    assertThat(result, is(0));
+
+    DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+    registry.registerBeanDefinition("configuration",
+        new RootBeanDefinition("ch.contrails.springconfigvalidation.BeanDefinitionsTestConfiguration"));
+    URLClassLoader classLoader = new URLClassLoader(new URL[] {outputDirectory.toURI().toURL()},
+        getClass().getClassLoader());
+    try {
+      Object memberClasses = classLoader
+          .loadClass("ch.contrails.springconfigvalidation.BeanDefinitionsTestConfiguration__BeanDefinitions")
+          .getMethod("registerBeanDefinitions", BeanDefinitionRegistry.class, String.class)
+          .invoke(null, registry, "configuration");
+      assertThat((String[]) memberClasses, is(new String[] {
+          "ch.contrails.springconfigvalidation.BeanDefinitionsTestConfiguration$NestedConfiguration"}));
+    } finally {
+      classLoader.close();
+    }
+
+    assertThat(registry.getBeanDefinition("configuration").getAttribute(
+        "org.springframework.context.annotation.ConfigurationClassPostProcessor.configurationClass"),
+        is((Object) "full"));
+    RootBeanDefinition greeting = (RootBeanDefinition) registry.getBeanDefinition("greeting");
+    assertThat(greeting.getFactoryBeanName(), is("configuration"));
+    assertThat(greeting.getFactoryMethodName(), is("greeting"));
+    assertThat(greeting.getTargetType(), is((Object) String.class));
+    assertThat(greeting.isPrimary(), is(true));
+    assertThat(greeting.getDestroyMethodName(), is("(inferred)"));
+    assertThat(registry.getAliases("greeting"), is(new String[] {"salutation"}));
+    BeanDefinition service = registry.getBeanDefinition("service");
+    assertThat(service.isLazyInit(), is(true));
+    assertThat(service.getDependsOn(), is(new String[] {"greeting"}));
+    assertThat(service.getInitMethodName(), is("start"));
+    assertThat(service.getDestroyMethodName(), is(""));
+    BeanDefinition placeholderConfigurer = registry.getBeanDefinition("placeholderConfigurer");
+    assertThat(placeholderConfigurer.getBeanClassName(),
+        is("ch.contrails.springconfigvalidation.BeanDefinitionsTestConfiguration"));
+    assertThat(placeholderConfigurer.getFactoryBeanName(), is((String) null));
+    assertThat(placeholderConfigurer.getFactoryMethodName(), is("placeholderConfigurer"));
+  }
+
+  /**
+   * Tests the warnings about {@code @Bean} return types if the {@code springconfigvalidation.beanReturnTypes} option
+   * is enabled. Methods returning anonymous classes, literals or the results of method calls are not reported.
+   */
+  @Test
+  public void beanReturnTypes() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanReturnTypeTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.beanReturnTypes=true"));
+
+    assertThat(diagnostics, hasSize(3));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.WARNING));
+    assertThat(diagnostics.get(0).getLineNumber(), is(36L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .BEAN_METHOD_RETURN_TYPE_TOO_BROAD.format("java.lang.Object",
+            "ch.contrails.springconfigvalidation.BeanReturnTypeTestConfiguration.Service")));
+    assertThat(diagnostics.get(1).getLineNumber(), is(41L));
+    assertThat(diagnostics.get(1).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .BEAN_METHOD_RETURN_TYPE_TOO_BROAD.format("java.util.List", "java.util.ArrayList")));
+    assertThat(diagnostics.get(2).getLineNumber(), is(69L));
+    assertThat(diagnostics.get(2).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .RAW_FACTORY_BEAN_RETURN_TYPE.format("org.springframework.beans.factory.FactoryBean")));
+
+    compileAndAssertNoMessage(FIXTURE_PATH + "BeanReturnTypeTestConfiguration");
+  }
+
+  /**
+   * Tests the processor's detection of malformed {@code @Profile} expressions on classes and {@code @Bean} methods.
+   */
+  @Test
+  public void malformedProfileExpression() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "MalformedProfileTestConfiguration", new TestSpringConfigurationValidationProcessor());
+
+    assertThat(diagnostics, hasSize(2));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.ERROR));
+    assertThat(diagnostics.get(0).getLineNumber(), is(30L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .MALFORMED_PROFILE_EXPRESSION.format("dev & cloud | local", "& and | must not be mixed without parentheses")));
+    assertThat(diagnostics.get(1).getLineNumber(), is(34L));
+    assertThat(diagnostics.get(1).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .MALFORMED_PROFILE_EXPRESSION.format(" ", "the expression must contain text")));
+  }
+
+  /**
+   * Tests that exactly the profile expressions Spring rejects are reported as malformed. {@code Profiles.of} is a
+   * static interface method, so it is invoked reflectively.
+   */
+  @Test
+  public void profileExpressionsMatchSpring() throws Exception {
+    Method profilesOf = Class.forName("org.springframework.core.env.Profiles").getMethod("of", String[].class);
+    for (String expression : Arrays.asList("dev", "!dev", "dev & cloud", "dev | cloud | local", "dev & cloud | local",
+        "(dev & cloud) | local", "!(dev | cloud) & local", "dev &", "& dev", "()", "!", "dev & (", "dev)", "(dev",
+        "!!dev", "dev & !", "dev & (cloud | local) | test", "dev cloud", "")) {
+      boolean acceptedBySpring;
+      try {
+        profilesOf.invoke(null, (Object) new String[] {expression});
+        acceptedBySpring = true;
+      } catch (InvocationTargetException e) {
+        acceptedBySpring = !(e.getCause() instanceof IllegalArgumentException);
+      }
+      assertThat(expression, ProfileExpressionRule.checkExpression(expression) == null, is(acceptedBySpring));
+    }
+  }
+
+  /**
+   * Tests the processor's detection of a {@code @Bean} method calling another {@code @Bean} method in lite mode.
+   */
+  @Test
+  public void liteModeInterBeanCall() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "LiteModeInterBeanCallTestConfiguration", new TestSpringConfigurationValidationProcessor());
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.ERROR));
+    assertThat(diagnostics.get(0).getLineNumber(), is(38L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .LITE_MODE_INTER_BEAN_CALL.format("greeting", Long.valueOf(39), Long.valueOf(30))));
+  }
+
+  /**
+   * Tests that the {@code @Bean} methods of {@code @Component} classes are not reported as being outside of a
+   * configuration class, but their inter-bean calls are. The nested component injects the bean instead.
+   */
+  @Test
+  public void liteModeComponent() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "LiteModeComponentTestConfiguration", new TestSpringConfigurationValidationProcessor());
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.ERROR));
+    assertThat(diagnostics.get(0).getLineNumber(), is(38L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .LITE_MODE_INTER_BEAN_CALL.format("greeting", Long.valueOf(39), Long.valueOf(30))));
+  }
+
+  /**
+   * Tests the recommendation of {@code proxyBeanMethods = false} if the {@code springconfigvalidation.proxyBeanMethods}
+   * option is enabled. Only the outer class is reported: the call of the static method with the same name but a
+   * different number of arguments is no call of a bean method.
+   */
+  @Test
+  public void proxyBeanMethodsNotNeeded() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "ProxyBeanMethodsTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.proxyBeanMethods=true"));
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.NOTE));
+    assertThat(diagnostics.get(0).getLineNumber(), is(29L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()),
+        is(SpringConfigurationMessage.PROXY_BEAN_METHODS_NOT_NEEDED.format(Integer.valueOf(2))));
+  }
+
+  /**
+   * Tests that the {@code fast} profile skips the checks that resolve the supertypes of the bean types and does not
+   * build the bean graph, even if the {@code springconfigvalidation.beanGraph} option is set.
+   */
+  @Test
+  public void fastProfile() throws IOException {
+    DiagnosticsAssert.assertNoCompilerMessage(AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "StaticBeanMethodTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.profile=fast")));
+
+    File outputDirectory = this.temporaryFolder.newFolder();
+    DiagnosticsAssert.assertNoCompilerMessage(AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanCycleTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.profile=fast", "-Aspringconfigvalidation.beanGraph=dot", "-d",
+            outputDirectory.getPath())));
+    assertThat(new File(outputDirectory, "META-INF/spring-config-validation-beans.dot").exists(), is(false));
+  }
+
+  /**
+   * Tests that the {@code full} profile recommends {@code proxyBeanMethods = false} without the option being set.
+   */
+  @Test
+  public void fullProfile() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "ProxyBeanMethodsTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.profile=full"));
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()),
+        is(SpringConfigurationMessage.PROXY_BEAN_METHODS_NOT_NEEDED.format(Integer.valueOf(2))));
+  }
+
+  /**
+   * Tests the check options, which change the severity of a message or disable its check, overriding the profile.
+   */
+  @Test
+  public void checkOptions() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "FinalClassTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.check.CLASS_FINAL=warning"));
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.WARNING));
+    assertThat(diagnostics.get(0).getLineNumber(), is(29L));
+
+    DiagnosticsAssert.assertNoCompilerMessage(AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "FinalClassTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.check.CLASS_FINAL=off")));
+
+    compileAndAssert("StaticBeanMethodTestConfiguration", SpringConfigurationMessage.STATIC_BEAN_METHOD, 33,
+        Arrays.asList("-Aspringconfigvalidation.profile=fast",
+            "-Aspringconfigvalidation.check.STATIC_BEAN_METHOD=warning"));
+  }
+
+  /**
+   * Tests the warning about a component scan whose hit ratio is below the threshold given with the
+   * {@code springconfigvalidation.componentScanHitRatio} option.
+   */
+  @Test
+  public void componentScanTooBroad() throws IOException {
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "ComponentScanTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.componentScanHitRatio=0.5"));
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.WARNING));
+    assertThat(diagnostics.get(0).getLineNumber(), is(31L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .COMPONENT_SCAN_TOO_BROAD.format(Collections.singleton("ch.contrails.springconfigvalidation"),
+            Integer.valueOf(4), Integer.valueOf(1), Double.valueOf(25), Double.valueOf(50))));
+
+    DiagnosticsAssert.assertNoCompilerMessage(AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "ComponentScanTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.componentScanHitRatio=0.25")));
+  }
+
+  /**
+   * Tests the detection of bean dependency cycles and the graph written if the {@code springconfigvalidation.beanGraph}
+   * option is {@code dot}.
+   */
+  @Test
+  public void beanDependencyCycle() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanCycleTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.beanGraph=dot", "-d", outputDirectory.getPath()));
+
+    String service = "ch.contrails.springconfigvalidation.BeanCycleTestConfiguration#service("
+        + "ch.contrails.springconfigvalidation.BeanCycleTestConfiguration.Repository)";
+    String repository = "ch.contrails.springconfigvalidation.BeanCycleTestConfiguration.RepositoryConfiguration"
+        + "#repository(ch.contrails.springconfigvalidation.BeanCycleTestConfiguration.Service)";
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.ERROR));
+    assertThat(diagnostics.get(0).getLineNumber(), is(36L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .BEAN_DEPENDENCY_CYCLE.format(service + " -> " + repository + " -> " + service)));
+
+    String graph = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(outputDirectory, "META-INF/spring-config-validation-beans.dot")), "UTF-8"));
+    assertThat(graph, startsWith("digraph beans {\n"));
+    assertThat(graph, containsString("  \"" + service + "\" [shape=ellipse, color=red];\n"));
+    assertThat(graph, containsString("  \"" + repository + "\" -> \"" + service + "\";\n"));
+    assertThat(graph, containsString("  \"ch.contrails.springconfigvalidation.BeanCycleTestConfiguration\" "
+        + "[shape=box];\n"));
+  }
+
+  /**
+   * Tests that the bean metadata written with the {@code metadata} option is read by a downstream compilation, whose
+   * bean graph then contains the cycle through the beans of both modules.
+   */
+  @Test
+  public void crossModuleBeanDependencyCycle() throws IOException {
+    File upstreamDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanMetadataProducerTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.metadata=true", "-d", upstreamDirectory.getPath()));
+    assertThat(diagnostics, hasSize(0));
+
+    String producer = "ch.contrails.springconfigvalidation.BeanMetadataProducerTestConfiguration";
+    String timer = producer + "#timer(java.util.Random)";
+    BeanMetadata metadata = BeanMetadata.map(new File(upstreamDirectory, BeanMetadata.RESOURCE));
+    assertThat(metadata.getClassCount(), is(2));
+    BeanMetadata.ClassMetadata producerClass = metadata.findClass(producer);
+    assertThat(producerClass.isConfiguration(), is(true));
+    assertThat(producerClass.getImports(), is(Arrays.asList(producer + ".ImportedConfiguration")));
+    assertThat(producerClass.getBeanMethods(), hasSize(1));
+    BeanMetadata.BeanMethodMetadata timerMethod = producerClass.getBeanMethods().get(0);
+    assertThat(timerMethod.getName(), is(timer));
+    assertThat(timerMethod.getType(), is("java.util.Timer"));
+    assertThat(timerMethod.getDependencies(), is(Arrays.asList("java.util.Random")));
+
+    File downstreamDirectory = this.temporaryFolder.newFolder();
+    diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanMetadataConsumerTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.beanGraph=dot", "-Aspringconfigvalidation.metadataPath="
+            + upstreamDirectory.getPath(), "-d", downstreamDirectory.getPath()));
+
+    String random = "ch.contrails.springconfigvalidation.BeanMetadataConsumerTestConfiguration#random(java.util.Timer)";
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.ERROR));
+    assertThat(diagnostics.get(0).getLineNumber(), is(35L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is(SpringConfigurationMessage
+        .BEAN_DEPENDENCY_CYCLE.format(random + " -> " + timer + " -> " + random)));
+
+    String graph = FileCopyUtils.copyToString(new InputStreamReader(new FileInputStream(
+        new File(downstreamDirectory, BeanDependencyGraph.DOT_RESOURCE)), "UTF-8"));
+    assertThat(graph, containsString("  \"" + timer + "\" [shape=ellipse, style=dashed, color=red];\n"));
+  }
+
+  /**
+   * Tests that injection points declared with a wildcard or a type variable depend on the beans of their upper bounds
+   * in the bean graph of the {@code full} profile and in the bean metadata.
+   */
+  @Test
+  public void boundedInjectionPoints() throws IOException {
+    File outputDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BoundedInjectionPointTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.profile=full", "-Aspringconfigvalidation.metadata=true", "-d",
+            outputDirectory.getPath()));
+    assertThat(diagnostics, hasSize(0));
+
+    String configuration = "ch.contrails.springconfigvalidation.BoundedInjectionPointTestConfiguration";
+    BeanMetadata.ClassMetadata metadata = BeanMetadata.map(new File(outputDirectory, BeanMetadata.RESOURCE))
+        .findClass(configuration);
+    assertThat(metadata.getDependencies(), is(Arrays.asList("java.lang.Runnable")));
+    assertThat(metadata.getBeanMethods().get(0).getName(), is(configuration + "#name(T)"));
+    assertThat(metadata.getBeanMethods().get(0).getDependencies(), is(Arrays.asList("java.lang.Runnable")));
+    assertThat(metadata.getBeanMethods().get(1).getDependencies(), is(Arrays.asList("java.lang.Runnable")));
+  }
+
+  /**
+   * Tests that truncated bean metadata of an upstream module is skipped with a warning instead of failing the
+   * compilation.
+   */
+  @Test
+  public void truncatedBeanMetadata() throws IOException {
+    File upstreamDirectory = this.temporaryFolder.newFolder();
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanMetadataProducerTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.metadata=true", "-d", upstreamDirectory.getPath()));
+    assertThat(diagnostics, hasSize(0));
+
+    File metadataFile = new File(upstreamDirectory, BeanMetadata.RESOURCE);
+    RandomAccessFile metadata = new RandomAccessFile(metadataFile, "rw");
+    try {
+      metadata.setLength(metadata.length() - 3);
+    } finally {
+      metadata.close();
+    }
+
+    diagnostics = AnnotationProcessorTestCompiler.compileClass(
+        FIXTURE_PATH + "BeanMetadataConsumerTestConfiguration", new TestSpringConfigurationValidationProcessor(),
+        Arrays.asList("-Aspringconfigvalidation.beanGraph=true", "-Aspringconfigvalidation.metadataPath="
+            + upstreamDirectory.getPath(), "-d", this.temporaryFolder.newFolder().getPath()));
+
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.WARNING));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()), is("Could not read bean metadata "
+        + metadataFile.getPath() + ": " + metadataFile.getPath() + " is truncated"));
+  }
+
+  /**
+   * Tests that the messages emitted for a class do not depend on the other classes being compiled, which is what
+   * Gradle expects from an isolating incremental annotation processor.
+   */
+  @Test
+  public void isolatingProcessing() throws IOException {
+    List<String> classesToCompile = new ArrayList<String>();
+    List<String> separateMessages = new ArrayList<String>();
+    for (String configurationClass : Arrays.asList("FinalClassTestConfiguration", "BFPPBeanMethodTestConfiguration",
+        "StaticBeanMethodTestConfiguration", "BeanMethodNotInConfigurationTestConfiguration",
+        "ValidTestConfiguration")) {
+      String classToCompile = FIXTURE_PATH + configurationClass;
+      classesToCompile.add(classToCompile);
+      separateMessages.addAll(describe(AnnotationProcessorTestCompiler.compileClass(classToCompile,
+          new TestSpringConfigurationValidationProcessor())));
+    }
+
+    List<String> combinedMessages = describe(AnnotationProcessorTestCompiler.compileClasses(classesToCompile,
+        new TestSpringConfigurationValidationProcessor(), Collections.<String>emptyList()));
+
+    assertThat(combinedMessages, containsInAnyOrder(separateMessages.toArray()));
+  }
+
+  /**
+   * Tests a batch of thousands of generated configuration classes of which every hundredth is final, attributing the
+   * messages to the classes they were reported in.
+   */
+  @Test(timeout = 60000)
+  public void manyConfigurationClasses() throws IOException {
+    List<JavaFileObject> sources = generateConfigurationClasses(STRESS_CLASS_COUNT, false);
+    CompilationResult result = AnnotationProcessorTestCompiler.compileSources(sources,
+        new TestSpringConfigurationValidationProcessor(), Collections.<String>emptyList());
+
+    assertThat(result.getDiagnosticsWithoutSource(), hasSize(0));
+    for (int i = 0; i < STRESS_CLASS_COUNT; i++) {
+      List<Diagnostic<? extends JavaFileObject>> diagnostics = result.getDiagnostics(sources.get(i));
+      if (i % 100 == 0) {
+        DiagnosticsAssert.assertContainsSingleMessage(SpringConfigurationMessage.CLASS_FINAL, 7, diagnostics);
+      } else {
+        DiagnosticsAssert.assertNoCompilerMessage(diagnostics);
+      }
+    }
+  }
+
+  /**
+   * Tests the bean graph of thousands of generated configuration classes whose beans form a single cycle, which is
+   * reported once on the bean whose name sorts first.
+   */
+  @Test(timeout = 60000)
+  public void longBeanDependencyCycle() throws IOException {
+    List<JavaFileObject> sources = generateConfigurationClasses(STRESS_CLASS_COUNT, true);
+    CompilationResult result = AnnotationProcessorTestCompiler.compileSources(sources,
+        new TestSpringConfigurationValidationProcessor(), Arrays.asList("-Aspringconfigvalidation.beanGraph=true"));
+
+    assertThat(result.getDiagnostics(), hasSize(1));
+    List<Diagnostic<? extends JavaFileObject>> diagnostics = result.getDiagnostics(sources.get(0));
+    assertThat(diagnostics, hasSize(1));
+    assertThat(diagnostics.get(0).getKind(), is(Kind.ERROR));
+    assertThat(diagnostics.get(0).getLineNumber(), is(10L));
+    assertThat(diagnostics.get(0).getMessage(Locale.getDefault()).split(" -> "),
+        arrayWithSize(STRESS_CLASS_COUNT + 1));
+  }
+
+  private static List<JavaFileObject> generateConfigurationClasses(int count, boolean cycle) {
+    String packageName = "ch.contrails.springconfigvalidation.generated";
+    List<JavaFileObject> sources = new ArrayList<JavaFileObject>(count);
+    for (int i = 0; i < count; i++) {
+      String previous = i > 0 ? "GeneratedConfiguration" + (i - 1) + ".Bean" + (i - 1)
+          : cycle ? "GeneratedConfiguration" + (count - 1) + ".Bean" + (count - 1) : "String";
+      String content = "package " + packageName + ";\n"
+          + "\n"
+          + "import org.springframework.context.annotation.Bean;\n"
+          + "import org.springframework.context.annotation.Configuration;\n"
+          + "\n"
+          + "@Configuration\n"
+          + "public " + (!cycle && i % 100 == 0 ? "final " : "") + "class GeneratedConfiguration" + i + " {\n"
+          + "\n"
+          + "  @Bean\n"
+          + "  public Bean" + i + " bean" + i + "(" + previous + " previous) {\n"
+          + "    return new Bean" + i + "();\n"
+          + "  }\n"
+          + "\n"
+          + "  public static class Bean" + i + " {\n"
+          + "  }\n"
+          + "}\n";
+      sources.add(AnnotationProcessorTestCompiler.createSource(packageName + ".GeneratedConfiguration" + i, content));
+    }
+    return sources;
+  }
+
+  private static List<String> describe(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    List<String> descriptions = new ArrayList<String>(diagnostics.size());
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+      descriptions.add(diagnostic.getSource().getName() + ":" + diagnostic.getLineNumber() + ":"
+          + diagnostic.getKind() + ":" + diagnostic.getMessage(Locale.getDefault()));
+    }
+    return descriptions;
+  }
+
   private void compileAndAssert(String configurationClass, SpringConfigurationMessage expectedMessage,
       long expectedLineNumber) throws IOException {
+    compileAndAssert(configurationClass, expectedMessage, expectedLineNumber, Collections.<String>emptyList());
+  }
+
+  private void compileAndAssert(String configurationClass, SpringConfigurationMessage expectedMessage,
+      long expectedLineNumber, List<String> options) throws IOException {
     List<Diagnostic<? extends JavaFileObject>> diagnostics = AnnotationProcessorTestCompiler.compileClass(
-        "/com/github/pellaton/springconfigvalidation/" + configurationClass, new TestSpringConfigurationValidationProcessor());
+        FIXTURE_PATH + configurationClass, new TestSpringConfigurationValidationProcessor(), options);
     DiagnosticsAssert.assertContainsSingleMessage(expectedMessage, expectedLineNumber, diagnostics);
   }
 
@@ -157,4 +901,18 @@ public class SpringConfigurationValidationProcessorTest {
             new TestSpringConfigurationValidationProcessor());
     DiagnosticsAssert.assertNoCompilerMessage(diagnostics);
   }
+
+
+  /**
+   * Test processor loading the custom rules registered in the {@code custom-rules} directory of the test resources.
+   */
+  @SupportedAnnotationTypes("*")
+  @SupportedSourceVersion(SourceVersion.RELEASE_11)
+  private static final class CustomRuleProcessor extends TestSpringConfigurationValidationProcessor {
+
+    @Override
+    ClassLoader getRuleClassLoader() {
+      return new URLClassLoader(new URL[] {getClass().getResource("/custom-rules/")}, getClass().getClassLoader());
+    }
+  }
 }
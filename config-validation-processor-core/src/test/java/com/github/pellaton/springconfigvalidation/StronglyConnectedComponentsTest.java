@@ -0,0 +1,83 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link StronglyConnectedComponents}.
+ *
+ * @author Michael Pellaton
+ */
+public class StronglyConnectedComponentsTest {
+
+  private static final int NODE_COUNT = 10000;
+
+
+  /**
+   * Tests that every node of a graph without edges is a component of its own.
+   */
+  @Test
+  public void noEdges() {
+    assertThat(StronglyConnectedComponents.find(new int[][] {{}, {}, {}}), hasSize(3));
+  }
+
+  /**
+   * Tests a chain of 10000 nodes whose last node depends on the first, which must neither overflow the stack nor take
+   * more than linear time.
+   */
+  @Test
+  public void longCycle() {
+    int[][] edges = new int[NODE_COUNT][];
+    for (int i = 0; i < NODE_COUNT; i++) {
+      edges[i] = new int[] {(i + 1) % NODE_COUNT};
+    }
+
+    List<int[]> components = StronglyConnectedComponents.find(edges);
+
+    assertThat(components, hasSize(1));
+    assertThat(components.get(0).length, is(NODE_COUNT));
+  }
+
+  /**
+   * Tests a long chain without a cycle and a separate cycle of two nodes.
+   */
+  @Test
+  public void chainAndCycle() {
+    int[][] edges = new int[NODE_COUNT + 2][];
+    for (int i = 0; i < NODE_COUNT; i++) {
+      edges[i] = i + 1 < NODE_COUNT ? new int[] {i + 1} : new int[0];
+    }
+    edges[NODE_COUNT] = new int[] {NODE_COUNT + 1, 0};
+    edges[NODE_COUNT + 1] = new int[] {NODE_COUNT};
+
+    List<int[]> components = StronglyConnectedComponents.find(edges);
+
+    assertThat(components, hasSize(NODE_COUNT + 1));
+    int[] cycle = components.get(components.size() - 1);
+    assertThat(cycle.length, is(2));
+    assertThat(cycle[0], is(NODE_COUNT));
+    assertThat(cycle[1], is(NODE_COUNT + 1));
+  }
+}
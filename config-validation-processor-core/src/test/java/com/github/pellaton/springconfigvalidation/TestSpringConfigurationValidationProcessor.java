@@ -24,7 +24,7 @@ import javax.lang.model.SourceVersion;
 /**
  * Test variant of {@link SpringConfigurationValidationProcessor}.
  */
-@SupportedAnnotationTypes({"org.springframework.context.annotation.Configuration", "org.springframework.context.annotation.Bean"})
+@SupportedAnnotationTypes("*")
 @SupportedSourceVersion(SourceVersion.RELEASE_11)
 public class TestSpringConfigurationValidationProcessor extends SpringConfigurationValidationProcessor {
 
@@ -18,10 +18,15 @@
 package com.github.pellaton.springconfigvalidation.util;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.annotation.processing.Processor;
 import javax.tools.Diagnostic;
@@ -29,21 +34,32 @@ import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
 import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
 import javax.tools.ToolProvider;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.FileCopyUtils;
 
 /**
  * Utility class that compiles a Java class using the {@link Compiler} and an annotation {@link Processor}. This class
  * is intended to be used for tests of annotation processors.
  *
+ * <p>The sources are compiled from memory: the fixtures are read from the class path once and cached, and generated
+ * sources are created with {@link #createSource(String, String)}. All compilations share one compiler and one file
+ * manager, which keeps the class path jars open, so many compilations or one compilation of thousands of classes take
+ * seconds only. The compilations are therefore serialized.
+ *
  * @author Michael Pellaton
  */
 public final class AnnotationProcessorTestCompiler {
 
   private static final JavaCompiler COMPILER = ToolProvider.getSystemJavaCompiler();
-  private static final Iterable<String> COMPILER_OPTIONS = Collections.singletonList("-proc:only");
+  private static final StandardJavaFileManager FILE_MANAGER =
+      COMPILER.getStandardFileManager(null, Locale.getDefault(), null);
+  private static final Map<String, JavaFileObject> FIXTURES = new HashMap<String, JavaFileObject>();
+  private static final String PROC_ONLY_OPTION = "-proc:only";
 
 
   /**
@@ -66,32 +82,111 @@ public final class AnnotationProcessorTestCompiler {
   public static List<Diagnostic<? extends JavaFileObject>> compileClass(String classToCompile, Processor processor)
       throws IOException {
 
-    DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<JavaFileObject>();
+    return compileClasses(Collections.singletonList(classToCompile), processor, Collections.<String>emptyList());
+  }
 
-    StandardJavaFileManager fileManager = null;
-    try {
-      fileManager = getFileManager(collector);
-      Iterable<? extends JavaFileObject> compilationUnits = getCompilationUnitOfClass(fileManager, classToCompile);
+  /**
+   * Processes the java class specified using additional compiler options, e.g. processor options or an output
+   * directory for the resources written by the processor.
+   *
+   * @param classToCompile the Java class to compile
+   * @param processor the annotation {@link Processor} to use during compilation
+   * @param options additional compiler options
+   * @return a list of {@link Diagnostic} messages emitted during the compilation
+   */
+  public static List<Diagnostic<? extends JavaFileObject>> compileClass(String classToCompile, Processor processor,
+      List<String> options) throws IOException {
 
-      CompilationTask task = COMPILER.getTask(null, fileManager, collector, COMPILER_OPTIONS, null, compilationUnits);
-      task.setProcessors(Arrays.asList(processor));
-      task.call();
+    return compileClasses(Collections.singletonList(classToCompile), processor, options);
+  }
 
-      return collector.getDiagnostics();
-    } finally {
-      if (fileManager != null) {
-        fileManager.close();
-      }
+  /**
+   * Processes the java classes specified in a single compilation task. This implementation only parses and processes
+   * the java classes and does not fully compile them.
+   *
+   * @param classesToCompile the Java classes to compile
+   * @param processor the annotation {@link Processor} to use during compilation
+   * @param options additional compiler options
+   * @return a list of {@link Diagnostic} messages emitted during the compilation
+   */
+  public static List<Diagnostic<? extends JavaFileObject>> compileClasses(List<String> classesToCompile,
+      Processor processor, List<String> options) throws IOException {
+
+    List<JavaFileObject> sources = new ArrayList<JavaFileObject>(classesToCompile.size());
+    for (String classToCompile : classesToCompile) {
+      sources.add(getFixture(classToCompile));
     }
+    return compileSources(sources, processor, options).getDiagnostics();
+  }
+
+  /**
+   * Processes the given sources in a single compilation task and attributes the diagnostics to the sources they were
+   * reported in. This implementation only parses and processes the sources and does not fully compile them.
+   *
+   * @param sources the sources to compile, e.g. created with {@link #createSource(String, String)}
+   * @param processor the annotation {@link Processor} to use during compilation
+   * @param options additional compiler options
+   * @return the diagnostics of the compilation
+   */
+  public static synchronized CompilationResult compileSources(List<? extends JavaFileObject> sources,
+      Processor processor, List<String> options) throws IOException {
+
+    DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<JavaFileObject>();
+    List<String> compilerOptions = new ArrayList<String>(options);
+    compilerOptions.add(PROC_ONLY_OPTION);
+
+    // output directories passed with -d or -s are set on the shared file manager, so they are reset for every
+    // compilation
+    FILE_MANAGER.setLocation(StandardLocation.CLASS_OUTPUT, null);
+    FILE_MANAGER.setLocation(StandardLocation.SOURCE_OUTPUT, null);
+    CompilationTask task = COMPILER.getTask(null, FILE_MANAGER, collector, compilerOptions, null, sources);
+    task.setProcessors(Arrays.asList(processor));
+    task.call();
+    FILE_MANAGER.flush();
+
+    return new CompilationResult(sources, collector.getDiagnostics());
   }
 
-  private static StandardJavaFileManager getFileManager(DiagnosticCollector<JavaFileObject> diagnosticCollector) {
-    return COMPILER.getStandardFileManager(diagnosticCollector, Locale.getDefault(), null);
+  /**
+   * Creates an in-memory source.
+   *
+   * @param className the qualified name of the top level class of the source
+   * @param content the content of the source
+   * @return the source
+   */
+  public static JavaFileObject createSource(String className, String content) {
+    return new InMemorySource(URI.create("string:///" + className.replace('.', '/') + ".java"), content);
+  }
+
+  private static synchronized JavaFileObject getFixture(String classToCompile) throws IOException {
+    JavaFileObject fixture = FIXTURES.get(classToCompile);
+    if (fixture == null) {
+      String content = FileCopyUtils.copyToString(new InputStreamReader(
+          new ClassPathResource(classToCompile + ".java").getInputStream(), "UTF-8"));
+      fixture = new InMemorySource(URI.create("string://" + classToCompile + ".java"), content);
+      FIXTURES.put(classToCompile, fixture);
+    }
+    return fixture;
   }
 
-  private static Iterable<? extends JavaFileObject> getCompilationUnitOfClass(StandardJavaFileManager fileManager,
-      String classToCompile) throws IOException {
-    ClassPathResource resource = new ClassPathResource(classToCompile + ".java");
-    return fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(resource.getFile()));
+
+  /**
+   * A source held in memory.
+   */
+  private static final class InMemorySource extends SimpleJavaFileObject {
+
+    private final String content;
+
+
+    InMemorySource(URI uri, String content) {
+      super(uri, Kind.SOURCE);
+      this.content = content;
+    }
+
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return this.content;
+    }
   }
 }
@@ -0,0 +1,97 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * The diagnostics of a compilation of several sources, attributed to the sources they were reported in.
+ *
+ * @author Michael Pellaton
+ *
+ * @see AnnotationProcessorTestCompiler#compileSources(List, javax.annotation.processing.Processor, List)
+ */
+public final class CompilationResult {
+
+  private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+  private final Map<JavaFileObject, List<Diagnostic<? extends JavaFileObject>>> diagnosticsBySource;
+  private final List<Diagnostic<? extends JavaFileObject>> diagnosticsWithoutSource;
+
+
+  /**
+   * Constructor.
+   *
+   * @param sources the compiled sources
+   * @param diagnostics the diagnostics of the compilation
+   */
+  CompilationResult(List<? extends JavaFileObject> sources, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    this.diagnostics = Collections.unmodifiableList(diagnostics);
+    this.diagnosticsBySource = new IdentityHashMap<JavaFileObject, List<Diagnostic<? extends JavaFileObject>>>();
+    for (JavaFileObject source : sources) {
+      this.diagnosticsBySource.put(source, new ArrayList<Diagnostic<? extends JavaFileObject>>());
+    }
+    this.diagnosticsWithoutSource = new ArrayList<Diagnostic<? extends JavaFileObject>>();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+      List<Diagnostic<? extends JavaFileObject>> sourceDiagnostics = diagnostic.getSource() == null ? null
+          : this.diagnosticsBySource.get(diagnostic.getSource());
+      (sourceDiagnostics == null ? this.diagnosticsWithoutSource : sourceDiagnostics).add(diagnostic);
+    }
+  }
+
+
+  /**
+   * Gets all diagnostics of the compilation in the order they were reported.
+   *
+   * @return the diagnostics
+   */
+  public List<Diagnostic<? extends JavaFileObject>> getDiagnostics() {
+    return this.diagnostics;
+  }
+
+  /**
+   * Gets the diagnostics reported in a source.
+   *
+   * @param source one of the compiled sources
+   * @return the diagnostics reported in the source
+   * @throws IllegalArgumentException if the source was not compiled
+   */
+  public List<Diagnostic<? extends JavaFileObject>> getDiagnostics(JavaFileObject source) {
+    List<Diagnostic<? extends JavaFileObject>> sourceDiagnostics = this.diagnosticsBySource.get(source);
+    if (sourceDiagnostics == null) {
+      throw new IllegalArgumentException(source.getName() + " was not compiled");
+    }
+    return Collections.unmodifiableList(sourceDiagnostics);
+  }
+
+  /**
+   * Gets the diagnostics that are not attributed to any of the compiled sources, e.g. the notes and warnings of the
+   * processor about the whole compilation.
+   *
+   * @return the diagnostics without source
+   */
+  public List<Diagnostic<? extends JavaFileObject>> getDiagnosticsWithoutSource() {
+    return Collections.unmodifiableList(this.diagnosticsWithoutSource);
+  }
+}
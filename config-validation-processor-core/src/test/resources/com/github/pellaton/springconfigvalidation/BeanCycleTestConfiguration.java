@@ -0,0 +1,79 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Test {@code @Configuration} classes whose beans depend on each other in a cycle. The beans of the nested
+ * {@code LazyConfiguration} depend on each other only through lazy injection points.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class BeanCycleTestConfiguration {
+
+  @Bean
+  public Service service(Repository repository) {
+    return new Service();
+  }
+
+
+  @Configuration
+  static class RepositoryConfiguration {
+
+    @Bean
+    public Repository repository(Service service) {
+      return new Repository();
+    }
+  }
+
+  @Configuration
+  static class LazyConfiguration {
+
+    @Autowired
+    void setClient(@Lazy Client client) {
+    }
+
+    @Bean
+    public Cache cache(ObjectProvider<Client> client) {
+      return new Cache();
+    }
+
+    @Bean
+    public Client client(Cache cache) {
+      return new Client();
+    }
+  }
+
+  static class Service {
+  }
+
+  static class Repository {
+  }
+
+  static class Cache {
+  }
+
+  static class Client {
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+
+/**
+ * Configuration class whose bean definitions are generated with the {@code springconfigvalidation.aot} option.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class BeanDefinitionsTestConfiguration {
+
+  @Bean(name = {"greeting", "salutation"})
+  @Primary
+  public String greeting() {
+    return "HELLO JUNIT";
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "")
+  @Lazy
+  @DependsOn("greeting")
+  public Service service() {
+    return new Service();
+  }
+
+  @Bean
+  public static PropertySourcesPlaceholderConfigurer placeholderConfigurer() {
+    return new PropertySourcesPlaceholderConfigurer();
+  }
+
+
+  /**
+   * Bean class with an init method.
+   */
+  public static class Service {
+
+    /**
+     * Init method.
+     */
+    public void start() {
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class NestedConfiguration {
+
+    @Bean
+    public Integer answer() {
+      return Integer.valueOf(42);
+    }
+  }
+}
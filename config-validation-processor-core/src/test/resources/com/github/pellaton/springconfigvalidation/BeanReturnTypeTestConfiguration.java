@@ -0,0 +1,111 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class with {@code @Bean} return types that keep Spring from predicting the bean types.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class BeanReturnTypeTestConfiguration {
+
+  @Bean
+  public Object service() {
+    return new Service();
+  }
+
+  @Bean
+  public List<String> names() {
+    if (Boolean.getBoolean("names")) {
+      return new ArrayList<String>(8);
+    }
+    return (new ArrayList<String>());
+  }
+
+  @Bean
+  public Service exactService() {
+    return new Service();
+  }
+
+  @Bean
+  public Runnable task() {
+    return new Runnable() {
+      @Override
+      public void run() {
+      }
+    };
+  }
+
+  @Bean
+  public CharSequence text() {
+    return "HELLO JUNIT";
+  }
+
+  @Bean
+  @SuppressWarnings("rawtypes")
+  public FactoryBean rawFactoryBean() {
+    return createFactoryBean();
+  }
+
+  @Bean
+  public FactoryBean<Service> factoryBean() {
+    return createFactoryBean();
+  }
+
+  @Bean
+  public Object localService() {
+    class Service {
+    }
+    return new Service();
+  }
+
+  private static ServiceFactoryBean createFactoryBean() {
+    return new ServiceFactoryBean();
+  }
+
+
+  /**
+   * Bean class.
+   */
+  public static class Service {
+  }
+
+  /**
+   * Factory bean creating the bean class.
+   */
+  public static class ServiceFactoryBean implements FactoryBean<Service> {
+
+    @Override
+    public Service getObject() {
+      return new Service();
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+      return Service.class;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class whose injection points are declared with a wildcard and a type variable, which depend on the
+ * beans of their bounds.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration(proxyBeanMethods = false)
+public class BoundedInjectionPointTestConfiguration {
+
+  @Autowired
+  void setTasks(List<? extends Runnable> tasks, List<?> anything) {
+  }
+
+  @Bean
+  public <T extends Runnable> String name(T task) {
+    return "name";
+  }
+
+  @Bean
+  public Integer count(Runnable[] tasks, List<? super Runnable> consumers) {
+    return Integer.valueOf(tasks.length);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test {@code @Configuration} class scanning its own package, which contains four types of which only the
+ * configuration class itself is a component.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+@ComponentScan
+public class ComponentScanTestConfiguration {
+
+  static class ScannedHelper {
+  }
+
+  interface ScannedInterface {
+  }
+
+  enum ScannedEnum {
+    VALUE
+  }
+}
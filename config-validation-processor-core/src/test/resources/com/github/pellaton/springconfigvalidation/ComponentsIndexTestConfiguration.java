@@ -0,0 +1,63 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Indexed;
+import org.springframework.stereotype.Service;
+
+/**
+ * Test {@code @Configuration} class with nested candidate components for Spring's candidate components index.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration(proxyBeanMethods = false)
+public class ComponentsIndexTestConfiguration {
+
+
+  /**
+   * Service found by the default filters of the scans.
+   */
+  @Service
+  static class GreetingService {
+  }
+
+
+  /**
+   * Type whose subtypes are found by the scans for assignable types.
+   */
+  @Indexed
+  interface Repository {
+  }
+
+
+  /**
+   * Implementation of an indexed type.
+   */
+  static class GreetingRepository implements Repository {
+  }
+
+
+  /**
+   * Inner class that the scans leave out.
+   */
+  @Component
+  class InnerComponent {
+  }
+}
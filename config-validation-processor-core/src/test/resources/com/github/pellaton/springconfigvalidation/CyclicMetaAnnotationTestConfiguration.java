@@ -0,0 +1,73 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class annotated with one of three cyclic meta-annotations, which also carries {@code @Configuration}
+ * after the annotation closing the cycle. The closures of the other two annotations must not be cached before the
+ * walk of this one is complete.
+ *
+ * @author Michael Pellaton
+ */
+@CycleB
+public class CyclicMetaAnnotationTestConfiguration {
+
+  @Bean
+  public String greeting() {
+    return "HELLO JUNIT";
+  }
+}
+
+/**
+ * Invalid {@code final} configuration class that is only meta-annotated with {@code @Configuration} through the cycle.
+ */
+@CycleA
+final class FinalCyclicMetaAnnotationTestConfiguration {
+
+  @Bean
+  public String farewell() {
+    return "GOODBYE JUNIT";
+  }
+}
+
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@CycleB
+@interface CycleA {
+}
+
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@CycleC
+@Configuration
+@interface CycleB {
+}
+
+@Target(ElementType.ANNOTATION_TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@CycleA
+@interface CycleC {
+}
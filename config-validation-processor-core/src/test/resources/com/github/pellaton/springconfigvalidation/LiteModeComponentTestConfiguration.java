@@ -0,0 +1,56 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Test {@code @Component} class with {@code @Bean} methods, which Spring processes in lite mode, with a {@code @Bean}
+ * method calling another {@code @Bean} method. The nested component does not call its bean methods.
+ *
+ * @author Michael Pellaton
+ */
+@Component
+public class LiteModeComponentTestConfiguration {
+
+  @Bean
+  public String greeting() {
+    return "HELLO JUNIT";
+  }
+
+  @Bean
+  public StringBuilder greetingBuilder() {
+    return new StringBuilder(greeting());
+  }
+
+
+  @Component
+  static class InjectingComponent {
+
+    @Bean
+    public String farewell() {
+      return "GOODBYE JUNIT";
+    }
+
+    @Bean
+    public StringBuilder farewellBuilder(String farewell) {
+      return new StringBuilder(farewell);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test {@code @Configuration} class in lite mode with a {@code @Bean} method calling another {@code @Bean} method.
+ * The nested class proxies its bean methods, so its inter-bean call is valid.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration(proxyBeanMethods = false)
+public class LiteModeInterBeanCallTestConfiguration {
+
+  @Bean
+  public String greeting() {
+    return "HELLO JUNIT";
+  }
+
+  @Bean
+  public StringBuilder greetingBuilder() {
+    return new StringBuilder(greeting());
+  }
+
+  @Bean
+  public StringBuilder injectedGreetingBuilder(String greeting) {
+    return new StringBuilder(greeting);
+  }
+
+
+  @Configuration
+  static class ProxiedConfiguration {
+
+    @Bean
+    public String greeting() {
+      return "HELLO JUNIT";
+    }
+
+    @Bean
+    public StringBuilder greetingBuilder() {
+      return new StringBuilder(greeting());
+    }
+  }
+}
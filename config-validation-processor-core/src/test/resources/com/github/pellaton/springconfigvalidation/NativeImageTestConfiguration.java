@@ -0,0 +1,77 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration class whose native-image hints are written with the {@code springconfigvalidation.nativeImage}
+ * option.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class NativeImageTestConfiguration {
+
+  @Autowired
+  private Environment environment;
+
+  private final Executor executor;
+
+
+  public NativeImageTestConfiguration(@Lazy Executor executor) {
+    this.executor = executor;
+  }
+
+
+  @Bean(initMethod = "start")
+  public Service service(List<String> names) {
+    return new Service();
+  }
+
+  @Bean
+  public Runnable task() {
+    return new Thread(this.executor.toString());
+  }
+
+
+  /**
+   * Bean class with an init method and an inferred destroy method.
+   */
+  public static class Service {
+
+    /**
+     * Init method.
+     */
+    public void start() {
+    }
+
+    /**
+     * Destroy method.
+     */
+    public void close() {
+    }
+  }
+}
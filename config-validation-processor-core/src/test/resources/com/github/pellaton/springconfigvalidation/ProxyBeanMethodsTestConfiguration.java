@@ -0,0 +1,106 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test {@code @Configuration} class none of whose {@code @Bean} methods is called within the class, so it does not
+ * need to proxy its bean methods. Its nested classes call bean methods, also default or varargs ones, or opt out.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class ProxyBeanMethodsTestConfiguration {
+
+  @Bean
+  public String greeting() {
+    return "HELLO JUNIT";
+  }
+
+  @Bean
+  public StringBuilder greetingBuilder(String greeting) {
+    return new StringBuilder(greeting);
+  }
+
+  static String helper() {
+    return greeting(1);
+  }
+
+  static String greeting(int count) {
+    return "HELLO";
+  }
+
+
+  @Configuration
+  static class InterBeanCallConfiguration {
+
+    @Bean
+    public String greeting() {
+      return "HELLO JUNIT";
+    }
+
+    @Bean
+    public StringBuilder greetingBuilder() {
+      return new StringBuilder(this.greeting());
+    }
+  }
+
+  @Configuration
+  static class DefaultBeanMethodConfiguration implements GreetingBeans {
+
+    @Bean
+    public String greeting() {
+      return "HELLO JUNIT";
+    }
+  }
+
+  interface GreetingBeans {
+
+    String greeting();
+
+    @Bean
+    default StringBuilder greetingBuilder() {
+      return new StringBuilder(greeting());
+    }
+  }
+
+  @Configuration
+  static class VarargsConfiguration {
+
+    @Bean
+    public String greeting(String... names) {
+      return "HELLO " + names.length;
+    }
+
+    @Bean
+    public StringBuilder greetingBuilder() {
+      return new StringBuilder(greeting("JUNIT", "MAVEN"));
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class LiteConfiguration {
+
+    @Bean
+    public String greeting() {
+      return "HELLO JUNIT";
+    }
+  }
+}
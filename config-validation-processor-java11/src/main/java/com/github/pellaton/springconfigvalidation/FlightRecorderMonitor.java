@@ -0,0 +1,82 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import javax.lang.model.element.Element;
+
+import jdk.jfr.EventType;
+
+/**
+ * {@link ProcessingMonitor} emitting the rounds and rule invocations as JDK Flight Recorder events. While no recording
+ * enables an event type, no event is allocated.
+ *
+ * @author Michael Pellaton
+ *
+ * @see RoundEvent
+ * @see RuleInvocationEvent
+ */
+class FlightRecorderMonitor extends ProcessingMonitor {
+
+  private static final EventType ROUND = EventType.getEventType(RoundEvent.class);
+  private static final EventType RULE_INVOCATION = EventType.getEventType(RuleInvocationEvent.class);
+
+
+  @Override
+  Object roundStarted(int round) {
+    if (!ROUND.isEnabled()) {
+      return null;
+    }
+    RoundEvent event = new RoundEvent();
+    event.round = round;
+    event.begin();
+    return event;
+  }
+
+  @Override
+  void roundFinished(Object observation, int elements, int classChecks, int beanMethodChecks) {
+    RoundEvent event = (RoundEvent) observation;
+    event.end();
+    if (event.shouldCommit()) {
+      event.elements = elements;
+      event.classChecks = classChecks;
+      event.beanMethodChecks = beanMethodChecks;
+      event.commit();
+    }
+  }
+
+  @Override
+  Object ruleStarted(ValidationRule rule) {
+    if (!RULE_INVOCATION.isEnabled()) {
+      return null;
+    }
+    RuleInvocationEvent event = new RuleInvocationEvent();
+    event.rule = rule.getName();
+    event.begin();
+    return event;
+  }
+
+  @Override
+  void ruleFinished(Object observation, Element element) {
+    RuleInvocationEvent event = (RuleInvocationEvent) observation;
+    event.end();
+    if (event.shouldCommit()) {
+      event.element = DiagnosticsReport.getSignature(element);
+      event.commit();
+    }
+  }
+}
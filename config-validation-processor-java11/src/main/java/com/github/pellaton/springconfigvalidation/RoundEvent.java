@@ -0,0 +1,53 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a processor round.
+ *
+ * @author Michael Pellaton
+ */
+@Name("com.github.pellaton.springconfigvalidation.Round")
+@Label("Processor Round")
+@Description("A round of the Spring configuration validation processor")
+@Category("Spring Configuration Validation")
+@StackTrace(false)
+class RoundEvent extends Event {
+
+  @Label("Round")
+  int round;
+
+  @Label("Elements")
+  @Description("The number of elements validated in the round")
+  int elements;
+
+  @Label("Class Checks")
+  @Description("The number of classes checked in the round")
+  int classChecks;
+
+  @Label("Bean Method Checks")
+  @Description("The number of @Bean methods checked in the round")
+  int beanMethodChecks;
+}
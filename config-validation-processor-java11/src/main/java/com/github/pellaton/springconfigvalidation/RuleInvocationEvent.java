@@ -0,0 +1,47 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event of a rule validating an element. Only invocations exceeding the threshold, by default one
+ * millisecond, are recorded.
+ *
+ * @author Michael Pellaton
+ */
+@Name("com.github.pellaton.springconfigvalidation.RuleInvocation")
+@Label("Rule Invocation")
+@Description("A validation rule validating an element")
+@Category("Spring Configuration Validation")
+@Threshold("1 ms")
+@StackTrace(false)
+class RuleInvocationEvent extends Event {
+
+  @Label("Rule")
+  String rule;
+
+  @Label("Element")
+  String element;
+}
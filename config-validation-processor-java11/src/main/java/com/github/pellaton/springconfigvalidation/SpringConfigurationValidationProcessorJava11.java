@@ -22,14 +22,19 @@ import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 
 /**
- * {@link SpringConfigurationValidationProcessor} for Java 11 runtimes.
+ * {@link SpringConfigurationValidationProcessor} for Java 11 runtimes. The processor emits its rounds and slow rule
+ * invocations as JDK Flight Recorder events.
  *
  * @author Michael Pellaton
  *
  * @see SpringConfigurationValidationProcessor
  */
-@SupportedAnnotationTypes({"org.springframework.context.annotation.Configuration", "org.springframework.context.annotation.Bean"})
+@SupportedAnnotationTypes("*")
 @SupportedSourceVersion(SourceVersion.RELEASE_11)
 public class SpringConfigurationValidationProcessorJava11 extends SpringConfigurationValidationProcessor {
 
+  @Override
+  ProcessingMonitor createMonitor() {
+    return new FlightRecorderMonitor();
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link FlightRecorderMonitor} and the {@link RoundEvent} and {@link RuleInvocationEvent} it emits.
+ *
+ * @author Michael Pellaton
+ *
+ * @see FlightRecorderMonitor
+ */
+public class FlightRecorderMonitorTest {
+
+  /**
+   * Temporary folder for the compiled classes and the recordings.
+   */
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final String FIXTURE_PATH = "/com/github/pellaton/springconfigvalidation/";
+  private static final String CONFIGURATION = "ch.contrails.springconfigvalidation.FlightRecorderTestConfiguration";
+  private static final String ROUND = "com.github.pellaton.springconfigvalidation.Round";
+  private static final String RULE_INVOCATION = "com.github.pellaton.springconfigvalidation.RuleInvocation";
+
+  /**
+   * Tests that every round is recorded with the number of validated elements and checks, and that every rule
+   * invocation is recorded with the rule and the element if the threshold is disabled.
+   */
+  @Test
+  public void recordedEvents() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(RoundEvent.class);
+      recording.enable(RuleInvocationEvent.class).withThreshold(Duration.ZERO);
+      events = record(recording);
+    }
+
+    List<RecordedEvent> rounds = filter(events, ROUND);
+    assertThat(rounds.stream().map(event -> event.getInt("round")).collect(Collectors.toList()),
+        is(Arrays.asList(1, 2)));
+    assertThat(rounds.get(0).getInt("elements"), is(3));
+    assertThat(rounds.get(0).getInt("classChecks"), is(1));
+    assertThat(rounds.get(0).getInt("beanMethodChecks"), is(2));
+    assertThat(rounds.get(1).getInt("elements"), is(0));
+
+    List<RecordedEvent> ruleInvocations = filter(events, RULE_INVOCATION);
+    assertThat(ruleInvocations, not(empty()));
+    assertThat(ruleInvocations.stream().map(event -> event.getString("rule")).collect(Collectors.toList()),
+        everyItem(not(nullValue())));
+    assertThat(ruleInvocations.stream().map(event -> event.getString("element")).collect(Collectors.toList()),
+        hasItem(CONFIGURATION + "#greeting()"));
+  }
+
+  /**
+   * Tests that rule invocations below the threshold, by default one millisecond, are not recorded.
+   */
+  @Test
+  public void ruleInvocationThreshold() throws Exception {
+    assertThat(EventType.getEventType(RuleInvocationEvent.class).getSettingDescriptors().stream()
+        .filter(setting -> "threshold".equals(setting.getName())).findFirst().get().getDefaultValue(), is("1 ms"));
+
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(RoundEvent.class);
+      recording.enable(RuleInvocationEvent.class).withThreshold(Duration.ofHours(1));
+      events = record(recording);
+    }
+
+    assertThat(filter(events, ROUND).size(), is(2));
+    assertThat(filter(events, RULE_INVOCATION), is(empty()));
+  }
+
+  /**
+   * Tests that the monitor creates no event while the event types are not enabled by a recording.
+   */
+  @Test
+  public void disabledEvents() throws Exception {
+    FlightRecorderMonitor monitor = new FlightRecorderMonitor();
+    assertThat(monitor.roundStarted(1), is(nullValue()));
+    assertThat(monitor.ruleStarted(BuiltInRule.values()[0]), is(nullValue()));
+
+    try (Recording recording = new Recording()) {
+      recording.enable(RoundEvent.class);
+      recording.disable(RuleInvocationEvent.class);
+      recording.start();
+      assertThat(monitor.roundStarted(1), is(not(nullValue())));
+      assertThat(monitor.ruleStarted(BuiltInRule.values()[0]), is(nullValue()));
+    }
+  }
+
+  // compiles the fixture while the recording is running and reads the events of the recording back
+  private List<RecordedEvent> record(Recording recording) throws IOException, URISyntaxException {
+    Path source = Paths.get(getClass().getResource(FIXTURE_PATH + "FlightRecorderTestConfiguration.java").toURI());
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+      Iterable<? extends JavaFileObject> sources = fileManager.getJavaFileObjects(source);
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, Arrays.asList("-classpath",
+          System.getProperty("java.class.path"), "-d", this.temporaryFolder.newFolder().getPath()), null, sources);
+      task.setProcessors(Arrays.asList(new SpringConfigurationValidationProcessorJava11()));
+      recording.start();
+      boolean compiled = task.call();
+      recording.stop();
+      assertThat(compiled, is(true));
+    }
+    Path file = this.temporaryFolder.newFile().toPath();
+    recording.dump(file);
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static List<RecordedEvent> filter(List<RecordedEvent> events, String eventType) {
+    return events.stream().filter(event -> eventType.equals(event.getEventType().getName()))
+        .collect(Collectors.toList());
+  }
+}
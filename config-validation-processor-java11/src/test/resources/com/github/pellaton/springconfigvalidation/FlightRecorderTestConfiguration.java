@@ -0,0 +1,40 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package ch.contrails.springconfigvalidation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * A valid {@code @Configuration} class whose validation is recorded with the JDK Flight Recorder.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class FlightRecorderTestConfiguration {
+
+  @Bean
+  public String greeting() {
+    return "Hello";
+  }
+
+  @Bean
+  public Integer answer() {
+    return Integer.valueOf(42);
+  }
+}
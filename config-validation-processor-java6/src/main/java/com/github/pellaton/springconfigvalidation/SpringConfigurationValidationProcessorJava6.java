@@ -29,8 +29,7 @@ import javax.lang.model.SourceVersion;
  *
  * @see SpringConfigurationValidationProcessor
  */
-@SupportedAnnotationTypes({
-  "org.springframework.context.annotation.Configuration", "org.springframework.context.annotation.Bean"})
+@SupportedAnnotationTypes("*")
 @SupportedSourceVersion(SourceVersion.RELEASE_6)
 public class SpringConfigurationValidationProcessorJava6 extends SpringConfigurationValidationProcessor {
 
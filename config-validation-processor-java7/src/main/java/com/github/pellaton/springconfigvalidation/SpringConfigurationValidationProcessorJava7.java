@@ -28,8 +28,7 @@ import javax.lang.model.SourceVersion;
  *
  * @see SpringConfigurationValidationProcessor
  */
-@SupportedAnnotationTypes({
-  "org.springframework.context.annotation.Configuration", "org.springframework.context.annotation.Bean"})
+@SupportedAnnotationTypes("*")
 @SupportedSourceVersion(SourceVersion.RELEASE_7)
 public class SpringConfigurationValidationProcessorJava7 extends SpringConfigurationValidationProcessor {
 
@@ -0,0 +1,100 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import javax.tools.Diagnostic.Kind;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+
+/**
+ * A message reported by the validation processor for a module.
+ *
+ * @author Michael Pellaton
+ */
+public final class Finding {
+
+  private final Kind kind;
+  private final String message;
+  private final SpringConfigurationMessage springConfigurationMessage;
+  private final String source;
+  private final long line;
+
+
+  Finding(Kind kind, String message, SpringConfigurationMessage springConfigurationMessage, String source,
+      long line) {
+    this.kind = kind;
+    this.message = message;
+    this.springConfigurationMessage = springConfigurationMessage;
+    this.source = source;
+    this.line = line;
+  }
+
+
+  /**
+   * Gets the diagnostic kind of the message.
+   *
+   * @return the diagnostic kind
+   */
+  public Kind getKind() {
+    return this.kind;
+  }
+
+  /**
+   * Gets the message text.
+   *
+   * @return the message text
+   */
+  public String getMessage() {
+    return this.message;
+  }
+
+  /**
+   * Gets the built-in check that reported the message.
+   *
+   * @return the built-in message or {@code null} if the message was reported by a custom rule
+   */
+  public SpringConfigurationMessage getSpringConfigurationMessage() {
+    return this.springConfigurationMessage;
+  }
+
+  /**
+   * Gets the source file the message refers to.
+   *
+   * @return the path of the source file or {@code null} if the message has no position
+   */
+  public String getSource() {
+    return this.source;
+  }
+
+  /**
+   * Gets the line the message refers to.
+   *
+   * @return the line number or {@link javax.tools.Diagnostic#NOPOS}
+   */
+  public long getLine() {
+    return this.line;
+  }
+
+  /**
+   * Formats the finding like a compiler message: {@code <source>:<line>: <message>}.
+   */
+  @Override
+  public String toString() {
+    return this.source == null ? this.message : this.source + ":" + this.line + ": " + this.message;
+  }
+}
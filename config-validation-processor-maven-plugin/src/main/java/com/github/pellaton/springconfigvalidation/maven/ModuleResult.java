@@ -0,0 +1,81 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating a module with the {@link ReactorValidator}.
+ *
+ * @author Michael Pellaton
+ */
+public final class ModuleResult {
+
+  private final String name;
+  private final int sourceFileCount;
+  private final List<Finding> findings;
+  private final List<String> compilerErrors;
+
+
+  ModuleResult(String name, int sourceFileCount, List<Finding> findings, List<String> compilerErrors) {
+    this.name = name;
+    this.sourceFileCount = sourceFileCount;
+    this.findings = Collections.unmodifiableList(findings);
+    this.compilerErrors = Collections.unmodifiableList(compilerErrors);
+  }
+
+
+  /**
+   * Gets the name of the module.
+   *
+   * @return the name of the module
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the number of source files validated.
+   *
+   * @return the number of source files
+   */
+  public int getSourceFileCount() {
+    return this.sourceFileCount;
+  }
+
+  /**
+   * Gets the messages reported by the validation processor, in the order they were reported.
+   *
+   * @return the findings
+   */
+  public List<Finding> getFindings() {
+    return this.findings;
+  }
+
+  /**
+   * Gets the errors reported by the compiler itself, for example for types missing on the classpath. The processor
+   * does not validate a round in which the compiler reported errors, so a module with compiler errors has not been
+   * fully validated.
+   *
+   * @return the compiler errors
+   */
+  public List<String> getCompilerErrors() {
+    return this.compilerErrors;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The sources of a module to be validated by the {@link ReactorValidator}.
+ *
+ * @author Michael Pellaton
+ */
+public final class ModuleSources {
+
+  private final String name;
+  private final List<File> classpath;
+  private final List<File> sourceFiles;
+  private final Charset encoding;
+
+
+  /**
+   * Creates the sources of a module.
+   *
+   * @param name the name of the module used in the results
+   * @param classpath the compile classpath of the module, without the module's own output directory
+   * @param sourceFiles the Java source files of the module
+   * @param encoding the encoding of the source files
+   */
+  public ModuleSources(String name, List<File> classpath, List<File> sourceFiles, Charset encoding) {
+    this.name = name;
+    this.classpath = Collections.unmodifiableList(new ArrayList<>(classpath));
+    this.sourceFiles = Collections.unmodifiableList(new ArrayList<>(sourceFiles));
+    this.encoding = encoding;
+  }
+
+
+  /**
+   * Gets the name of the module.
+   *
+   * @return the name of the module
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the compile classpath of the module.
+   *
+   * @return the classpath entries
+   */
+  public List<File> getClasspath() {
+    return this.classpath;
+  }
+
+  /**
+   * Gets the Java source files of the module.
+   *
+   * @return the source files
+   */
+  public List<File> getSourceFiles() {
+    return this.sourceFiles;
+  }
+
+  /**
+   * Gets the encoding of the source files.
+   *
+   * @return the encoding
+   */
+  public Charset getEncoding() {
+    return this.encoding;
+  }
+}
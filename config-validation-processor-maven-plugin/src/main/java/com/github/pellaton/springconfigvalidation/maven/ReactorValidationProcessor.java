@@ -0,0 +1,105 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic.Kind;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+import com.github.pellaton.springconfigvalidation.SpringConfigurationValidationProcessor;
+
+/**
+ * {@link SpringConfigurationValidationProcessor} used by the {@link ValidateMojo}. The processor runs on the JDK Maven
+ * is running on, so it supports the latest source version of that JDK. It records the message of every violation it
+ * reports, in the order the diagnostics are printed, so the {@link ReactorValidator} can attribute the diagnostics to
+ * their messages.
+ *
+ * @author Michael Pellaton
+ *
+ * @see SpringConfigurationValidationProcessor
+ */
+@SupportedAnnotationTypes("*")
+public class ReactorValidationProcessor extends SpringConfigurationValidationProcessor {
+
+  private final List<ReportedMessage> reportedMessages = new ArrayList<>();
+
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  protected void messageReported(SpringConfigurationMessage message, Kind severity, String text, Element element) {
+    this.reportedMessages.add(new ReportedMessage(message, severity, text));
+  }
+
+  /**
+   * Gets the violations reported by the processor.
+   *
+   * @return the violations in the order their diagnostics were printed
+   */
+  List<ReportedMessage> getReportedMessages() {
+    return Collections.unmodifiableList(this.reportedMessages);
+  }
+
+
+  /**
+   * A violation reported by the processor.
+   */
+  static final class ReportedMessage {
+
+    private final SpringConfigurationMessage message;
+    private final Kind severity;
+    private final String text;
+
+
+    ReportedMessage(SpringConfigurationMessage message, Kind severity, String text) {
+      this.message = message;
+      this.severity = severity;
+      this.text = text;
+    }
+
+
+    /**
+     * Gets the built-in message of the violation.
+     *
+     * @return the message or {@code null} for a violation of a custom rule
+     */
+    SpringConfigurationMessage getMessage() {
+      return this.message;
+    }
+
+    /**
+     * Checks whether a diagnostic was printed for this violation.
+     *
+     * @param kind the kind of the diagnostic
+     * @param diagnosticText the text of the diagnostic
+     * @return {@code true} if the diagnostic has the severity and text of this violation
+     */
+    boolean matches(Kind kind, String diagnosticText) {
+      return this.severity == kind && this.text.equals(diagnosticText);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+
+/**
+ * Validates the sources of many modules in one JVM. Each module is compiled with {@code -proc:only} and a fresh
+ * {@link ReactorValidationProcessor}, but the {@link JavaCompiler} is shared and so is the file manager of all modules
+ * with the same classpath and encoding, so the jars of a classpath are opened and indexed only once.
+ *
+ * <p>The modules of a classpath group are validated one after the other because file managers are not thread-safe.
+ * The groups are validated concurrently on a work-stealing pool with a bounded number of threads.
+ *
+ * @author Michael Pellaton
+ */
+public class ReactorValidator {
+
+  private static final List<String> OPTIONS = Collections.unmodifiableList(Arrays.asList("-proc:only"));
+  private static final String PROCESSOR_MESSAGE_CODE = ".proc.messager";
+
+  private final JavaCompiler compiler;
+  private final int parallelism;
+
+
+  /**
+   * Creates a validator.
+   *
+   * @param compiler the compiler shared by all modules
+   * @param parallelism the maximum number of modules validated concurrently
+   */
+  public ReactorValidator(JavaCompiler compiler, int parallelism) {
+    this.compiler = compiler;
+    this.parallelism = parallelism;
+  }
+
+
+  /**
+   * Validates the given modules.
+   *
+   * @param modules the modules to validate
+   * @return the results in the order of the given modules
+   * @throws IOException if a file manager cannot be set up
+   * @throws InterruptedException if the current thread is interrupted while waiting for the validation to finish
+   */
+  public List<ModuleResult> validate(List<ModuleSources> modules) throws IOException, InterruptedException {
+    ModuleResult[] results = new ModuleResult[modules.size()];
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (List<Integer> group : groupByClasspath(modules).values()) {
+      tasks.add(() -> {
+        validateGroup(modules, group, results);
+        return null;
+      });
+    }
+
+    ExecutorService pool = Executors.newWorkStealingPool(this.parallelism);
+    try {
+      for (Future<Void> future : pool.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IllegalStateException("Validation failed", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    return Arrays.asList(results);
+  }
+
+  private static Map<List<Object>, List<Integer>> groupByClasspath(List<ModuleSources> modules) {
+    Map<List<Object>, List<Integer>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < modules.size(); i++) {
+      ModuleSources module = modules.get(i);
+      List<Object> key = Arrays.<Object>asList(module.getClasspath(), module.getEncoding());
+      groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+    }
+    return groups;
+  }
+
+  private void validateGroup(List<ModuleSources> modules, List<Integer> group, ModuleResult[] results)
+      throws IOException {
+    ModuleSources first = modules.get(group.get(0));
+    try (StandardJavaFileManager fileManager = this.compiler.getStandardFileManager(null, Locale.ROOT,
+        first.getEncoding())) {
+      fileManager.setLocation(StandardLocation.CLASS_PATH, first.getClasspath());
+      for (int index : group) {
+        results[index] = validateModule(modules.get(index), fileManager);
+      }
+    }
+  }
+
+  private ModuleResult validateModule(ModuleSources module, StandardJavaFileManager fileManager) {
+    List<Finding> findings = new ArrayList<>();
+    List<String> compilerErrors = new ArrayList<>();
+    if (!module.getSourceFiles().isEmpty()) {
+      DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+      CompilationTask task = this.compiler.getTask(null, fileManager, diagnostics, OPTIONS, null,
+          fileManager.getJavaFileObjectsFromFiles(module.getSourceFiles()));
+      ReactorValidationProcessor processor = new ReactorValidationProcessor();
+      task.setProcessors(Collections.singletonList(processor));
+      task.call();
+
+      Iterator<ReactorValidationProcessor.ReportedMessage> reportedMessages =
+          processor.getReportedMessages().iterator();
+      ReactorValidationProcessor.ReportedMessage reportedMessage = next(reportedMessages);
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        String message = diagnostic.getMessage(Locale.ROOT);
+        if (diagnostic.getCode() != null && diagnostic.getCode().endsWith(PROCESSOR_MESSAGE_CODE)) {
+          SpringConfigurationMessage springConfigurationMessage = null;
+          if (reportedMessage != null && reportedMessage.matches(diagnostic.getKind(), message)) {
+            // the violations are recorded in the order their diagnostics are printed
+            springConfigurationMessage = reportedMessage.getMessage();
+            reportedMessage = next(reportedMessages);
+          }
+          findings.add(new Finding(diagnostic.getKind(), message, springConfigurationMessage,
+              diagnostic.getSource() == null ? null : diagnostic.getSource().getName(), diagnostic.getLineNumber()));
+        } else if (diagnostic.getKind() == Kind.ERROR) {
+          compilerErrors.add(message);
+        }
+      }
+    }
+    return new ModuleResult(module.getName(), module.getSourceFiles().size(), findings, compilerErrors);
+  }
+
+  private static <T> T next(Iterator<T> iterator) {
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  /**
+   * Counts the findings of the given results per built-in message. Findings of custom rules are not counted.
+   *
+   * @param results the module results
+   * @return the number of findings per message, without messages that were not reported
+   */
+  public static Map<SpringConfigurationMessage, Integer> countByMessage(List<ModuleResult> results) {
+    Map<SpringConfigurationMessage, Integer> counts = new EnumMap<>(SpringConfigurationMessage.class);
+    for (ModuleResult result : results) {
+      for (Finding finding : result.getFindings()) {
+        if (finding.getSpringConfigurationMessage() != null) {
+          counts.merge(finding.getSpringConfigurationMessage(), 1, Integer::sum);
+        }
+      }
+    }
+    return counts;
+  }
+}
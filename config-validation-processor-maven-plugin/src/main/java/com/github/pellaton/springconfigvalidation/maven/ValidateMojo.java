@@ -0,0 +1,187 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+
+/**
+ * Validates the Spring {@code @Configuration} sources of all modules of the reactor in one JVM instead of running the
+ * annotation processor inside every module's compilation. The goal runs once per build, resolves the compile classpath
+ * of every module and hands the modules to the {@link ReactorValidator}.
+ *
+ * <p>The classpath of a module contains the output directories of the modules it depends on, so the goal is meant to
+ * run after the compilation, e.g. {@code mvn compile spring-config-validation:validate}.
+ *
+ * @author Michael Pellaton
+ */
+@Mojo(name = "validate", aggregator = true, threadSafe = true, defaultPhase = LifecyclePhase.VERIFY,
+    requiresDependencyResolution = ResolutionScope.COMPILE)
+public class ValidateMojo extends AbstractMojo {
+
+  private static final String JAVA_SUFFIX = ".java";
+
+  /**
+   * The projects of the reactor.
+   */
+  @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+  private List<MavenProject> reactorProjects;
+
+  /**
+   * The maximum number of modules validated concurrently, {@code 0} for one per available processor.
+   */
+  @Parameter(property = "springconfigvalidation.threads", defaultValue = "0")
+  private int threads;
+
+  /**
+   * Whether the build fails on warnings as well as on errors.
+   */
+  @Parameter(property = "springconfigvalidation.failOnWarning", defaultValue = "false")
+  private boolean failOnWarning;
+
+  /**
+   * Whether the validation is skipped.
+   */
+  @Parameter(property = "springconfigvalidation.skip", defaultValue = "false")
+  private boolean skip;
+
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    if (this.skip) {
+      getLog().info("Skipping the Spring configuration validation");
+      return;
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new MojoExecutionException("No system Java compiler available, Maven must run on a JDK");
+    }
+
+    long start = System.nanoTime();
+    List<ModuleResult> results;
+    try {
+      List<ModuleSources> modules = new ArrayList<>();
+      for (MavenProject project : this.reactorProjects) {
+        modules.add(toModuleSources(project));
+      }
+      int parallelism = this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+      results = new ReactorValidator(compiler, parallelism).validate(modules);
+    } catch (IOException | DependencyResolutionRequiredException e) {
+      throw new MojoExecutionException("Could not validate the Spring configuration", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while validating the Spring configuration", e);
+    }
+
+    report(results, (System.nanoTime() - start) / 1000000);
+  }
+
+  private ModuleSources toModuleSources(MavenProject project) throws IOException,
+      DependencyResolutionRequiredException {
+    String outputDirectory = project.getBuild().getOutputDirectory();
+    List<File> classpath = new ArrayList<>();
+    for (String element : project.getCompileClasspathElements()) {
+      if (!element.equals(outputDirectory)) {
+        classpath.add(new File(element));
+      }
+    }
+
+    List<File> sourceFiles = new ArrayList<>();
+    for (String sourceRoot : project.getCompileSourceRoots()) {
+      Path root = new File(sourceRoot).toPath();
+      if (Files.isDirectory(root)) {
+        try (Stream<Path> files = Files.walk(root)) {
+          sourceFiles.addAll(files.filter(file -> file.toString().endsWith(JAVA_SUFFIX))
+              .sorted()
+              .map(Path::toFile)
+              .collect(Collectors.toList()));
+        }
+      }
+    }
+
+    String encoding = project.getProperties().getProperty("project.build.sourceEncoding");
+    return new ModuleSources(project.getArtifactId(), classpath, sourceFiles,
+        encoding == null ? Charset.defaultCharset() : Charset.forName(encoding));
+  }
+
+  private void report(List<ModuleResult> results, long millis) throws MojoFailureException {
+    int sourceFiles = 0;
+    int errors = 0;
+    int warnings = 0;
+    for (ModuleResult result : results) {
+      sourceFiles += result.getSourceFileCount();
+      for (Finding finding : result.getFindings()) {
+        switch (finding.getKind()) {
+          case ERROR:
+            errors++;
+            getLog().error(finding.toString());
+            break;
+          case WARNING:
+          case MANDATORY_WARNING:
+            warnings++;
+            getLog().warn(finding.toString());
+            break;
+          default:
+            getLog().info(finding.toString());
+            break;
+        }
+      }
+      if (!result.getCompilerErrors().isEmpty()) {
+        getLog().warn(result.getName() + " was not fully validated because of " + result.getCompilerErrors().size()
+            + " compiler error(s), was it compiled before?");
+        for (String compilerError : result.getCompilerErrors()) {
+          getLog().debug(compilerError);
+        }
+      }
+    }
+
+    for (Map.Entry<SpringConfigurationMessage, Integer> count : ReactorValidator.countByMessage(results).entrySet()) {
+      getLog().info(String.format("%5d x %s", count.getValue(), count.getKey()));
+    }
+    getLog().info(String.format("Validated %d modules with %d source files in %d ms: %d errors, %d warnings",
+        results.size(), sourceFiles, millis, errors, warnings));
+
+    if (errors > 0 || (this.failOnWarning && warnings > 0)) {
+      throw new MojoFailureException("The Spring configuration validation found " + errors + " errors and "
+          + warnings + " warnings");
+    }
+  }
+}
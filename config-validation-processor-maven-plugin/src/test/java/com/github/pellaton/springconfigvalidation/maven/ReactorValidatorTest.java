@@ -0,0 +1,128 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.maven;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import com.github.pellaton.springconfigvalidation.SpringConfigurationMessage;
+
+/**
+ * Tests for {@link ReactorValidator}.
+ *
+ * @author Michael Pellaton
+ *
+ * @see ReactorValidator
+ */
+public class ReactorValidatorTest {
+
+  private static final String FIXTURE_PATH = "/com/github/pellaton/springconfigvalidation/maven/";
+
+  /**
+   * Tests that the modules of a shared classpath group are validated independently of each other and that the results
+   * are returned in the order of the modules.
+   */
+  @Test
+  public void sharedClasspathGroup() throws Exception {
+    List<ModuleResult> results = validate(
+        module("invalid", classpath(), "InvalidReactorTestConfiguration"),
+        module("valid", classpath(), "ValidReactorTestConfiguration"),
+        module("empty", classpath()));
+
+    assertThat(results, hasSize(3));
+    assertThat(describe(results.get(0)), contains(
+        "CLASS_FINAL:30",
+        "BEAN_METHOD_PRIVATE:33"));
+    assertThat(results.get(1).getFindings(), is(empty()));
+    assertThat(results.get(2).getSourceFileCount(), is(0));
+    assertThat(ReactorValidator.countByMessage(results),
+        hasEntry(SpringConfigurationMessage.BEAN_METHOD_PRIVATE, Integer.valueOf(1)));
+  }
+
+  /**
+   * Tests that the findings of messages formatted with arguments are attributed to their messages.
+   */
+  @Test
+  public void formattedMessages() throws Exception {
+    List<ModuleResult> results = validate(module("formatted", classpath(), "FormattedMessageReactorTestConfiguration"));
+
+    assertThat(describe(results.get(0)), contains(
+        "MALFORMED_PROFILE_EXPRESSION:31",
+        "LITE_MODE_INTER_BEAN_CALL:40"));
+  }
+
+  /**
+   * Tests that a module whose classpath lacks Spring is reported with compiler errors instead of findings.
+   */
+  @Test
+  public void missingClasspath() throws Exception {
+    List<ModuleResult> results = validate(
+        module("invalid", classpath(), "InvalidReactorTestConfiguration"),
+        module("unresolved", Collections.<File>emptyList(), "InvalidReactorTestConfiguration"));
+
+    assertThat(results.get(0).getCompilerErrors(), is(empty()));
+    assertThat(results.get(1).getFindings(), is(empty()));
+    assertThat(results.get(1).getCompilerErrors(), is(not(empty())));
+  }
+
+  private static List<ModuleResult> validate(ModuleSources... modules) throws Exception {
+    return new ReactorValidator(ToolProvider.getSystemJavaCompiler(), 2).validate(Arrays.asList(modules));
+  }
+
+  private static ModuleSources module(String name, List<File> classpath, String... fixtures)
+      throws URISyntaxException {
+    List<File> sourceFiles = new ArrayList<>();
+    for (String fixture : fixtures) {
+      sourceFiles.add(new File(ReactorValidatorTest.class.getResource(FIXTURE_PATH + fixture + ".java").toURI()));
+    }
+    return new ModuleSources(name, classpath, sourceFiles, StandardCharsets.UTF_8);
+  }
+
+  private static List<File> classpath() {
+    List<File> classpath = new ArrayList<>();
+    for (String element : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      classpath.add(new File(element));
+    }
+    return classpath;
+  }
+
+  private static List<String> describe(ModuleResult result) {
+    List<String> descriptions = new ArrayList<>();
+    for (Finding finding : result.getFindings()) {
+      descriptions.add(finding.getSpringConfigurationMessage() + ":" + finding.getLine());
+    }
+    return descriptions;
+  }
+}
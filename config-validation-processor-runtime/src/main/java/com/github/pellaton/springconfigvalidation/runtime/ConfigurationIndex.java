@@ -0,0 +1,182 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * The {@code @Configuration} classes listed in the {@code META-INF/spring-config-validation.idx} resources written by
+ * the annotation processor with the {@code springconfigvalidation.index} option. The indexes of all jars on the
+ * classpath are merged. The classes are partitioned by their {@code @Profile} expressions, so the classes that are
+ * inactive in an environment can be skipped without loading them.
+ *
+ * @author Michael Pellaton
+ */
+public final class ConfigurationIndex {
+
+  /**
+   * The location of the index resources.
+   */
+  public static final String RESOURCE = "META-INF/spring-config-validation.idx";
+
+  private static final String COMMENT = "#";
+  private static final String INDENT = "\t";
+  private static final String SEPARATOR = ",";
+
+  private final Map<String, IndexedConfigurationClass> configurationClasses;
+
+
+  private ConfigurationIndex(Map<String, IndexedConfigurationClass> configurationClasses) {
+    this.configurationClasses = configurationClasses;
+  }
+
+
+  /**
+   * Loads and merges all index resources visible to a class loader.
+   *
+   * @param classLoader the class loader
+   * @return the merged index, empty if there is no index resource
+   * @throws IOException if an index resource cannot be read
+   */
+  public static ConfigurationIndex load(ClassLoader classLoader) throws IOException {
+    Map<String, IndexedConfigurationClass> configurationClasses = new LinkedHashMap<>();
+    Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+    while (resources.hasMoreElements()) {
+      URL resource = resources.nextElement();
+      try (InputStream in = resource.openStream()) {
+        read(new InputStreamReader(in, StandardCharsets.UTF_8), resource.toString(), configurationClasses);
+      }
+    }
+    return new ConfigurationIndex(configurationClasses);
+  }
+
+  /**
+   * Reads a single index.
+   *
+   * @param reader the reader of the index
+   * @return the index
+   * @throws IOException if the index cannot be read
+   */
+  public static ConfigurationIndex read(Reader reader) throws IOException {
+    Map<String, IndexedConfigurationClass> configurationClasses = new LinkedHashMap<>();
+    read(reader, "index", configurationClasses);
+    return new ConfigurationIndex(configurationClasses);
+  }
+
+  private static void read(Reader reader, String source, Map<String, IndexedConfigurationClass> configurationClasses)
+      throws IOException {
+    BufferedReader lines = new BufferedReader(reader);
+    String[] currentClass = null;
+    List<IndexedBeanMethod> beanMethods = null;
+    int lineNumber = 0;
+    for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+      lineNumber++;
+      if (line.isEmpty() || line.startsWith(COMMENT)) {
+        continue;
+      }
+      if (line.startsWith(INDENT)) {
+        String[] columns = line.substring(INDENT.length()).split(INDENT, -1);
+        if (currentClass == null || columns.length != 3) {
+          throw new IOException("Invalid bean method in " + source + " at line " + lineNumber + ": " + line);
+        }
+        beanMethods.add(new IndexedBeanMethod(columns[0], columns[1], columns[2]));
+      } else {
+        addConfigurationClass(configurationClasses, currentClass, beanMethods);
+        currentClass = line.split(INDENT, -1);
+        currentClass[0] = currentClass[0].trim();
+        if (currentClass.length != 1 && currentClass.length != 3) {
+          throw new IOException("Invalid configuration class in " + source + " at line " + lineNumber + ": " + line);
+        }
+        beanMethods = new ArrayList<>();
+      }
+    }
+    addConfigurationClass(configurationClasses, currentClass, beanMethods);
+  }
+
+  private static void addConfigurationClass(Map<String, IndexedConfigurationClass> configurationClasses,
+      String[] columns, List<IndexedBeanMethod> beanMethods) {
+    if (columns != null) {
+      List<String> profiles = columns.length == 3 ? split(columns[1]) : Collections.emptyList();
+      List<String> conditions = columns.length == 3 ? split(columns[2]) : Collections.emptyList();
+      configurationClasses.putIfAbsent(columns[0],
+          new IndexedConfigurationClass(columns[0], beanMethods, profiles, conditions));
+    }
+  }
+
+  private static List<String> split(String column) {
+    return column.isEmpty() ? Collections.emptyList() : Arrays.asList(column.split(SEPARATOR));
+  }
+
+  /**
+   * Gets the indexed configuration classes. A class present in several indexes is listed once, as found in the first
+   * index.
+   *
+   * @return the configuration classes in the order of the indexes
+   */
+  public List<IndexedConfigurationClass> getConfigurationClasses() {
+    return Collections.unmodifiableList(new ArrayList<>(this.configurationClasses.values()));
+  }
+
+  /**
+   * Gets the indexed configuration classes that are active in an environment: the classes without profiles and the
+   * classes with a profile expression matching the active profiles. The expressions of every partition of classes with
+   * the same profiles are only evaluated once. The conditions of the classes are not evaluated.
+   *
+   * @param environment the environment with the active profiles
+   * @return the active configuration classes in the order of the indexes
+   */
+  public List<IndexedConfigurationClass> getConfigurationClasses(Environment environment) {
+    Map<List<String>, Boolean> partitions = new HashMap<>();
+    List<IndexedConfigurationClass> activeClasses = new ArrayList<>();
+    for (IndexedConfigurationClass configurationClass : this.configurationClasses.values()) {
+      List<String> profiles = configurationClass.getProfiles();
+      if (profiles.isEmpty() || partitions.computeIfAbsent(profiles,
+          p -> environment.acceptsProfiles(Profiles.of(p.toArray(new String[0]))))) {
+        activeClasses.add(configurationClass);
+      }
+    }
+    return Collections.unmodifiableList(activeClasses);
+  }
+
+  /**
+   * Checks whether a class is listed in the index.
+   *
+   * @param className the binary name of the class
+   * @return {@code true} if the class is a configuration class of the index
+   */
+  public boolean contains(String className) {
+    return this.configurationClasses.containsKey(className);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Adds the {@link GeneratedBeanDefinitionsRegistrar} to an application context before it is refreshed. In Spring Boot
+ * applications the initializer can be registered in {@code META-INF/spring.factories} or with
+ * {@code SpringApplication.addInitializers}. Together with the {@link IndexedConfigurationInitializer}, it must be
+ * added after that initializer.
+ *
+ * @author Michael Pellaton
+ */
+public class GeneratedBeanDefinitionsInitializer
+    implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+  @Override
+  public void initialize(ConfigurableApplicationContext applicationContext) {
+    GeneratedBeanDefinitionsRegistrar registrar = new GeneratedBeanDefinitionsRegistrar();
+    if (applicationContext.getClassLoader() != null) {
+      registrar.setBeanClassLoader(applicationContext.getClassLoader());
+    }
+    applicationContext.addBeanFactoryPostProcessor(registrar);
+  }
+}
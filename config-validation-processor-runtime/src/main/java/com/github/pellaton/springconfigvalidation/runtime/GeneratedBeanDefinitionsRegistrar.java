@@ -0,0 +1,142 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+import org.springframework.core.Conventions;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Registers the bean definitions of the {@code @Configuration} classes whose companion classes
+ * {@code <class>__BeanDefinitions} were generated by the annotation processor with the
+ * {@code springconfigvalidation.aot} option. The registrar runs before the {@code ConfigurationClassPostProcessor}:
+ * the companions mark the bean definitions of their configuration classes as processed, so the
+ * {@code ConfigurationClassPostProcessor} neither reads their metadata nor introspects their {@code @Bean} methods, but
+ * it still proxies the {@code @Bean} methods of configuration classes in full mode.
+ *
+ * <p>The member configuration classes returned by a companion are registered under their binary names, as the
+ * {@code ConfigurationClassPostProcessor} would, unless a bean definition of the class exists already. Configuration
+ * classes without a companion are left to the {@code ConfigurationClassPostProcessor}. The annotation config
+ * processors are registered if the registry does not contain them yet.
+ *
+ * @author Michael Pellaton
+ */
+public class GeneratedBeanDefinitionsRegistrar implements BeanDefinitionRegistryPostProcessor, PriorityOrdered,
+    BeanClassLoaderAware {
+
+  /**
+   * The suffix appended to the binary name of a configuration class to get the name of its companion class.
+   */
+  public static final String SUFFIX = "__BeanDefinitions";
+
+  private static final Log LOG = LogFactory.getLog(GeneratedBeanDefinitionsRegistrar.class);
+  private static final String CONFIGURATION_CLASS_ATTRIBUTE =
+      Conventions.getQualifiedAttributeName(ConfigurationClassPostProcessor.class, "configurationClass");
+  private static final String REGISTER_METHOD = "registerBeanDefinitions";
+
+  private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+
+  @Override
+  public void setBeanClassLoader(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * Runs after the {@link IndexedConfigurationRegistrar}, so the indexed configuration classes are registered already.
+   */
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE + 1;
+  }
+
+  @Override
+  public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+    Set<String> registeredClasses = new HashSet<>();
+    Deque<String> beanNames = new ArrayDeque<>();
+    for (String beanName : registry.getBeanDefinitionNames()) {
+      registeredClasses.add(registry.getBeanDefinition(beanName).getBeanClassName());
+      beanNames.add(beanName);
+    }
+
+    int registered = 0;
+    while (!beanNames.isEmpty()) {
+      String beanName = beanNames.poll();
+      BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+      Method registerMethod = beanDefinition.getFactoryMethodName() == null
+          && beanDefinition.getAttribute(CONFIGURATION_CLASS_ATTRIBUTE) == null
+          ? findRegisterMethod(beanDefinition.getBeanClassName()) : null;
+      if (registerMethod == null) {
+        continue;
+      }
+      String[] memberClasses = (String[]) ReflectionUtils.invokeMethod(registerMethod, null, registry, beanName);
+      registered++;
+      for (String memberClass : memberClasses) {
+        if (registeredClasses.add(memberClass)) {
+          GenericBeanDefinition memberDefinition = new GenericBeanDefinition();
+          memberDefinition.setBeanClassName(memberClass);
+          registry.registerBeanDefinition(memberClass, memberDefinition);
+          beanNames.add(memberClass);
+        }
+      }
+    }
+    if (registered > 0) {
+      AnnotationConfigUtils.registerAnnotationConfigProcessors(registry);
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Registered the generated bean definitions of " + registered + " configuration classes");
+    }
+  }
+
+  private Method findRegisterMethod(String className) {
+    if (className == null || !ClassUtils.isPresent(className + SUFFIX, this.classLoader)) {
+      return null;
+    }
+    try {
+      return ClassUtils.forName(className + SUFFIX, this.classLoader).getMethod(REGISTER_METHOD,
+          BeanDefinitionRegistry.class, String.class);
+    } catch (ClassNotFoundException | LinkageError | NoSuchMethodException e) {
+      throw new BeanDefinitionStoreException("Invalid generated bean definitions " + className + SUFFIX, e);
+    }
+  }
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+    // all work is done when the bean definitions are registered
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@code @Bean} method listed in the {@link ConfigurationIndex}.
+ *
+ * @author Michael Pellaton
+ */
+public final class IndexedBeanMethod {
+
+  private final String methodName;
+  private final String returnType;
+  private final boolean staticMethod;
+  private final boolean beanFactoryPostProcessor;
+
+
+  IndexedBeanMethod(String methodName, String returnType, String flags) {
+    List<String> flagList = Arrays.asList(flags.split(","));
+    this.methodName = methodName;
+    this.returnType = returnType;
+    this.staticMethod = flagList.contains("static");
+    this.beanFactoryPostProcessor = flagList.contains("bfpp");
+  }
+
+
+  /**
+   * Gets the name of the method.
+   *
+   * @return the name of the method
+   */
+  public String getMethodName() {
+    return this.methodName;
+  }
+
+  /**
+   * Gets the erased return type of the method.
+   *
+   * @return the erased return type as written by the compiler
+   */
+  public String getReturnType() {
+    return this.returnType;
+  }
+
+  /**
+   * Checks whether the method is static.
+   *
+   * @return {@code true} if the method is static
+   */
+  public boolean isStatic() {
+    return this.staticMethod;
+  }
+
+  /**
+   * Checks whether the method returns a {@code BeanFactoryPostProcessor}.
+   *
+   * @return {@code true} if the return type is a {@code BeanFactoryPostProcessor}
+   */
+  public boolean isBeanFactoryPostProcessor() {
+    return this.beanFactoryPostProcessor;
+  }
+}
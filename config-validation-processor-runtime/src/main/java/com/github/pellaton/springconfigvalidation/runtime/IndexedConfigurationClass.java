@@ -0,0 +1,92 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@code @Configuration} class listed in the {@link ConfigurationIndex}.
+ *
+ * @author Michael Pellaton
+ */
+public final class IndexedConfigurationClass {
+
+  private final String className;
+  private final List<IndexedBeanMethod> beanMethods;
+  private final List<String> profiles;
+  private final List<String> conditions;
+
+
+  IndexedConfigurationClass(String className, List<IndexedBeanMethod> beanMethods, List<String> profiles,
+      List<String> conditions) {
+    this.className = className;
+    this.beanMethods = Collections.unmodifiableList(beanMethods);
+    this.profiles = Collections.unmodifiableList(profiles);
+    this.conditions = Collections.unmodifiableList(conditions);
+  }
+
+
+  /**
+   * Gets the binary name of the class, which can be passed to {@link Class#forName(String)}.
+   *
+   * @return the binary name of the class
+   */
+  public String getClassName() {
+    return this.className;
+  }
+
+  /**
+   * Gets the {@code @Bean} methods declared by the class.
+   *
+   * @return the bean methods in declaration order
+   */
+  public List<IndexedBeanMethod> getBeanMethods() {
+    return this.beanMethods;
+  }
+
+  /**
+   * Gets the profile expressions of the {@code @Profile} annotations of the class. The class is only active if one of
+   * the expressions matches the active profiles.
+   *
+   * @return the profile expressions, empty if the class is not restricted to profiles
+   */
+  public List<String> getProfiles() {
+    return this.profiles;
+  }
+
+  /**
+   * Gets the condition classes of the {@code @Conditional} annotations of the class, which are evaluated by the
+   * {@code ConfigurationClassPostProcessor}.
+   *
+   * @return the binary names of the condition classes, empty if the class has no conditions
+   */
+  public List<String> getConditions() {
+    return this.conditions;
+  }
+
+  /**
+   * Gets the binary name of the class declaring this class if this is a nested class.
+   *
+   * @return the binary name of the enclosing class or {@code null} for top level classes
+   */
+  public String getEnclosingClassName() {
+    int separator = this.className.lastIndexOf('$');
+    return separator < 0 ? null : this.className.substring(0, separator);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+/**
+ * {@link ConfigurationClassPostProcessor} whose component scans do not find the given classes in the candidate
+ * components index {@code META-INF/spring.components}. The {@link IndexedConfigurationRegistrar} registers it in place
+ * of Spring's post processor to skip the indexed {@code @Configuration} classes of inactive profiles: the scans neither
+ * read their class files nor parse them. Scans that do not use the index and imports still find the classes, and Spring
+ * evaluates their profiles as usual.
+ *
+ * @author Michael Pellaton
+ */
+public class IndexedConfigurationClassPostProcessor extends ConfigurationClassPostProcessor {
+
+  private final Set<String> skippedClassNames;
+
+
+  /**
+   * Constructor.
+   *
+   * @param skippedClassNames the binary names of the classes the component scans do not find in the index
+   */
+  public IndexedConfigurationClassPostProcessor(Set<String> skippedClassNames) {
+    this.skippedClassNames = skippedClassNames;
+  }
+
+
+  @Override
+  public void setResourceLoader(ResourceLoader resourceLoader) {
+    super.setResourceLoader(new IndexedResourceLoader(resourceLoader,
+        new ComponentsIndexClassLoader(resourceLoader.getClassLoader(), this.skippedClassNames)));
+  }
+
+
+  /**
+   * Resource loader of the component scans that presents the filtered candidate components index through its class
+   * loader and delegates everything else.
+   */
+  private static final class IndexedResourceLoader implements ResourcePatternResolver {
+
+    private final ResourcePatternResolver delegate;
+    private final ClassLoader classLoader;
+
+
+    IndexedResourceLoader(ResourceLoader delegate, ClassLoader classLoader) {
+      this.delegate = ResourcePatternUtils.getResourcePatternResolver(delegate);
+      this.classLoader = classLoader;
+    }
+
+
+    @Override
+    public Resource getResource(String location) {
+      return this.delegate.getResource(location);
+    }
+
+    @Override
+    public Resource[] getResources(String locationPattern) throws IOException {
+      return this.delegate.getResources(locationPattern);
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+      return this.classLoader;
+    }
+  }
+
+
+  /**
+   * Class loader that merges the candidate components indexes of its parent without the entries of the skipped
+   * classes. Classes and all other resources are loaded by the parent.
+   */
+  private static final class ComponentsIndexClassLoader extends ClassLoader {
+
+    private final Set<String> skippedClassNames;
+
+
+    ComponentsIndexClassLoader(ClassLoader parent, Set<String> skippedClassNames) {
+      super(parent);
+      this.skippedClassNames = skippedClassNames;
+    }
+
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+      Enumeration<URL> resources = super.getResources(name);
+      if (!CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION.equals(name) || !resources.hasMoreElements()) {
+        return resources;
+      }
+
+      Properties index = new Properties();
+      while (resources.hasMoreElements()) {
+        Properties components = PropertiesLoaderUtils.loadProperties(new UrlResource(resources.nextElement()));
+        for (String className : components.stringPropertyNames()) {
+          String stereotypes = components.getProperty(className);
+          String merged = index.getProperty(className);
+          index.setProperty(className, merged == null ? stereotypes : merged + ',' + stereotypes);
+        }
+      }
+      index.keySet().removeAll(this.skippedClassNames);
+
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      index.store(content, null);
+      return Collections.enumeration(Collections.singletonList(new URL(null, "springconfigvalidation:" + name,
+          new IndexStreamHandler(content.toByteArray()))));
+    }
+  }
+
+
+  /**
+   * Serves the content of the merged candidate components index.
+   */
+  private static final class IndexStreamHandler extends URLStreamHandler {
+
+    private final byte[] content;
+
+
+    IndexStreamHandler(byte[] content) {
+      this.content = content;
+    }
+
+
+    @Override
+    protected URLConnection openConnection(URL url) {
+      return new URLConnection(url) {
+
+        @Override
+        public void connect() {
+          // the content is in memory
+        }
+
+        @Override
+        public InputStream getInputStream() {
+          return new ByteArrayInputStream(IndexStreamHandler.this.content);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Adds the {@link IndexedConfigurationRegistrar} to an application context before it is refreshed. In Spring Boot
+ * applications the initializer can be registered in {@code META-INF/spring.factories} or with
+ * {@code SpringApplication.addInitializers}.
+ *
+ * @author Michael Pellaton
+ */
+public class IndexedConfigurationInitializer
+    implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+  @Override
+  public void initialize(ConfigurableApplicationContext applicationContext) {
+    IndexedConfigurationRegistrar registrar = new IndexedConfigurationRegistrar();
+    if (applicationContext.getClassLoader() != null) {
+      registrar.setBeanClassLoader(applicationContext.getClassLoader());
+    }
+    registrar.setEnvironment(applicationContext.getEnvironment());
+    applicationContext.addBeanFactoryPostProcessor(registrar);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Checks before the {@code ConfigurationClassPostProcessor} runs that the component scans of an application with
+ * indexed {@code @Configuration} classes find them in Spring's candidate components index
+ * {@code META-INF/spring.components}, which the processor writes with
+ * {@code -Aspringconfigvalidation.componentsIndex=true}. With the index, the scans look the candidates of their base
+ * packages up instead of reading every class file below them, and only read the class files of the candidates.
+ * Without it, the registrar logs a warning as the scans read the class path.
+ *
+ * <p>If the registrar knows the environment, it evaluates the {@code @Profile} expressions of the index once per
+ * partition of classes with the same profiles. If a class is inactive, it replaces Spring's
+ * {@code ConfigurationClassPostProcessor} with an {@link IndexedConfigurationClassPostProcessor} whose scans do not
+ * find the inactive classes in the candidate components index, so their class files are neither read nor parsed.
+ * This requires the registrar to run before the post processor is created, as it does when added by the
+ * {@link IndexedConfigurationInitializer}. The {@code @Conditional} conditions of the classes are still evaluated by
+ * Spring.
+ *
+ * <p>Spring only uses the index for scans whose include filters it supports: annotation types and assignable types
+ * that are annotated with {@code @Indexed}, such as the default filters of {@code @Component}. Other scans still read
+ * the class path.
+ *
+ * @author Michael Pellaton
+ */
+public class IndexedConfigurationRegistrar implements BeanDefinitionRegistryPostProcessor, PriorityOrdered,
+    BeanClassLoaderAware, EnvironmentAware {
+
+  private static final Log LOG = LogFactory.getLog(IndexedConfigurationRegistrar.class);
+
+  private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+  private Environment environment;
+
+
+  @Override
+  public void setBeanClassLoader(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    this.environment = environment;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+    ConfigurationIndex index;
+    try {
+      index = ConfigurationIndex.load(this.classLoader);
+    } catch (IOException e) {
+      throw new BeanDefinitionStoreException("Could not read " + ConfigurationIndex.RESOURCE, e);
+    }
+    if (index.getConfigurationClasses().isEmpty()) {
+      return;
+    }
+
+    if (CandidateComponentsIndexLoader.loadIndex(this.classLoader) == null) {
+      LOG.warn("The component scans read the class path for the " + index.getConfigurationClasses().size()
+          + " configuration classes of " + ConfigurationIndex.RESOURCE + " as there is no "
+          + CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION
+          + ", compile them with -Aspringconfigvalidation.componentsIndex=true");
+    } else if (LOG.isDebugEnabled()) {
+      LOG.debug("The component scans look up the " + index.getConfigurationClasses().size()
+          + " configuration classes of " + ConfigurationIndex.RESOURCE + " in "
+          + CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION);
+    }
+    if (this.environment != null) {
+      skipInactiveClasses(registry, index);
+    }
+  }
+
+  private void skipInactiveClasses(BeanDefinitionRegistry registry, ConfigurationIndex index) {
+    Set<String> inactiveClasses = new HashSet<>();
+    for (IndexedConfigurationClass configurationClass : index.getConfigurationClasses()) {
+      inactiveClasses.add(configurationClass.getClassName());
+    }
+    for (IndexedConfigurationClass configurationClass : index.getConfigurationClasses(this.environment)) {
+      inactiveClasses.remove(configurationClass.getClassName());
+    }
+    String beanName = AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME;
+    if (inactiveClasses.isEmpty() || !registry.containsBeanDefinition(beanName)) {
+      return;
+    }
+
+    BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+    if ((registry instanceof SingletonBeanRegistry && ((SingletonBeanRegistry) registry).containsSingleton(beanName))
+        || !(beanDefinition instanceof AbstractBeanDefinition)
+        || !ConfigurationClassPostProcessor.class.getName().equals(beanDefinition.getBeanClassName())) {
+      LOG.warn("The component scans find the " + inactiveClasses.size() + " configuration classes of inactive"
+          + " profiles as " + beanName + " is created already or not a ConfigurationClassPostProcessor");
+      return;
+    }
+    AbstractBeanDefinition postProcessor = (AbstractBeanDefinition) beanDefinition;
+    postProcessor.setBeanClass(IndexedConfigurationClassPostProcessor.class);
+    postProcessor.getConstructorArgumentValues().addIndexedArgumentValue(0, inactiveClasses);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("The component scans skip the " + inactiveClasses.size() + " configuration classes of inactive"
+          + " profiles");
+    }
+  }
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+    // all work is done when the bean definitions are registered
+  }
+}
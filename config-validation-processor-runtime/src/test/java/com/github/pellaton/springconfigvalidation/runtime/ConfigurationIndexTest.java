@@ -0,0 +1,195 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Tests for {@link ConfigurationIndex} and the component scans of an application with the
+ * {@link IndexedConfigurationInitializer}.
+ *
+ * @author Michael Pellaton
+ */
+public class ConfigurationIndexTest {
+
+  /**
+   * Tests reading the index format written by the processor.
+   */
+  @Test
+  public void readIndex() throws IOException {
+    ConfigurationIndex index = ConfigurationIndex.read(new StringReader(
+        "# Spring configuration validation index, version 1\n"
+        + "com.example.AppConfig\n"
+        + "\tdataSource\tjavax.sql.DataSource\t\n"
+        + "\tplaceholderConfigurer\tcom.example.PlaceholderConfigurer\tstatic,bfpp\n"
+        + "com.example.AppConfig$Nested\n"));
+
+    List<String> classNames = new ArrayList<>();
+    for (IndexedConfigurationClass configurationClass : index.getConfigurationClasses()) {
+      classNames.add(configurationClass.getClassName());
+    }
+    assertThat(classNames, contains("com.example.AppConfig", "com.example.AppConfig$Nested"));
+
+    List<IndexedBeanMethod> beanMethods = index.getConfigurationClasses().get(0).getBeanMethods();
+    assertThat(beanMethods.get(0).getMethodName(), is("dataSource"));
+    assertThat(beanMethods.get(0).getReturnType(), is("javax.sql.DataSource"));
+    assertThat(beanMethods.get(0).isStatic(), is(false));
+    assertThat(beanMethods.get(1).isStatic(), is(true));
+    assertThat(beanMethods.get(1).isBeanFactoryPostProcessor(), is(true));
+    assertThat(index.getConfigurationClasses().get(1).getEnclosingClassName(), is("com.example.AppConfig"));
+  }
+
+  /**
+   * Tests reading the profiles and conditions of the classes and selecting the classes of the active profiles.
+   */
+  @Test
+  public void readProfiles() throws IOException {
+    ConfigurationIndex index = ConfigurationIndex.read(new StringReader(
+        "# Spring configuration validation index, version 2\n"
+        + "com.example.AppConfig\n"
+        + "com.example.CloudConfig\tcloud,!local\tcom.example.OnDatabaseCondition\n"
+        + "\tdataSource\tjavax.sql.DataSource\t\n"
+        + "com.example.LocalConfig\tlocal\t\n"
+        + "com.example.ConditionalConfig\t\tcom.example.OnDatabaseCondition,com.example.OnCacheCondition\n"));
+
+    IndexedConfigurationClass cloudConfig = index.getConfigurationClasses().get(1);
+    assertThat(cloudConfig.getProfiles(), contains("cloud", "!local"));
+    assertThat(cloudConfig.getConditions(), contains("com.example.OnDatabaseCondition"));
+    assertThat(cloudConfig.getBeanMethods().get(0).getMethodName(), is("dataSource"));
+    assertThat(index.getConfigurationClasses().get(0).getProfiles(), is(empty()));
+    assertThat(index.getConfigurationClasses().get(3).getConditions(),
+        contains("com.example.OnDatabaseCondition", "com.example.OnCacheCondition"));
+
+    StandardEnvironment environment = new StandardEnvironment();
+    environment.setActiveProfiles("local");
+    assertThat(getClassNames(index.getConfigurationClasses(environment)),
+        contains("com.example.AppConfig", "com.example.LocalConfig", "com.example.ConditionalConfig"));
+    environment.setActiveProfiles("cloud");
+    assertThat(getClassNames(index.getConfigurationClasses(environment)),
+        contains("com.example.AppConfig", "com.example.CloudConfig", "com.example.ConditionalConfig"));
+  }
+
+  /**
+   * Tests reading an index with a bean method that does not belong to a class.
+   */
+  @Test(expected = IOException.class)
+  public void readInvalidIndex() throws IOException {
+    ConfigurationIndex.read(new StringReader("\tdataSource\tjavax.sql.DataSource\t\n"));
+  }
+
+  /**
+   * Tests that the component scans find the indexed configuration classes in the candidate components index instead of
+   * reading the class files below their base packages.
+   */
+  @Test
+  public void scanComponentsIndex() {
+    try (RecordingApplicationContext context = new RecordingApplicationContext()) {
+      context.register(ScanningTestConfiguration.class);
+      new IndexedConfigurationInitializer().initialize(context);
+      context.refresh();
+
+      assertThat(context.getBean("greeting"), is((Object) "HELLO JUNIT"));
+      assertThat(context.getBean("answer"), is((Object) Integer.valueOf(42)));
+      assertThat(context.getBeanNamesForType(IndexedTestConfiguration.class), arrayWithSize(1));
+      assertThat(context.locationPatterns, is(empty()));
+    }
+  }
+
+  /**
+   * Tests that the component scans skip the indexed configuration classes of inactive profiles without reading their
+   * class files.
+   */
+  @Test
+  public void skipInactiveProfiles() {
+    String classFile = ClassUtils.convertClassNameToResourcePath(ProfileIndexedTestConfiguration.class.getName())
+        + ClassUtils.CLASS_FILE_SUFFIX;
+    try (RecordingApplicationContext context = new RecordingApplicationContext()) {
+      context.register(ScanningTestConfiguration.class);
+      new IndexedConfigurationInitializer().initialize(context);
+      context.refresh();
+
+      assertThat(context.getBeanNamesForType(ProfileIndexedTestConfiguration.class), arrayWithSize(0));
+      assertThat(context.containsBean("farewell"), is(false));
+      assertThat(context.getBean(AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME),
+          instanceOf(IndexedConfigurationClassPostProcessor.class));
+      assertThat(context.classLocations, not(hasItem(endsWith(classFile))));
+    }
+    try (RecordingApplicationContext context = new RecordingApplicationContext()) {
+      context.getEnvironment().setActiveProfiles("indexed");
+      context.register(ScanningTestConfiguration.class);
+      new IndexedConfigurationInitializer().initialize(context);
+      context.refresh();
+
+      assertThat(context.getBean("farewell"), is((Object) "GOODBYE JUNIT"));
+      assertThat(context.classLocations, hasItem(endsWith(classFile)));
+    }
+  }
+
+  private static List<String> getClassNames(List<IndexedConfigurationClass> configurationClasses) {
+    return configurationClasses.stream().map(IndexedConfigurationClass::getClassName).collect(Collectors.toList());
+  }
+
+
+
+  /**
+   * Application context that records the locations and location patterns of the class files it is asked for.
+   */
+  private static final class RecordingApplicationContext extends AnnotationConfigApplicationContext {
+
+    private final List<String> classLocations = new ArrayList<>();
+    private final List<String> locationPatterns = new ArrayList<>();
+
+
+    @Override
+    public Resource getResource(String location) {
+      if (location.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+        this.classLocations.add(location);
+      }
+      return super.getResource(location);
+    }
+
+    @Override
+    public Resource[] getResources(String locationPattern) throws IOException {
+      if (locationPattern.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+        this.locationPatterns.add(locationPattern);
+      }
+      return super.getResources(locationPattern);
+    }
+  }
+}
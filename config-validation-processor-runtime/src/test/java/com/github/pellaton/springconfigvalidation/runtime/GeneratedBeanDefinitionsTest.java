@@ -0,0 +1,55 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Tests for {@link GeneratedBeanDefinitionsRegistrar}.
+ *
+ * @author Michael Pellaton
+ */
+public class GeneratedBeanDefinitionsTest {
+
+  /**
+   * Tests that the bean definitions are registered by the generated companions instead of the
+   * {@code ConfigurationClassPostProcessor}, including the member configuration classes, and that the {@code @Bean}
+   * methods of the configuration class in full mode are still proxied.
+   */
+  @Test
+  public void registerGeneratedBeanDefinitions() {
+    try (GenericApplicationContext context = new GenericApplicationContext()) {
+      context.registerBean("generatedTestConfiguration", GeneratedTestConfiguration.class);
+      new GeneratedBeanDefinitionsInitializer().initialize(context);
+      context.refresh();
+
+      assertThat(context.getBeanDefinition("message").getClass(), is((Object) RootBeanDefinition.class));
+      assertThat(context.getBean("message").toString(), is("HELLO JUNIT"));
+      assertThat(context.getBean("sameMessage"), sameInstance(context.getBean("message")));
+      assertThat(context.getBean("answer"), is((Object) Integer.valueOf(42)));
+      assertThat(context.getBean(GeneratedTestConfiguration.NestedConfiguration.class).getClass(),
+          is((Object) GeneratedTestConfiguration.NestedConfiguration.class));
+    }
+  }
+}
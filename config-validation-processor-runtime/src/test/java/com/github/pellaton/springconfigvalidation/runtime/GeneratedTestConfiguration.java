@@ -0,0 +1,54 @@
+/*
+ * *****************************************************************************************************************
+ * Copyright 2026 Michael Pellaton
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations under the License.
+ *
+ * Contributors:
+ *   Michael Pellaton
+ * *****************************************************************************************************************
+ */
+package com.github.pellaton.springconfigvalidation.runtime;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class with the companion {@link GeneratedTestConfiguration__BeanDefinitions} as generated by the
+ * processor.
+ *
+ * @author Michael Pellaton
+ */
+@Configuration
+public class GeneratedTestConfiguration {
+
+  @Bean
+  public StringBuilder message() {
+    return new StringBuilder("HELLO JUNIT");
+  }
+
+  @Bean
+  public Object sameMessage() {
+    return message();
+  }
+
+
+  /**
+   * Nested configuration class with a generated companion.
+   */
+  @Configuration(proxyBeanMethods = false)
+  static class NestedConfiguration {
+
+    @Bean
+    public Integer answer() {
+      return Integer.valueOf(42);
+    }
+  }
+}